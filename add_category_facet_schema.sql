@@ -0,0 +1,42 @@
+-- =====================================================
+-- Category Facet - Database Migration
+-- =====================================================
+-- Goal: Keep the number of OPEN votes and guides per category in one row,
+--       so the GraphQL `categories` query is a single read of category_facet
+--       instead of GROUP BY scans over vote and guide.
+-- Rows are adjusted by the application on vote create/close/reopen/delete
+-- and guide create, and rebuilt from vote/guide by a periodic reconcile job.
+-- Run this on your MariaDB/MySQL database
+-- =====================================================
+
+USE upik;
+
+CREATE TABLE IF NOT EXISTS category_facet (
+    category        VARCHAR(255) NOT NULL,
+    open_vote_count BIGINT       NOT NULL DEFAULT 0,
+    guide_count     BIGINT       NOT NULL DEFAULT 0,
+    updated_at      DATETIME(6)  NOT NULL,
+    PRIMARY KEY (category)
+);
+
+-- Index for the guide side of the reconcile GROUP BY
+CREATE INDEX IF NOT EXISTS idx_guide_category ON guide (category);
+
+-- Backfill from current data
+INSERT INTO category_facet (category, open_vote_count, guide_count, updated_at)
+SELECT c.category, SUM(c.open_votes), SUM(c.guides), NOW(6)
+FROM (
+    SELECT category, COUNT(*) AS open_votes, 0 AS guides FROM vote
+    WHERE status = 'OPEN' AND category IS NOT NULL GROUP BY category
+    UNION ALL
+    SELECT category, 0, COUNT(*) FROM guide WHERE category IS NOT NULL GROUP BY category
+) c
+GROUP BY c.category
+ON DUPLICATE KEY UPDATE open_vote_count = VALUES(open_vote_count),
+                        guide_count = VALUES(guide_count),
+                        updated_at = VALUES(updated_at);
+
+DESCRIBE category_facet;
+SHOW INDEX FROM guide WHERE Key_name = 'idx_guide_category';
+
+SELECT 'category_facet migration completed successfully!' AS status;
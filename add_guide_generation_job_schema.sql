@@ -0,0 +1,45 @@
+-- =====================================================
+-- Guide Generation Job Table - Database Migration
+-- =====================================================
+-- Goal: Persist AI guide generation as one job per vote with states,
+--       retry with backoff and bounded worker concurrency, instead of
+--       generating guides inline from vote closure and midnight jobs.
+-- Run this on your MariaDB/MySQL database
+-- =====================================================
+
+USE upik;
+
+CREATE TABLE IF NOT EXISTS guide_generation_job (
+    vote_id BINARY(16) NOT NULL,
+    guide_type VARCHAR(50) NULL,
+    status ENUM('PENDING', 'RUNNING', 'SUCCEEDED', 'FAILED') NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6) NOT NULL,
+    last_error VARCHAR(1000) NULL,
+    created_at DATETIME(6) NOT NULL,
+    started_at DATETIME(6) NULL,
+    finished_at DATETIME(6) NULL,
+    PRIMARY KEY (vote_id),
+    INDEX idx_guide_generation_job_status_next (status, next_attempt_at),
+    INDEX idx_guide_generation_job_status_created (status, created_at)
+);
+
+-- Votes that already have a guide are recorded as finished jobs
+INSERT IGNORE INTO guide_generation_job (vote_id, guide_type, status, attempts, next_attempt_at, created_at, finished_at)
+SELECT g.vote_id, g.guide_type, 'SUCCEEDED', 1, NOW(6), NOW(6), NOW(6)
+FROM guide g
+WHERE g.vote_id IS NOT NULL;
+
+-- Closed votes without a guide were retried by the removed midnight job;
+-- enqueue them as pending jobs so the worker picks them up
+INSERT IGNORE INTO guide_generation_job (vote_id, guide_type, status, attempts, next_attempt_at, created_at)
+SELECT v.id, v.category, 'PENDING', 0, NOW(6), NOW(6)
+FROM vote v
+WHERE v.status = 'CLOSED'
+  AND NOT EXISTS (SELECT 1 FROM guide g WHERE g.vote_id = v.id);
+
+SELECT status, COUNT(*) AS jobs FROM guide_generation_job GROUP BY status;
+
+DESCRIBE guide_generation_job;
+
+SELECT 'guide_generation_job migration completed successfully!' AS status;
@@ -0,0 +1,20 @@
+-- =====================================================
+-- Vote closed_at Column - Database Migration
+-- =====================================================
+-- Goal: Close votes with set-based UPDATE statements and identify the
+--       votes closed by one run through a shared closed_at timestamp
+--       instead of loading and saving every OPEN vote.
+-- Run this on your MariaDB/MySQL database
+-- =====================================================
+
+USE upik;
+
+ALTER TABLE vote
+    ADD COLUMN IF NOT EXISTS closed_at DATETIME(6) NULL;
+
+CREATE INDEX IF NOT EXISTS idx_vote_closed_at ON vote (closed_at);
+CREATE INDEX IF NOT EXISTS idx_vote_status_threshold ON vote (status, participant_threshold);
+
+DESCRIBE vote;
+
+SELECT 'vote closed_at migration completed successfully!' AS status;
@@ -0,0 +1,25 @@
+-- =====================================================
+-- Vote deadline_at Column - Database Migration
+-- =====================================================
+-- Goal: Give every vote a precise deadline (date and time) so votes are
+--       closed by the Redis delayed queue (vote:deadlines) right after
+--       their deadline instead of all at once by the midnight scheduler.
+-- Existing votes keep their current behaviour: the deadline is the start
+-- of the day after finished_at.
+-- Run this on your MariaDB/MySQL database
+-- =====================================================
+
+USE upik;
+
+ALTER TABLE vote
+    ADD COLUMN IF NOT EXISTS deadline_at DATETIME(6) NULL;
+
+UPDATE vote
+SET deadline_at = TIMESTAMP(DATE_ADD(finished_at, INTERVAL 1 DAY))
+WHERE deadline_at IS NULL AND finished_at IS NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_vote_status_deadline_at ON vote (status, deadline_at);
+
+DESCRIBE vote;
+
+SELECT 'vote deadline_at migration completed successfully!' AS status;
@@ -0,0 +1,18 @@
+-- =====================================================
+-- Vote Keyset Pagination Indexes - Database Migration
+-- =====================================================
+-- Goal: Serve cursor-based vote lists (getAllVotesConnection, getMyVotesConnection)
+--       ordered by (finished_at DESC, id DESC) with an index range scan
+--       instead of loading and sorting the whole vote table.
+-- Run this on your MariaDB/MySQL database
+-- =====================================================
+
+USE upik;
+
+CREATE INDEX IF NOT EXISTS idx_vote_finished_at_id ON vote (finished_at, id);
+CREATE INDEX IF NOT EXISTS idx_vote_status_finished_at_id ON vote (status, finished_at, id);
+CREATE INDEX IF NOT EXISTS idx_vote_creator_finished_at_id ON vote (creator_id, finished_at, id);
+
+SHOW INDEX FROM vote;
+
+SELECT 'vote keyset index migration completed successfully!' AS status;
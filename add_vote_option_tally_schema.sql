@@ -0,0 +1,31 @@
+-- =====================================================
+-- Vote Option Tally (sharded counters) - Database Migration
+-- =====================================================
+-- Goal: Maintain per-option response counts in a read model instead of
+--       running COUNT(*) over vote_response on every read.
+-- Each option owns N shard rows (vote.tally.shards, default 8); reads SUM the shards.
+-- Run this on your MariaDB/MySQL database
+-- =====================================================
+
+USE upik;
+
+CREATE TABLE IF NOT EXISTS vote_option_tally (
+    option_id      BINARY(16) NOT NULL,
+    shard          INT        NOT NULL,
+    vote_id        BINARY(16) NOT NULL,
+    response_count BIGINT     NOT NULL DEFAULT 0,
+    PRIMARY KEY (option_id, shard),
+    INDEX idx_vote_option_tally_vote (vote_id, option_id)
+);
+
+-- Backfill existing responses into shard 0
+INSERT INTO vote_option_tally (option_id, shard, vote_id, response_count)
+SELECT option_id, 0, vote_id, COUNT(*)
+FROM vote_response
+WHERE option_id IS NOT NULL
+GROUP BY vote_id, option_id
+ON DUPLICATE KEY UPDATE response_count = VALUES(response_count);
+
+DESCRIBE vote_option_tally;
+
+SELECT 'vote_option_tally migration completed successfully!' AS status;
@@ -0,0 +1,68 @@
+-- =====================================================
+-- Vote Related Index - Database Migration
+-- =====================================================
+-- Goal: Serve "related votes" suggestions on the vote detail
+--       (VoteDetailPayload.relatedVotes) with one indexed read of a
+--       precomputed top-N table instead of self-joining vote_response.
+-- Score = users who answered both votes + 3 if the categories match.
+-- The application recomputes the rows of votes that received responses
+-- since its last run (vote.related.rebuild-interval-ms); this migration
+-- builds the initial top 10 for every vote.
+-- Run this on your MariaDB/MySQL database
+-- =====================================================
+
+USE upik;
+
+-- 1. Table
+CREATE TABLE IF NOT EXISTS vote_related (
+    vote_id         BINARY(16)  NOT NULL,
+    related_vote_id BINARY(16)  NOT NULL,
+    score           DOUBLE      NOT NULL,
+    co_participants BIGINT      NOT NULL DEFAULT 0,
+    updated_at      DATETIME(6) NOT NULL,
+    PRIMARY KEY (vote_id, related_vote_id),
+    INDEX idx_vote_related_vote_score (vote_id, score)
+);
+
+-- 2. Indexes used by the recompute job
+--    (vote_id, user_id) finds a vote's participants; the existing unique
+--    (user_id, vote_id) key then finds their other votes.
+CREATE INDEX IF NOT EXISTS idx_vote_response_vote_user ON vote_response (vote_id, user_id);
+CREATE INDEX IF NOT EXISTS idx_vote_category_status_created ON vote (category, status, created_at);
+CREATE INDEX IF NOT EXISTS idx_vote_response_hourly_bucket ON vote_response_hourly (bucket_start, vote_id);
+
+-- 3. Initial build (top 10 per vote)
+DELETE FROM vote_related;
+
+INSERT INTO vote_related (vote_id, related_vote_id, score, co_participants, updated_at)
+SELECT vote_id, related_vote_id, score, co_participants, NOW(6)
+FROM (
+    SELECT c.vote_id,
+           c.related_vote_id,
+           SUM(c.co_participants) + MAX(c.same_category) * 3 AS score,
+           SUM(c.co_participants) AS co_participants,
+           ROW_NUMBER() OVER (PARTITION BY c.vote_id
+                              ORDER BY SUM(c.co_participants) + MAX(c.same_category) * 3 DESC,
+                                       c.related_vote_id DESC) AS rn
+    FROM (
+        SELECT a.vote_id, o.vote_id AS related_vote_id,
+               COUNT(*) AS co_participants, MAX(rv.category = v.category) AS same_category
+        FROM vote_response a
+        JOIN vote_response o ON o.user_id = a.user_id AND o.vote_id <> a.vote_id
+        JOIN vote v ON v.id = a.vote_id
+        JOIN vote rv ON rv.id = o.vote_id
+        GROUP BY a.vote_id, o.vote_id
+        UNION ALL
+        SELECT v.id, rv.id, 0, 1
+        FROM vote v
+        JOIN vote rv ON rv.category = v.category AND rv.id <> v.id
+        WHERE rv.status = 'OPEN'
+    ) c
+    GROUP BY c.vote_id, c.related_vote_id
+) ranked
+WHERE ranked.rn <= 10;
+
+DESCRIBE vote_related;
+SHOW INDEX FROM vote_related;
+
+SELECT 'vote_related migration completed successfully!' AS status;
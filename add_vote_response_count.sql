@@ -0,0 +1,56 @@
+-- =====================================================
+-- Vote response_count / created_at Columns - Database Migration
+-- =====================================================
+-- Goal: Serve the participation, completion and date sorted vote lists
+--       (getVotesSorted) from indexes on the vote table instead of
+--       joining a GROUP BY over vote_option_tally on every page request.
+--       response_count is refreshed from vote_option_tally by the
+--       application; completion_rate is a stored generated column.
+-- Run this on your MariaDB/MySQL database
+-- =====================================================
+
+USE upik;
+
+-- 1. Columns
+ALTER TABLE vote
+    ADD COLUMN IF NOT EXISTS response_count BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS created_at DATETIME(6) NULL;
+
+ALTER TABLE vote
+    ADD COLUMN IF NOT EXISTS completion_rate DECIMAL(20, 6)
+        AS (response_count / NULLIF(participant_threshold, 0)) STORED;
+
+-- 2. Backfill response_count from the sharded tally
+UPDATE vote v
+LEFT JOIN (SELECT vote_id, SUM(response_count) AS total
+           FROM vote_option_tally
+           GROUP BY vote_id) t ON t.vote_id = v.id
+SET v.response_count = COALESCE(t.total, 0);
+
+-- 3. Backfill created_at
+--    The original creation time was never stored. Existing votes use the day
+--    of their first response; votes without responses fall back to the window
+--    createVote applies (VoteApplication: 7 days for DEFAULT and
+--    PARTICIPANT_COUNT, legacy votes without closure_type: 3 days).
+UPDATE vote v
+LEFT JOIN (SELECT vote_id, MIN(created_at) AS first_response
+           FROM vote_response
+           GROUP BY vote_id) r ON r.vote_id = v.id
+SET v.created_at = COALESCE(
+        r.first_response,
+        DATE_SUB(v.finished_at, INTERVAL (CASE WHEN v.closure_type IS NULL THEN 3 ELSE 7 END) DAY))
+WHERE v.created_at IS NULL AND v.finished_at IS NOT NULL;
+
+UPDATE vote SET created_at = NOW(6) WHERE created_at IS NULL;
+
+ALTER TABLE vote MODIFY COLUMN created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6);
+
+-- 4. Indexes for the sorted listings
+CREATE INDEX IF NOT EXISTS idx_vote_created_at_id ON vote (created_at, id);
+CREATE INDEX IF NOT EXISTS idx_vote_response_count_id ON vote (response_count, id);
+CREATE INDEX IF NOT EXISTS idx_vote_status_completion_rate ON vote (status, completion_rate, id);
+
+DESCRIBE vote;
+SHOW INDEX FROM vote;
+
+SELECT 'vote response_count migration completed successfully!' AS status;
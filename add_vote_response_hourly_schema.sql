@@ -0,0 +1,33 @@
+-- =====================================================
+-- Vote Response Hourly Rollup - Database Migration
+-- =====================================================
+-- Goal: Serve vote trend charts (getVoteTrend) from per-vote, per-option,
+--       per-hour counters maintained as responses arrive, instead of
+--       aggregating raw vote_response rows.
+-- Each (vote, option, hour) owns N shard rows (vote.tally.shards); reads SUM the shards.
+-- Run this on your MariaDB/MySQL database
+-- =====================================================
+
+USE upik;
+
+CREATE TABLE IF NOT EXISTS vote_response_hourly (
+    vote_id        BINARY(16) NOT NULL,
+    option_id      BINARY(16) NOT NULL,
+    bucket_start   DATETIME   NOT NULL,
+    shard          INT        NOT NULL,
+    response_count BIGINT     NOT NULL DEFAULT 0,
+    PRIMARY KEY (vote_id, bucket_start, option_id, shard)
+);
+
+-- Backfill existing responses into shard 0.
+-- vote_response.created_at only has date precision, so old responses land in the 00:00 bucket of their day.
+INSERT INTO vote_response_hourly (vote_id, option_id, bucket_start, shard, response_count)
+SELECT vote_id, option_id, TIMESTAMP(created_at), 0, COUNT(*)
+FROM vote_response
+WHERE option_id IS NOT NULL AND created_at IS NOT NULL
+GROUP BY vote_id, option_id, created_at
+ON DUPLICATE KEY UPDATE response_count = VALUES(response_count);
+
+DESCRIBE vote_response_hourly;
+
+SELECT 'vote_response_hourly migration completed successfully!' AS status;
@@ -0,0 +1,47 @@
+-- =====================================================
+-- Vote Response Unique (user_id, vote_id) - Database Migration
+-- =====================================================
+-- Goal: Let the database reject duplicate votes so the application can
+--       insert first and map the constraint violation to "already voted"
+--       instead of reading vote_response before every write.
+-- Existing duplicates are removed (the earliest row is kept) and
+-- vote_option_tally is rebuilt from the remaining responses.
+-- Run this on your MariaDB/MySQL database
+-- =====================================================
+
+USE upik;
+
+-- 1. 중복 응답 확인
+SELECT user_id, vote_id, COUNT(*) AS duplicates
+FROM vote_response
+GROUP BY user_id, vote_id
+HAVING COUNT(*) > 1;
+
+-- 2. 사용자/투표별 가장 먼저 저장된 응답만 남기고 삭제
+DELETE vr FROM vote_response vr
+JOIN (
+    SELECT id
+    FROM (
+        SELECT id,
+               ROW_NUMBER() OVER (PARTITION BY user_id, vote_id ORDER BY created_at, id) AS rn
+        FROM vote_response
+    ) ranked
+    WHERE ranked.rn > 1
+) duplicated ON duplicated.id = vr.id;
+
+-- 3. 옵션별 집계 재구성
+DELETE FROM vote_option_tally;
+
+INSERT INTO vote_option_tally (option_id, shard, vote_id, response_count)
+SELECT option_id, 0, vote_id, COUNT(*)
+FROM vote_response
+WHERE option_id IS NOT NULL
+GROUP BY option_id, vote_id;
+
+-- 4. 유니크 제약 추가
+ALTER TABLE vote_response
+    ADD CONSTRAINT uk_vote_response_user_vote UNIQUE (user_id, vote_id);
+
+SHOW INDEX FROM vote_response;
+
+SELECT 'vote_response unique constraint migration completed successfully!' AS status;
@@ -0,0 +1,25 @@
+-- =====================================================
+-- Vote Result Snapshot - Database Migration
+-- =====================================================
+-- Goal: Freeze the final results of a CLOSED vote into one immutable row,
+--       so closed-vote reads (vote detail, GET /api/votes/{id}/results)
+--       never re-aggregate vote_option_tally and can be cached without TTL.
+-- Snapshots are written by the application when a vote closes; votes that
+-- closed before this migration are frozen lazily on their first read.
+-- Run this on your MariaDB/MySQL database
+-- =====================================================
+
+USE upik;
+
+CREATE TABLE IF NOT EXISTS vote_result_snapshot (
+    vote_id         BINARY(16)  NOT NULL,
+    total_responses BIGINT      NOT NULL DEFAULT 0,
+    results         TEXT        NOT NULL,
+    closed_at       DATETIME(6) NULL,
+    created_at      DATETIME(6) NOT NULL,
+    PRIMARY KEY (vote_id)
+);
+
+DESCRIBE vote_result_snapshot;
+
+SELECT 'vote_result_snapshot migration completed successfully!' AS status;
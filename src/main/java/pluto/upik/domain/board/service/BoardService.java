@@ -2,9 +2,7 @@ package pluto.upik.domain.board.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -18,7 +16,9 @@ import pluto.upik.domain.board.repository.BoardRepository;
 import pluto.upik.domain.board.repository.CommentRepository;
 import pluto.upik.domain.bookmark.data.model.BoardBookmark;
 import pluto.upik.domain.bookmark.repository.BoardBookmarkRepository;
+import pluto.upik.shared.cache.CacheDependencyTracker;
 import pluto.upik.shared.cache.CacheNames;
+import pluto.upik.shared.cache.CacheTags;
 import pluto.upik.shared.exception.BadWordException;
 import pluto.upik.shared.exception.BusinessException;
 import pluto.upik.shared.filter.BadWordFilterService;
@@ -39,6 +39,7 @@ public class BoardService implements BoardServiceInterface {
     private final UserRepository userRepository;
     private final BadWordFilterService badWordFilterService;
     private final pluto.upik.domain.bookmark.repository.BoardBookmarkRepository boardBookmarkRepository;
+    private final CacheDependencyTracker cacheDependencyTracker;
 
     @Override
     @Transactional(readOnly = true)
@@ -60,6 +61,12 @@ public class BoardService implements BoardServiceInterface {
                 .map(board -> mapBoardToBoardResponse(board, currentUserId))
                 .collect(Collectors.toList());
 
+        List<String> tags = new ArrayList<>(List.of(CacheTags.BOARD_COLLECTION));
+        if (sortBy == BoardSortType.POPULAR) {
+            tags.add(CacheTags.BOARD_RANKING);
+        }
+        trackBoards(CacheNames.BOARD_LIST, String.format("%s:%d:%d:%s", currentUserId, page, size, sortBy), boardResponses, tags);
+
         return BoardPage.builder()
                 .content(boardResponses)
                 .totalPages(boardPage.getTotalPages())
@@ -77,6 +84,8 @@ public class BoardService implements BoardServiceInterface {
         List<BoardResponse> boardResponses = boardPage.getContent().stream()
                 .map(board -> mapBoardToBoardResponse(board, userId))
                 .collect(Collectors.toList());
+        trackBoards(CacheNames.BOARD_USER, String.format("%s:%d:%d", userId, page, size), boardResponses,
+                List.of(CacheTags.boardAuthor(userId)));
 
         return BoardPage.builder()
                 .content(boardResponses)
@@ -95,6 +104,8 @@ public class BoardService implements BoardServiceInterface {
         List<BoardResponse> boardResponses = boardPage.getContent().stream()
                 .map(board -> mapBoardToBoardResponse(board, currentUserId))
                 .collect(Collectors.toList());
+        trackBoards(CacheNames.BOARD_SEARCH, String.format("%s:%s:%d:%d", currentUserId, keyword, page, size), boardResponses,
+                List.of(CacheTags.BOARD_COLLECTION));
         
         return BoardPage.builder()
                 .content(boardResponses)
@@ -118,12 +129,6 @@ public class BoardService implements BoardServiceInterface {
 
     @Override
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = CacheNames.BOARD_LIST, allEntries = true),
-            @CacheEvict(value = CacheNames.BOARD_USER, allEntries = true),
-            @CacheEvict(value = CacheNames.BOARD_SEARCH, allEntries = true),
-            @CacheEvict(value = CacheNames.BOARD_COMMENTS, allEntries = true)
-    })
     public BoardResponse createQuestion(CreateBoardInput input, UUID userId) {
         // 욕설 검증
         if (badWordFilterService.containsBadWord(input.getTitle())) {
@@ -143,17 +148,12 @@ public class BoardService implements BoardServiceInterface {
         board.setUpdatedAt(LocalDateTime.now());
 
         Board savedBoard = boardRepository.save(board);
+        cacheDependencyTracker.invalidate(CacheTags.BOARD_COLLECTION, CacheTags.boardAuthor(userId));
         return mapBoardToBoardResponse(savedBoard, userId);
     }
 
     @Override
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = CacheNames.BOARD_LIST, allEntries = true),
-            @CacheEvict(value = CacheNames.BOARD_USER, allEntries = true),
-            @CacheEvict(value = CacheNames.BOARD_SEARCH, allEntries = true),
-            @CacheEvict(value = CacheNames.BOARD_COMMENTS, allEntries = true)
-    })
     public BoardResponse updateQuestion(UUID boardId, UpdateBoardInput input, UUID userId) {
         Board board = boardRepository.findById(boardId)
                 .orElseThrow(() -> new BusinessException("존재하지 않는 게시글입니다."));
@@ -175,17 +175,12 @@ public class BoardService implements BoardServiceInterface {
         board.setUpdatedAt(LocalDateTime.now());
 
         Board updatedBoard = boardRepository.save(board);
+        cacheDependencyTracker.invalidate(CacheTags.board(boardId));
         return mapBoardToBoardResponse(updatedBoard, userId);
     }
 
     @Override
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = CacheNames.BOARD_LIST, allEntries = true),
-            @CacheEvict(value = CacheNames.BOARD_USER, allEntries = true),
-            @CacheEvict(value = CacheNames.BOARD_SEARCH, allEntries = true),
-            @CacheEvict(value = CacheNames.BOARD_COMMENTS, allEntries = true)
-    })
     public boolean deleteQuestion(UUID boardId, UUID userId) {
         Board board = boardRepository.findById(boardId)
                 .orElseThrow(() -> new BusinessException("존재하지 않는 게시글입니다."));
@@ -197,6 +192,7 @@ public class BoardService implements BoardServiceInterface {
         // 게시글에 달린 댓글도 모두 삭제
         commentRepository.deleteByBoardId(boardId);
         boardRepository.delete(board);
+        cacheDependencyTracker.invalidate(CacheTags.board(boardId), CacheTags.BOARD_COLLECTION, CacheTags.boardAuthor(userId));
         
         return true;
     }
@@ -205,6 +201,7 @@ public class BoardService implements BoardServiceInterface {
     @Transactional
     public boolean toggleBoardBookmark(UUID userId, UUID boardId) {
         Optional<BoardBookmark> existing = boardBookmarkRepository.findByUserIdAndBoardId(userId, boardId);
+        cacheDependencyTracker.invalidate(CacheTags.board(boardId));
         if (existing.isPresent()) {
             boardBookmarkRepository.delete(existing.get());
             return false;
@@ -269,12 +266,6 @@ public class BoardService implements BoardServiceInterface {
     
     @Override
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = CacheNames.BOARD_LIST, allEntries = true),
-            @CacheEvict(value = CacheNames.BOARD_USER, allEntries = true),
-            @CacheEvict(value = CacheNames.BOARD_SEARCH, allEntries = true),
-            @CacheEvict(value = CacheNames.BOARD_COMMENTS, allEntries = true)
-    })
     public CommentResponse createComment(CreateCommentInput input, UUID userId) {
         // 욕설 검증
         if (badWordFilterService.containsBadWord(input.getContent())) {
@@ -301,6 +292,7 @@ public class BoardService implements BoardServiceInterface {
         comment.setUpdatedAt(LocalDateTime.now());
 
         Comment savedComment = commentRepository.save(comment);
+        cacheDependencyTracker.invalidate(CacheTags.board(input.getBoardId()), CacheTags.BOARD_RANKING);
         return mapCommentToCommentResponse(savedComment);
     }
 
@@ -312,6 +304,8 @@ public class BoardService implements BoardServiceInterface {
         
         // 부모 댓글만 먼저 조회
         Page<Comment> parentCommentPage = commentRepository.findByBoardIdAndParentIdIsNull(boardId, pageable);
+        cacheDependencyTracker.track(CacheNames.BOARD_COMMENTS, String.format("%s:%d:%d", boardId, page, size),
+                List.of(CacheTags.board(boardId)));
         
         List<CommentResponse> commentResponses = parentCommentPage.getContent().stream()
                 .map(parentComment -> {
@@ -363,6 +357,13 @@ public class BoardService implements BoardServiceInterface {
         return true;
     }
     
+    // 캐시 항목이 포함된 게시글들과 추가 태그에 의존함을 기록하는 메소드
+    private void trackBoards(String cacheName, String key, List<BoardResponse> boards, List<String> extraTags) {
+        List<String> tags = new ArrayList<>(extraTags);
+        boards.forEach(board -> tags.add(CacheTags.board(board.getId())));
+        cacheDependencyTracker.track(cacheName, key, tags);
+    }
+
     // Board 엔티티를 BoardResponse DTO로 변환하는 메소드
     private BoardResponse mapBoardToBoardResponse(Board board, UUID currentUserId) {
         long commentCount = commentRepository.countByBoardId(board.getId());
@@ -0,0 +1,29 @@
+package pluto.upik.domain.category.data.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import pluto.upik.domain.category.data.model.CategoryFacet;
+
+/**
+ * 카테고리별 진행 중인 투표 수와 가이드 수 페이로드
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryFacetPayload {
+
+    private String category;
+    private long openVoteCount;
+    private long guideCount;
+
+    public static CategoryFacetPayload fromEntity(CategoryFacet facet) {
+        return CategoryFacetPayload.builder()
+                .category(facet.getCategory())
+                .openVoteCount(facet.getOpenVoteCount())
+                .guideCount(facet.getGuideCount())
+                .build();
+    }
+}
@@ -0,0 +1,52 @@
+package pluto.upik.domain.category.data.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 카테고리별 진행 중인 투표 수와 가이드 수 엔티티 (읽기 모델)
+ * 카테고리 목록 조회 시 vote와 guide를 GROUP BY로 훑지 않도록 생성/종료/삭제 이벤트로 미리 갱신합니다.
+ */
+@Entity
+@Table(name = "category_facet")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class CategoryFacet {
+
+    /**
+     * 카테고리 이름 (기본 키)
+     */
+    @Id
+    @Column(name = "category", nullable = false)
+    private String category;
+
+    /**
+     * 진행 중인 투표 수
+     */
+    @Column(name = "open_vote_count", nullable = false)
+    private long openVoteCount;
+
+    /**
+     * 가이드 수
+     */
+    @Column(name = "guide_count", nullable = false)
+    private long guideCount;
+
+    /**
+     * 마지막 갱신 시각
+     */
+    @Column(name = "updated_at", columnDefinition = "DATETIME(6)", nullable = false)
+    private LocalDateTime updatedAt;
+}
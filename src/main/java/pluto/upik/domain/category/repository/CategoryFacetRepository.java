@@ -0,0 +1,77 @@
+package pluto.upik.domain.category.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import pluto.upik.domain.category.data.model.CategoryFacet;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 카테고리 집계 레포지토리
+ */
+@Repository
+public interface CategoryFacetRepository extends JpaRepository<CategoryFacet, String> {
+
+    /**
+     * 투표나 가이드가 하나 이상 있는 카테고리를 이름 순으로 조회합니다.
+     *
+     * @return 카테고리 집계 목록
+     */
+    @Query("SELECT f FROM CategoryFacet f WHERE f.openVoteCount > 0 OR f.guideCount > 0 ORDER BY f.category")
+    List<CategoryFacet> findNonEmpty();
+
+    /**
+     * 카테고리의 진행 중인 투표 수와 가이드 수를 증감합니다. 행이 없으면 생성하며, 0 미만으로 내려가지 않습니다.
+     *
+     * @param category 카테고리
+     * @param openVoteDelta 진행 중인 투표 수 증감량
+     * @param guideDelta 가이드 수 증감량
+     * @param now 갱신 시각
+     */
+    @Modifying
+    @Query(value = "INSERT INTO category_facet (category, open_vote_count, guide_count, updated_at) " +
+           "VALUES (:category, GREATEST(:openVoteDelta, 0), GREATEST(:guideDelta, 0), :now) " +
+           "ON DUPLICATE KEY UPDATE " +
+           "open_vote_count = GREATEST(open_vote_count + :openVoteDelta, 0), " +
+           "guide_count = GREATEST(guide_count + :guideDelta, 0), " +
+           "updated_at = :now",
+           nativeQuery = true)
+    void applyDelta(@Param("category") String category, @Param("openVoteDelta") long openVoteDelta,
+                    @Param("guideDelta") long guideDelta, @Param("now") LocalDateTime now);
+
+    /**
+     * vote와 guide 테이블 기준으로 모든 카테고리의 집계를 다시 씁니다.
+     *
+     * @param now 갱신 시각
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query(value = "INSERT INTO category_facet (category, open_vote_count, guide_count, updated_at) " +
+           "SELECT c.category, SUM(c.open_votes), SUM(c.guides), :now " +
+           "FROM (" +
+           "    SELECT category, COUNT(*) AS open_votes, 0 AS guides FROM vote " +
+           "    WHERE status = 'OPEN' AND category IS NOT NULL GROUP BY category " +
+           "    UNION ALL " +
+           "    SELECT category, 0, COUNT(*) FROM guide WHERE category IS NOT NULL GROUP BY category" +
+           ") c " +
+           "GROUP BY c.category " +
+           "ON DUPLICATE KEY UPDATE open_vote_count = VALUES(open_vote_count), " +
+           "guide_count = VALUES(guide_count), updated_at = VALUES(updated_at)",
+           nativeQuery = true)
+    int rebuildAll(@Param("now") LocalDateTime now);
+
+    /**
+     * 재구성에서 갱신되지 않은(더 이상 투표와 가이드가 없는) 카테고리의 집계를 0으로 만듭니다.
+     *
+     * @param before 재구성 시각
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query(value = "UPDATE category_facet SET open_vote_count = 0, guide_count = 0 WHERE updated_at < :before",
+           nativeQuery = true)
+    int clearStale(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,26 @@
+package pluto.upik.domain.category.resolver;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.stereotype.Controller;
+import pluto.upik.domain.category.data.DTO.CategoryFacetPayload;
+import pluto.upik.domain.category.service.CategoryFacetService;
+
+import java.util.List;
+
+@Controller
+@RequiredArgsConstructor
+public class CategoryQueryResolver {
+
+    private final CategoryFacetService categoryFacetService;
+
+    /**
+     * 카테고리별 진행 중인 투표 수와 가이드 수를 반환합니다.
+     *
+     * @return 카테고리 이름 순 집계 목록
+     */
+    @SchemaMapping(typeName = "Query", field = "categories")
+    public List<CategoryFacetPayload> categories() {
+        return categoryFacetService.getCategories();
+    }
+}
@@ -0,0 +1,100 @@
+package pluto.upik.domain.category.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pluto.upik.domain.category.data.DTO.CategoryFacetPayload;
+import pluto.upik.domain.category.repository.CategoryFacetRepository;
+import pluto.upik.domain.guide.event.GuideCreatedEvent;
+import pluto.upik.domain.vote.event.VoteClosedEvent;
+import pluto.upik.domain.vote.event.VoteCreatedEvent;
+import pluto.upik.domain.vote.event.VoteDeletedEvent;
+import pluto.upik.domain.vote.event.VoteReopenedEvent;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * 카테고리별 진행 중인 투표 수와 가이드 수(category_facet)를 유지하는 서비스
+ *
+ * 투표 생성/종료/재개/삭제와 가이드 생성 이벤트가 커밋되면 해당 카테고리 행 하나를 증감하고,
+ * 조회는 category_facet을 한 번 읽습니다.
+ * 이벤트를 거치지 않은 변경이나 반영 실패로 생긴 오차는 주기적인 재구성으로 보정됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CategoryFacetService {
+
+    private final CategoryFacetRepository categoryFacetRepository;
+
+    /**
+     * 투표나 가이드가 있는 카테고리의 집계를 조회합니다.
+     *
+     * @return 카테고리 이름 순 집계 목록
+     */
+    @Transactional(readOnly = true)
+    public List<CategoryFacetPayload> getCategories() {
+        return categoryFacetRepository.findNonEmpty().stream()
+                .map(CategoryFacetPayload::fromEntity)
+                .toList();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onVoteCreated(VoteCreatedEvent event) {
+        apply(event.getCategory(), 1, 0);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onVoteClosed(VoteClosedEvent event) {
+        apply(event.getCategory(), -1, 0);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onVoteReopened(VoteReopenedEvent event) {
+        apply(event.getCategory(), 1, 0);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onVoteDeleted(VoteDeletedEvent event) {
+        if (event.isOpen()) {
+            apply(event.getCategory(), -1, 0);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onGuideCreated(GuideCreatedEvent event) {
+        apply(event.getCategory(), 0, 1);
+    }
+
+    /**
+     * vote와 guide 테이블 기준으로 모든 카테고리의 집계를 다시 맞춥니다.
+     */
+    @Scheduled(fixedDelayString = "${category.facet.reconcile-interval-ms:3600000}",
+               initialDelayString = "${category.facet.reconcile-interval-ms:3600000}")
+    @Transactional
+    public void reconcile() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        int rebuilt = categoryFacetRepository.rebuildAll(now);
+        int cleared = categoryFacetRepository.clearStale(now);
+        log.debug("카테고리 집계 재구성: 갱신 {}행, 초기화 {}행", rebuilt, cleared);
+    }
+
+    private void apply(String category, long openVoteDelta, long guideDelta) {
+        if (category == null || category.isBlank()) {
+            return;
+        }
+        categoryFacetRepository.applyDelta(category, openVoteDelta, guideDelta,
+                LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+    }
+}
@@ -0,0 +1,57 @@
+package pluto.upik.domain.guide.data.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import pluto.upik.domain.guide.data.model.GuideGenerationJob;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 가이드 생성 작업 진행 현황
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GuideGenerationProgress {
+
+    private long pending;
+    private long running;
+    private long succeeded;
+    private long failed;
+    private List<FailedJob> recentFailures;
+
+    /**
+     * 최종 실패한 가이드 생성 작업
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class FailedJob {
+        private String voteId;
+        private String guideType;
+        private int attempts;
+        private String lastError;
+        private String finishedAt;
+    }
+
+    public static GuideGenerationProgress of(Map<GuideGenerationJob.Status, Long> counts,
+                                             List<GuideGenerationJob> failedJobs) {
+        return GuideGenerationProgress.builder()
+                .pending(counts.getOrDefault(GuideGenerationJob.Status.PENDING, 0L))
+                .running(counts.getOrDefault(GuideGenerationJob.Status.RUNNING, 0L))
+                .succeeded(counts.getOrDefault(GuideGenerationJob.Status.SUCCEEDED, 0L))
+                .failed(counts.getOrDefault(GuideGenerationJob.Status.FAILED, 0L))
+                .recentFailures(failedJobs.stream()
+                        .map(job -> new FailedJob(
+                                job.getVoteId().toString(),
+                                job.getGuideType(),
+                                job.getAttempts(),
+                                job.getLastError(),
+                                job.getFinishedAt() != null ? job.getFinishedAt().toString() : null))
+                        .toList())
+                .build();
+    }
+}
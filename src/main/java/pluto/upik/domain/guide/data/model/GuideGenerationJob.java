@@ -0,0 +1,91 @@
+package pluto.upik.domain.guide.data.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 가이드 생성 작업 엔티티
+ * 투표마다 하나의 작업만 존재하며(투표 ID가 기본 키), 상태 전이는 조건부 UPDATE로만 이루어집니다.
+ */
+@Entity
+@Table(name = "guide_generation_job")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class GuideGenerationJob {
+
+    /**
+     * 가이드를 생성할 투표 ID (기본 키)
+     */
+    @Id
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "vote_id", columnDefinition = "BINARY(16)")
+    private UUID voteId;
+
+    /**
+     * 생성할 가이드 유형
+     */
+    @Column(name = "guide_type", length = 50)
+    private String guideType;
+
+    /**
+     * 작업 상태
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(columnDefinition = "enum ('PENDING', 'RUNNING', 'SUCCEEDED', 'FAILED')", nullable = false)
+    private Status status;
+
+    /**
+     * 실행 시도 횟수
+     */
+    @Column(nullable = false)
+    private int attempts;
+
+    /**
+     * 다음 실행 가능 시각 (재시도 대기 시 미래 시각)
+     */
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * 마지막 실패 사유
+     */
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    /**
+     * 작업 생성 시각
+     */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 마지막 실행 시작 시각
+     */
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    /**
+     * 완료 또는 최종 실패 시각
+     */
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    /**
+     * 가이드 생성 작업 상태
+     */
+    public enum Status {
+        PENDING, RUNNING, SUCCEEDED, FAILED
+    }
+}
@@ -0,0 +1,19 @@
+package pluto.upik.domain.guide.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.UUID;
+
+/**
+ * 가이드가 생성되었을 때 발행되는 이벤트
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class GuideCreatedEvent {
+
+    private final UUID guideId;
+    private final String category;
+}
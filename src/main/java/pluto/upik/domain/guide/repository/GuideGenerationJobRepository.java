@@ -0,0 +1,162 @@
+package pluto.upik.domain.guide.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import pluto.upik.domain.guide.data.model.GuideGenerationJob;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 가이드 생성 작업 레포지토리
+ * 여러 노드의 작업자가 같은 작업을 중복 실행하지 않도록 상태 전이를 조건부 UPDATE로 제공합니다.
+ */
+@Repository
+public interface GuideGenerationJobRepository extends JpaRepository<GuideGenerationJob, UUID> {
+
+    /**
+     * 투표의 가이드 생성 작업을 등록합니다. 이미 작업이 있으면 아무것도 하지 않습니다.
+     *
+     * @param voteId 투표 ID
+     * @param guideType 가이드 유형
+     * @param now 현재 시각
+     * @return 등록된 행 수 (이미 있으면 0)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO guide_generation_job " +
+                   "(vote_id, guide_type, status, attempts, next_attempt_at, created_at) " +
+                   "VALUES (:voteId, :guideType, 'PENDING', 0, :now, :now)",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("voteId") UUID voteId, @Param("guideType") String guideType,
+                       @Param("now") LocalDateTime now);
+
+    /**
+     * 실행 가능한 대기 작업의 투표 ID를 오래된 순으로 조회합니다.
+     *
+     * @param now 현재 시각
+     * @param pageable 조회 개수
+     * @return 투표 ID 목록
+     */
+    @Query("SELECT j.voteId FROM GuideGenerationJob j " +
+           "WHERE j.status = pluto.upik.domain.guide.data.model.GuideGenerationJob.Status.PENDING " +
+           "AND j.nextAttemptAt <= :now ORDER BY j.nextAttemptAt")
+    List<UUID> findDueVoteIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 대기 중인 작업을 실행 상태로 선점합니다.
+     *
+     * @param voteId 투표 ID
+     * @param now 현재 시각
+     * @return 선점했으면 1, 다른 작업자가 먼저 선점했으면 0
+     */
+    @Modifying
+    @Query("UPDATE GuideGenerationJob j " +
+           "SET j.status = pluto.upik.domain.guide.data.model.GuideGenerationJob.Status.RUNNING, " +
+           "j.attempts = j.attempts + 1, j.startedAt = :now " +
+           "WHERE j.voteId = :voteId " +
+           "AND j.status = pluto.upik.domain.guide.data.model.GuideGenerationJob.Status.PENDING " +
+           "AND j.nextAttemptAt <= :now")
+    int claim(@Param("voteId") UUID voteId, @Param("now") LocalDateTime now);
+
+    /**
+     * 대기 중이거나 최종 실패한 작업을 즉시 실행 상태로 선점합니다. 수동 생성 요청에 사용됩니다.
+     *
+     * @param voteId 투표 ID
+     * @param now 현재 시각
+     * @return 선점했으면 1, 실행 중이거나 이미 완료되었으면 0
+     */
+    @Modifying
+    @Query("UPDATE GuideGenerationJob j " +
+           "SET j.status = pluto.upik.domain.guide.data.model.GuideGenerationJob.Status.RUNNING, " +
+           "j.attempts = j.attempts + 1, j.startedAt = :now " +
+           "WHERE j.voteId = :voteId " +
+           "AND j.status IN (pluto.upik.domain.guide.data.model.GuideGenerationJob.Status.PENDING, " +
+           "pluto.upik.domain.guide.data.model.GuideGenerationJob.Status.FAILED)")
+    int claimNow(@Param("voteId") UUID voteId, @Param("now") LocalDateTime now);
+
+    /**
+     * 실행 중인 작업을 완료 처리합니다.
+     *
+     * @param voteId 투표 ID
+     * @param now 현재 시각
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE GuideGenerationJob j " +
+           "SET j.status = pluto.upik.domain.guide.data.model.GuideGenerationJob.Status.SUCCEEDED, " +
+           "j.finishedAt = :now, j.lastError = NULL " +
+           "WHERE j.voteId = :voteId " +
+           "AND j.status = pluto.upik.domain.guide.data.model.GuideGenerationJob.Status.RUNNING")
+    int markSucceeded(@Param("voteId") UUID voteId, @Param("now") LocalDateTime now);
+
+    /**
+     * 실행 중인 작업을 재시도 대기 상태로 되돌립니다.
+     *
+     * @param voteId 투표 ID
+     * @param nextAttemptAt 다음 실행 가능 시각
+     * @param error 실패 사유
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE GuideGenerationJob j " +
+           "SET j.status = pluto.upik.domain.guide.data.model.GuideGenerationJob.Status.PENDING, " +
+           "j.nextAttemptAt = :nextAttemptAt, j.lastError = :error " +
+           "WHERE j.voteId = :voteId " +
+           "AND j.status = pluto.upik.domain.guide.data.model.GuideGenerationJob.Status.RUNNING")
+    int markRetry(@Param("voteId") UUID voteId, @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                  @Param("error") String error);
+
+    /**
+     * 실행 중인 작업을 최종 실패 처리합니다.
+     *
+     * @param voteId 투표 ID
+     * @param now 현재 시각
+     * @param error 실패 사유
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE GuideGenerationJob j " +
+           "SET j.status = pluto.upik.domain.guide.data.model.GuideGenerationJob.Status.FAILED, " +
+           "j.finishedAt = :now, j.lastError = :error " +
+           "WHERE j.voteId = :voteId " +
+           "AND j.status = pluto.upik.domain.guide.data.model.GuideGenerationJob.Status.RUNNING")
+    int markFailed(@Param("voteId") UUID voteId, @Param("now") LocalDateTime now, @Param("error") String error);
+
+    /**
+     * 너무 오래 실행 중인 작업(작업자 비정상 종료 등)을 대기 상태로 되돌립니다.
+     *
+     * @param startedBefore 이 시각 이전에 시작된 작업이 대상
+     * @param now 현재 시각
+     * @return 되돌린 작업 수
+     */
+    @Modifying
+    @Query("UPDATE GuideGenerationJob j " +
+           "SET j.status = pluto.upik.domain.guide.data.model.GuideGenerationJob.Status.PENDING, j.nextAttemptAt = :now " +
+           "WHERE j.status = pluto.upik.domain.guide.data.model.GuideGenerationJob.Status.RUNNING " +
+           "AND j.startedAt < :startedBefore")
+    int requeueStale(@Param("startedBefore") LocalDateTime startedBefore, @Param("now") LocalDateTime now);
+
+    /**
+     * 상태별 작업 수를 조회합니다.
+     *
+     * @return [status, count] 목록
+     */
+    @Query("SELECT j.status, COUNT(j) FROM GuideGenerationJob j GROUP BY j.status")
+    List<Object[]> countGroupByStatus();
+
+    /**
+     * 특정 상태의 작업을 최근 순으로 조회합니다.
+     *
+     * @param status 작업 상태
+     * @param pageable 조회 개수
+     * @return 작업 목록
+     */
+    @Query("SELECT j FROM GuideGenerationJob j WHERE j.status = :status ORDER BY j.createdAt DESC")
+    List<GuideGenerationJob> findByStatusOrderByCreatedAtDesc(@Param("status") GuideGenerationJob.Status status,
+                                                             Pageable pageable);
+}
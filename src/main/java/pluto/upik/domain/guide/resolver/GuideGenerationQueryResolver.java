@@ -0,0 +1,34 @@
+package pluto.upik.domain.guide.resolver;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.stereotype.Controller;
+import pluto.upik.domain.guide.data.DTO.GuideGenerationProgress;
+import pluto.upik.domain.guide.service.GuideGenerationJobService;
+
+/**
+ * 가이드 생성 작업 진행 현황 GraphQL 쿼리 리졸버
+ */
+@Slf4j
+@Controller
+@RequiredArgsConstructor
+public class GuideGenerationQueryResolver {
+
+    private static final int MAX_FAILED_LIMIT = 100;
+
+    private final GuideGenerationJobService guideGenerationJobService;
+
+    /**
+     * 상태별 가이드 생성 작업 수와 최근 실패 작업을 조회합니다.
+     *
+     * @param failedLimit 최근 실패 작업 최대 개수
+     * @return 가이드 생성 진행 현황
+     */
+    @QueryMapping
+    public GuideGenerationProgress guideGenerationProgress(@Argument int failedLimit) {
+        log.info("guideGenerationProgress 쿼리 요청 - failedLimit: {}", failedLimit);
+        return guideGenerationJobService.getProgress(Math.max(1, Math.min(failedLimit, MAX_FAILED_LIMIT)));
+    }
+}
@@ -0,0 +1,224 @@
+package pluto.upik.domain.guide.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import pluto.upik.domain.guide.data.DTO.GuideGenerationProgress;
+import pluto.upik.domain.guide.data.model.GuideGenerationJob;
+import pluto.upik.domain.guide.repository.GuideGenerationJobRepository;
+import pluto.upik.domain.guide.repository.GuideRepository;
+import pluto.upik.shared.ai.data.DTO.GuideResponseDTO;
+import pluto.upik.shared.ai.service.AIService;
+import pluto.upik.shared.exception.BusinessException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 가이드 생성 작업을 등록하고 실행 상태를 관리하는 서비스
+ *
+ * 작업은 투표마다 하나만 등록되며(투표 ID 기준 멱등), 실행은 조건부 UPDATE로 선점한 작업자 하나만 수행합니다.
+ * 실패한 작업은 지수 백오프로 재시도되고, 최대 시도 횟수를 넘으면 FAILED로 남아 운영자가 확인할 수 있습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GuideGenerationJobService {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final GuideGenerationJobRepository guideGenerationJobRepository;
+    private final GuideRepository guideRepository;
+    private final AIService aiService;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${guide.generation.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${guide.generation.backoff-ms:30000}")
+    private long backoffMillis;
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 투표의 가이드 생성 작업을 등록합니다. 호출자의 트랜잭션에 참여하므로 투표 종료와 함께 커밋됩니다.
+     *
+     * @param voteId 투표 ID
+     * @param guideType 가이드 유형
+     * @return 새로 등록되었으면 true, 이미 작업이 있으면 false
+     */
+    @Transactional
+    public boolean enqueue(UUID voteId, String guideType) {
+        boolean created = guideGenerationJobRepository.insertIfAbsent(voteId, guideType, LocalDateTime.now()) == 1;
+        if (created) {
+            log.info("가이드 생성 작업 등록: voteId={}, type={}", voteId, guideType);
+        }
+        return created;
+    }
+
+    /**
+     * 실행 가능한 대기 작업의 투표 ID를 조회합니다.
+     *
+     * @param limit 최대 개수
+     * @return 투표 ID 목록
+     */
+    @Transactional(readOnly = true)
+    public List<UUID> findDue(int limit) {
+        return guideGenerationJobRepository.findDueVoteIds(LocalDateTime.now(), PageRequest.of(0, limit));
+    }
+
+    /**
+     * 대기 작업을 선점합니다.
+     *
+     * @param voteId 투표 ID
+     * @return 선점한 작업, 다른 작업자가 먼저 선점했으면 null
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public GuideGenerationJob claim(UUID voteId) {
+        if (guideGenerationJobRepository.claim(voteId, LocalDateTime.now()) == 0) {
+            return null;
+        }
+        return guideGenerationJobRepository.findById(voteId).orElse(null);
+    }
+
+    /**
+     * 선점한 작업을 실행합니다. 이미 가이드가 있는 투표는 AI를 호출하지 않고 완료 처리합니다.
+     *
+     * @param job 선점한 작업
+     */
+    public void execute(GuideGenerationJob job) {
+        UUID voteId = job.getVoteId();
+        try {
+            if (!guideRepository.existsByVoteId(voteId)) {
+                aiService.generateAndSaveGuide(voteId, job.getGuideType());
+            }
+            complete(voteId);
+            log.info("가이드 생성 작업 완료: voteId={}, attempts={}", voteId, job.getAttempts());
+        } catch (Exception e) {
+            fail(voteId, job.getAttempts(), e);
+        }
+    }
+
+    /**
+     * 가이드를 즉시 생성합니다. 수동 생성 요청에 사용되며, 같은 작업 상태를 공유하므로
+     * 실행 중이거나 이미 완료된 투표의 가이드를 중복 생성하지 않습니다.
+     *
+     * @param voteId 투표 ID
+     * @param guideType 가이드 유형
+     * @return 생성된 가이드 정보
+     * @throws BusinessException 이미 생성 중이거나 생성이 완료된 경우
+     */
+    public GuideResponseDTO generateNow(UUID voteId, String guideType) {
+        transactionTemplate.executeWithoutResult(status ->
+                guideGenerationJobRepository.insertIfAbsent(voteId, guideType, LocalDateTime.now()));
+        GuideGenerationJob job = claimNow(voteId);
+        if (job == null) {
+            throw new BusinessException("이미 가이드가 생성 중이거나 생성이 완료된 투표입니다.");
+        }
+
+        try {
+            GuideResponseDTO guide = aiService.generateAndSaveGuide(voteId, guideType);
+            complete(voteId);
+            return guide;
+        } catch (RuntimeException e) {
+            fail(voteId, job.getAttempts(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * 선점했지만 실행하지 못한 작업을 즉시 대기 상태로 되돌립니다.
+     *
+     * @param voteId 투표 ID
+     */
+    @Transactional
+    public void release(UUID voteId) {
+        guideGenerationJobRepository.markRetry(voteId, LocalDateTime.now(), null);
+    }
+
+    /**
+     * 작업자 비정상 종료 등으로 오래 실행 중으로 남은 작업을 대기 상태로 되돌립니다.
+     *
+     * @param timeout 실행 중 상태의 최대 유지 시간
+     * @return 되돌린 작업 수
+     */
+    @Transactional
+    public int requeueStale(Duration timeout) {
+        LocalDateTime now = LocalDateTime.now();
+        return guideGenerationJobRepository.requeueStale(now.minus(timeout), now);
+    }
+
+    /**
+     * 상태별 작업 수와 최근 실패 작업을 조회합니다.
+     *
+     * @param failedLimit 최근 실패 작업 최대 개수
+     * @return 가이드 생성 진행 현황
+     */
+    @Transactional(readOnly = true)
+    public GuideGenerationProgress getProgress(int failedLimit) {
+        Map<GuideGenerationJob.Status, Long> counts = new EnumMap<>(GuideGenerationJob.Status.class);
+        for (Object[] row : guideGenerationJobRepository.countGroupByStatus()) {
+            counts.put((GuideGenerationJob.Status) row[0], (Long) row[1]);
+        }
+        List<GuideGenerationJob> failed = guideGenerationJobRepository.findByStatusOrderByCreatedAtDesc(
+                GuideGenerationJob.Status.FAILED, PageRequest.of(0, failedLimit));
+        return GuideGenerationProgress.of(counts, failed);
+    }
+
+    /**
+     * 작업을 즉시 선점하고, 선점 후의 시도 횟수가 반영된 작업을 반환합니다.
+     *
+     * @return 선점한 작업, 실행 중이거나 이미 완료되었으면 null
+     */
+    private GuideGenerationJob claimNow(UUID voteId) {
+        return transactionTemplate.execute(status ->
+                guideGenerationJobRepository.claimNow(voteId, LocalDateTime.now()) == 1
+                        ? guideGenerationJobRepository.findById(voteId).orElse(null)
+                        : null);
+    }
+
+    private void complete(UUID voteId) {
+        transactionTemplate.executeWithoutResult(status ->
+                guideGenerationJobRepository.markSucceeded(voteId, LocalDateTime.now()));
+    }
+
+    private void fail(UUID voteId, int attempts, Exception e) {
+        String error = truncate(e.getMessage());
+        LocalDateTime now = LocalDateTime.now();
+        if (attempts >= maxAttempts) {
+            transactionTemplate.executeWithoutResult(status ->
+                    guideGenerationJobRepository.markFailed(voteId, now, error));
+            log.error("가이드 생성 작업 최종 실패: voteId={}, attempts={}, error={}", voteId, attempts, error, e);
+            return;
+        }
+        long delay = backoffMillis * (1L << Math.min(attempts - 1, 10));
+        transactionTemplate.executeWithoutResult(status ->
+                guideGenerationJobRepository.markRetry(voteId, now.plus(Duration.ofMillis(delay)), error));
+        log.warn("가이드 생성 작업 실패, {}ms 후 재시도: voteId={}, attempts={}, error={}", delay, voteId, attempts, error);
+    }
+
+    private String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
@@ -0,0 +1,93 @@
+package pluto.upik.domain.guide.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import pluto.upik.domain.guide.data.model.GuideGenerationJob;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 가이드 생성 작업을 주기적으로 가져와 제한된 동시성으로 실행하는 작업자
+ *
+ * 동시에 실행되는 작업 수는 {@code guide.generation.concurrency}를 넘지 않으며,
+ * 여유 슬롯 수만큼만 대기 작업을 선점하므로 밀린 작업은 DB에 PENDING 상태로 남아 순서대로 처리됩니다.
+ */
+@Slf4j
+@Component
+public class GuideGenerationWorker {
+
+    private static final Duration STALE_TIMEOUT = Duration.ofMinutes(30);
+
+    private final GuideGenerationJobService guideGenerationJobService;
+    private final Executor executor;
+    private final Semaphore slots;
+
+    public GuideGenerationWorker(GuideGenerationJobService guideGenerationJobService,
+                                 @Qualifier("guideGenerationExecutor") Executor executor,
+                                 @Value("${guide.generation.concurrency:3}") int concurrency) {
+        this.guideGenerationJobService = guideGenerationJobService;
+        this.executor = executor;
+        this.slots = new Semaphore(concurrency);
+    }
+
+    /**
+     * 여유 슬롯 수만큼 대기 작업을 선점해 실행합니다.
+     *
+     * @return 실행을 시작한 작업 수
+     */
+    @Scheduled(fixedDelayString = "${guide.generation.poll-interval-ms:5000}")
+    public int dispatch() {
+        int available = slots.availablePermits();
+        if (available == 0) {
+            return 0;
+        }
+
+        int started = 0;
+        List<UUID> due = guideGenerationJobService.findDue(available);
+        for (UUID voteId : due) {
+            if (!slots.tryAcquire()) {
+                break;
+            }
+            GuideGenerationJob job = guideGenerationJobService.claim(voteId);
+            if (job == null) {
+                slots.release();
+                continue;
+            }
+            try {
+                executor.execute(() -> {
+                    try {
+                        guideGenerationJobService.execute(job);
+                    } finally {
+                        slots.release();
+                    }
+                });
+                started++;
+            } catch (TaskRejectedException e) {
+                slots.release();
+                log.warn("가이드 생성 작업 실행 거절, 다음 주기에 재시도: voteId={}", voteId);
+                guideGenerationJobService.release(voteId);
+                break;
+            }
+        }
+        return started;
+    }
+
+    /**
+     * 오래 실행 중으로 남은 작업을 대기 상태로 되돌립니다.
+     */
+    @Scheduled(fixedDelayString = "${guide.generation.stale-check-interval-ms:600000}")
+    public void recoverStale() {
+        int requeued = guideGenerationJobService.requeueStale(STALE_TIMEOUT);
+        if (requeued > 0) {
+            log.warn("오래 실행 중인 가이드 생성 작업 {}개를 대기 상태로 되돌렸습니다.", requeued);
+        }
+    }
+}
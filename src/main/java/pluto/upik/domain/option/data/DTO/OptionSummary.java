@@ -0,0 +1,18 @@
+package pluto.upik.domain.option.data.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * 옵션 ID, 소속 투표 ID, 내용만 담는 조회 전용 DTO
+ */
+@Getter
+@AllArgsConstructor
+public class OptionSummary {
+
+    private final UUID id;
+    private final UUID voteId;
+    private final String content;
+}
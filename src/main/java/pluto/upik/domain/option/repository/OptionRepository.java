@@ -1,10 +1,14 @@
 package pluto.upik.domain.option.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import pluto.upik.domain.option.data.DTO.OptionSummary;
 import pluto.upik.domain.option.data.model.Option;
 import pluto.upik.domain.vote.data.model.Vote;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -13,6 +17,24 @@ import java.util.UUID;
 public interface OptionRepository extends JpaRepository<Option, UUID> {
     List<Option> findByVoteId(UUID voteId);
 
+    /**
+     * 여러 투표의 옵션을 한 번에 조회합니다.
+     *
+     * @param voteIds 투표 ID 목록
+     * @return 해당 투표들에 속한 옵션 목록
+     */
+    List<Option> findByVoteIdIn(Collection<UUID> voteIds);
+
+    /**
+     * 여러 투표의 옵션 ID와 내용만 한 번에 조회합니다.
+     *
+     * @param voteIds 투표 ID 목록
+     * @return 해당 투표들에 속한 옵션 요약 목록
+     */
+    @Query("SELECT new pluto.upik.domain.option.data.DTO.OptionSummary(o.id, o.vote.id, o.content) " +
+           "FROM Option o WHERE o.vote.id IN :voteIds")
+    List<OptionSummary> findSummariesByVoteIdIn(@Param("voteIds") Collection<UUID> voteIds);
+
     // 추가된 메서드
     Optional<Option> findTopByVoteOrderByIdAsc(Vote vote);
 }
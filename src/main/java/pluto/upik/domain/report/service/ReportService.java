@@ -3,6 +3,7 @@ package pluto.upik.domain.report.service;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import pluto.upik.domain.guide.data.model.Guide;
 import pluto.upik.domain.guide.repository.GuideRepository;
@@ -11,12 +12,16 @@ import pluto.upik.domain.report.data.DTO.*;
 import pluto.upik.domain.report.data.model.Report;
 import pluto.upik.domain.report.repository.ReportRepository;
 import pluto.upik.domain.vote.data.model.Vote;
+import pluto.upik.domain.vote.event.VoteDeletedEvent;
+import pluto.upik.domain.vote.event.VoteReopenedEvent;
+import pluto.upik.domain.vote.event.VoteUpdatedEvent;
 import pluto.upik.domain.vote.repository.VoteRepository;
 import pluto.upik.domain.voteResponse.repository.VoteResponseRepository;
 import pluto.upik.shared.exception.BusinessException;
 import pluto.upik.shared.exception.ResourceNotFoundException;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -35,6 +40,7 @@ public class ReportService implements ReportServiceInterface {
     private final VoteRepository voteRepository;
     private final OptionRepository optionRepository;
     private final VoteResponseRepository voteResponseRepository; // 추가: VoteResponse 레포지토리 주입
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * {@inheritDoc}
@@ -199,10 +205,16 @@ public class ReportService implements ReportServiceInterface {
             }
 
             // 4. 질문 상태를 OPEN으로 설정하고 종료일을 2일 후로 설정
+            boolean wasClosed = vote.getStatus() == Vote.Status.CLOSED;
             vote.setStatus(Vote.Status.OPEN);
-            LocalDate twoLaterDate = LocalDate.now().plusDays(2);
-            vote.setFinishedAt(twoLaterDate);
+            LocalDateTime deadlineAt = Vote.deadlineAfter(LocalDateTime.now(), 2);
+            vote.setFinishedAt(deadlineAt.toLocalDate());
+            vote.setDeadlineAt(deadlineAt);
             voteRepository.save(vote);
+            eventPublisher.publishEvent(new VoteUpdatedEvent(vote.getId()));
+            if (wasClosed) {
+                eventPublisher.publishEvent(new VoteReopenedEvent(vote.getId(), vote.getCategory()));
+            }
 
             // 5. 신고 삭제
             reportRepository.deleteByUserIdAndTargetId(userId, guideId);
@@ -359,6 +371,7 @@ public class ReportService implements ReportServiceInterface {
             try {
                 // 4. 질문 삭제
                 voteRepository.delete(vote);
+                eventPublisher.publishEvent(new VoteDeletedEvent(questionId, vote.getCategory(), vote.getStatus() == Vote.Status.OPEN));
                 log.info("질문 삭제 완료 - questionId: {}", questionId);
             } catch (Exception e) {
                 log.error("질문 삭제 중 오류 - questionId: {}, error: {}", questionId, e.getMessage(), e);
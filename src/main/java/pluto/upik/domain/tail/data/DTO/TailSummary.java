@@ -0,0 +1,29 @@
+package pluto.upik.domain.tail.data.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * 꼬리 질문 ID와 질문 내용, 사용자의 답변(조회한 경우)만 담는 조회 전용 DTO
+ */
+@Getter
+@AllArgsConstructor
+public class TailSummary {
+
+    private final UUID id;
+    private final String question;
+
+    /**
+     * 사용자의 답변 (답변 조회에서만 채워집니다)
+     */
+    private final String answer;
+
+    /**
+     * 꼬리 질문 조회용 생성자. 답변은 조회하지 않습니다.
+     */
+    public TailSummary(UUID id, String question) {
+        this(id, question, null);
+    }
+}
@@ -1,8 +1,11 @@
 package pluto.upik.domain.tail.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import pluto.upik.domain.tail.data.DTO.TailSummary;
 import pluto.upik.domain.tail.data.model.Tail;
 import pluto.upik.domain.vote.data.model.Vote;
 
@@ -27,4 +30,15 @@ public interface TailRepository extends JpaRepository<Tail, UUID> {
 
     // Vote 별로 첫 번째 Tail 조회
     Optional<Tail> findFirstByVote(Vote vote);
+
+    /**
+     * 특정 투표에 속한 테일의 ID와 질문만 조회합니다.
+     *
+     * @param voteId 투표 ID
+     * @param pageable 조회 개수
+     * @return 테일 요약 목록
+     */
+    @Query("SELECT new pluto.upik.domain.tail.data.DTO.TailSummary(t.id, t.question) " +
+           "FROM Tail t WHERE t.vote.id = :voteId ORDER BY t.id")
+    List<TailSummary> findSummariesByVoteId(@Param("voteId") UUID voteId, Pageable pageable);
 }
@@ -2,7 +2,9 @@ package pluto.upik.domain.tail.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import pluto.upik.domain.tail.data.DTO.TailSummary;
 import pluto.upik.domain.tail.data.model.Tail;
 import pluto.upik.domain.tail.data.model.TailResponse;
 
@@ -58,4 +60,15 @@ public interface TailResponseRepository extends JpaRepository<TailResponse, UUID
      */
     @Query("SELECT tr FROM TailResponse tr JOIN tr.tail t WHERE tr.user.id = :userId AND t.vote.id = :voteId")
     java.util.Optional<TailResponse> findByUserIdAndVoteId(UUID userId, UUID voteId);
+
+    /**
+     * 특정 사용자가 특정 투표의 꼬리 질문에 남긴 응답을 질문과 함께 한 번에 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @param voteId 투표 ID
+     * @return 꼬리 질문 ID, 질문, 답변
+     */
+    @Query("SELECT new pluto.upik.domain.tail.data.DTO.TailSummary(t.id, t.question, tr.answer) " +
+           "FROM TailResponse tr JOIN tr.tail t WHERE tr.user.id = :userId AND t.vote.id = :voteId")
+    java.util.Optional<TailSummary> findSummaryByUserIdAndVoteId(@Param("userId") UUID userId, @Param("voteId") UUID voteId);
 }
@@ -2,6 +2,7 @@ package pluto.upik.domain.tail.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import pluto.upik.domain.tail.data.DTO.TailPayload;
@@ -15,6 +16,7 @@ import pluto.upik.shared.filter.BadWordFilterService;
 import pluto.upik.shared.oauth2jwt.entity.User;
 import pluto.upik.shared.oauth2jwt.repository.UserRepository;
 import pluto.upik.domain.vote.data.model.Vote;
+import pluto.upik.domain.vote.event.VoteUpdatedEvent;
 import pluto.upik.domain.vote.repository.VoteRepository;
 import pluto.upik.shared.exception.ResourceNotFoundException;
 
@@ -33,6 +35,7 @@ public class TailService {
     private final VoteRepository voteRepository;
     private final UserRepository userRepository;
     private final BadWordFilterService badWordFilterService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 테일 생성
@@ -76,6 +79,7 @@ public class TailService {
         // 테일 저장
         Tail savedTail = tailRepository.save(tail);
         log.debug("테일 생성 완료: id={}", savedTail.getId());
+        eventPublisher.publishEvent(new VoteUpdatedEvent(voteId));
 
         return TailPayload.fromEntity(savedTail);
     }
@@ -1,6 +1,7 @@
 package pluto.upik.domain.vote.application;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import pluto.upik.domain.option.data.model.Option;
@@ -8,13 +9,19 @@ import pluto.upik.domain.option.repository.OptionRepository;
 import pluto.upik.domain.vote.data.DTO.CreateVoteInput;
 import pluto.upik.domain.vote.data.DTO.VotePayload;
 import pluto.upik.domain.vote.data.model.Vote;
+import pluto.upik.domain.vote.event.VoteCreatedEvent;
 import pluto.upik.domain.vote.repository.VoteRepository;
+import pluto.upik.domain.vote.service.VoteDeadlineService;
+import pluto.upik.domain.vote.service.VoteRankingService;
+import pluto.upik.domain.voteResponse.service.VoteParticipationService;
+import pluto.upik.shared.cache.CacheDependencyTracker;
+import pluto.upik.shared.cache.CacheTags;
 import pluto.upik.shared.exception.BadWordException;
 import pluto.upik.shared.filter.BadWordFilterService;
 import pluto.upik.shared.oauth2jwt.entity.User;
 import pluto.upik.shared.oauth2jwt.repository.UserRepository;
 
-import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -27,6 +34,11 @@ public class VoteApplication {
     private final OptionRepository optionRepository;
     private final UserRepository userRepository;
     private final BadWordFilterService badWordFilterService;
+    private final VoteRankingService voteRankingService;
+    private final VoteDeadlineService voteDeadlineService;
+    private final VoteParticipationService voteParticipationService;
+    private final CacheDependencyTracker cacheDependencyTracker;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 새로운 투표를 생성합니다.
@@ -63,8 +75,8 @@ public class VoteApplication {
             }
         }
 
-        // 종료 일자 계산
-        LocalDate finishedAt = calculateFinishDate(closureType, input.getCustomDays());
+        // 마감 시각 계산 (생성 시각 + 진행 기간)
+        LocalDateTime deadlineAt = Vote.deadlineAfter(LocalDateTime.now(), calculateDurationDays(closureType, input.getCustomDays()));
 
         // Vote 엔티티 생성
         Vote.VoteBuilder voteBuilder = Vote.builder()
@@ -74,7 +86,8 @@ public class VoteApplication {
                 .status(Vote.Status.OPEN)
                 .user(user)
                 .closureType(closureType)
-                .finishedAt(finishedAt);
+                .finishedAt(deadlineAt.toLocalDate())
+                .deadlineAt(deadlineAt);
 
         // 참여자 수 기준 종료 조건 설정 (PARTICIPANT_COUNT 타입일 때만)
         if (closureType == Vote.ClosureType.PARTICIPANT_COUNT) {
@@ -85,6 +98,9 @@ public class VoteApplication {
 
         // Vote 저장
         Vote savedVote = voteRepository.save(vote);
+        voteRankingService.register(savedVote);
+        voteDeadlineService.schedule(savedVote);
+        voteParticipationService.initialize(savedVote.getId());
 
         // Option 생성 및 저장
         List<Option> savedOptions = new ArrayList<>();
@@ -97,6 +113,8 @@ public class VoteApplication {
         }
 
         // VotePayload 생성 및 반환
+        cacheDependencyTracker.invalidate(CacheTags.VOTE_COLLECTION, CacheTags.VOTE_RANKING, CacheTags.voteCreator(userId));
+        eventPublisher.publishEvent(new VoteCreatedEvent(savedVote.getId(), savedVote.getCategory()));
         return VotePayload.fromEntity(savedVote, savedOptions);
     }
 
@@ -141,25 +159,23 @@ public class VoteApplication {
     }
 
     /**
-     * 종료 타입에 따라 종료 일자를 계산합니다.
+     * 종료 타입에 따라 진행 일수를 계산합니다.
      *
      * @param closureType 종료 타입
      * @param customDays 커스텀 일수 (CUSTOM_DAYS 타입일 때만 사용)
-     * @return 계산된 종료 일자
+     * @return 계산된 진행 일수
      */
-    private LocalDate calculateFinishDate(Vote.ClosureType closureType, Integer customDays) {
-        LocalDate now = LocalDate.now();
-
+    private int calculateDurationDays(Vote.ClosureType closureType, Integer customDays) {
         switch (closureType) {
             case DEFAULT:
-                return now.plusDays(7); // 기본 7일
+                return 7; // 기본 7일
             case CUSTOM_DAYS:
-                return now.plusDays(customDays != null ? customDays : 7);
+                return customDays != null ? customDays : 7;
             case PARTICIPANT_COUNT:
-                // 참여자 수 기준이어도 기본 마감은 생성일 + 7일
-                return now.plusDays(7);
+                // 참여자 수 기준이어도 기본 마감은 생성 시각 + 7일
+                return 7;
             default:
-                return now.plusDays(7);
+                return 7;
         }
     }
 }
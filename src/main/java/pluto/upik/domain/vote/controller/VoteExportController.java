@@ -0,0 +1,65 @@
+package pluto.upik.domain.vote.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import pluto.upik.domain.vote.service.VoteExportService;
+import pluto.upik.shared.oauth2jwt.annotation.RequireRole;
+
+import java.util.UUID;
+
+/**
+ * 관리자용 투표 데이터 내보내기 컨트롤러
+ *
+ * 결과를 메모리에 모으지 않고 {@link StreamingResponseBody}로 DB 커서에서 읽는 즉시 응답에 씁니다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/votes/export")
+@RequiredArgsConstructor
+public class VoteExportController {
+
+    private final VoteExportService voteExportService;
+
+    @RequireRole(value = "ADMIN", message = "관리자 권한이 필요합니다")
+    @GetMapping("/results")
+    public ResponseEntity<StreamingResponseBody> exportResults(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "true") boolean includeExpired) {
+        VoteExportService.Format exportFormat = VoteExportService.Format.from(format);
+        log.info("투표 결과 내보내기 요청: format={}, includeExpired={}", exportFormat, includeExpired);
+        return stream("vote-results", exportFormat,
+                out -> voteExportService.writeResults(includeExpired, exportFormat, out));
+    }
+
+    @RequireRole(value = "ADMIN", message = "관리자 권한이 필요합니다")
+    @GetMapping("/responses")
+    public ResponseEntity<StreamingResponseBody> exportResponses(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) UUID voteId) {
+        VoteExportService.Format exportFormat = VoteExportService.Format.from(format);
+        log.info("투표 응답 내보내기 요청: format={}, voteId={}", exportFormat, voteId);
+        String filename = voteId != null ? "vote-responses-" + voteId : "vote-responses";
+        return stream(filename, exportFormat,
+                out -> voteExportService.writeResponses(voteId, exportFormat, out));
+    }
+
+    private ResponseEntity<StreamingResponseBody> stream(String filename, VoteExportService.Format format,
+                                                         StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(filename + "." + format.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+}
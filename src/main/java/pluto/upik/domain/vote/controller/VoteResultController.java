@@ -0,0 +1,55 @@
+package pluto.upik.domain.vote.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import pluto.upik.domain.vote.data.DTO.VoteResultsPayload;
+import pluto.upik.domain.vote.data.model.VoteResultSnapshot;
+import pluto.upik.domain.vote.service.VoteResultSnapshotService;
+import pluto.upik.shared.exception.ResourceNotFoundException;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 종료된 투표의 최종 결과를 HTTP GET으로 제공하는 컨트롤러
+ *
+ * 결과 스냅샷은 투표가 종료된 동안 변경되지 않지만, 신고 수락으로 투표가 다시 열리거나 삭제되면 폐기됩니다.
+ * 따라서 immutable 대신 짧은 max-age와 must-revalidate를 붙여 응답하고,
+ * 만료 후 재검증 요청의 If-None-Match가 스냅샷 ETag와 일치하면 본문 없이 304를 반환합니다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/votes")
+@RequiredArgsConstructor
+public class VoteResultController {
+
+    private static final CacheControl REVALIDATE = CacheControl.maxAge(Duration.ofSeconds(60)).cachePublic().mustRevalidate();
+
+    private final VoteResultSnapshotService voteResultSnapshotService;
+
+    @GetMapping("/{voteId}/results")
+    public ResponseEntity<VoteResultsPayload> getResults(@PathVariable UUID voteId, WebRequest request) {
+        VoteResultSnapshot snapshot = voteResultSnapshotService.getOrFreeze(voteId)
+                .orElseThrow(() -> new ResourceNotFoundException("종료된 투표를 찾을 수 없습니다: " + voteId));
+
+        String etag = voteResultSnapshotService.etag(snapshot);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(REVALIDATE)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(REVALIDATE)
+                .body(voteResultSnapshotService.toPayload(snapshot));
+    }
+}
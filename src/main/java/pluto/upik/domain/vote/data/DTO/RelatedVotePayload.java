@@ -0,0 +1,35 @@
+package pluto.upik.domain.vote.data.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 연관 투표 페이로드
+ * 투표 상세의 relatedVotes 필드로 전달됩니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RelatedVotePayload {
+
+    private String id;
+    private String title;
+    private String category;
+    private String status;
+    private String finishedAt;
+
+    public static RelatedVotePayload fromSummary(VoteSummary vote) {
+        return RelatedVotePayload.builder()
+                .id(vote.getId().toString())
+                .title(vote.getQuestion())
+                .category(vote.getCategory())
+                .status(vote.getStatus().name())
+                .finishedAt(vote.getFinishedAt() != null ? vote.getFinishedAt().format(DateTimeFormatter.ISO_LOCAL_DATE) : null)
+                .build();
+    }
+}
@@ -0,0 +1,22 @@
+package pluto.upik.domain.vote.data.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 커서 기반 투표 목록 응답 (GraphQL Connection)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VoteConnection implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private List<VoteEdge> edges;
+    private VotePageInfo pageInfo;
+}
@@ -12,7 +12,7 @@ import java.util.UUID;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class VoteDetailPayload implements Serializable {
     private static final long serialVersionUID = 1L;
     private String id;
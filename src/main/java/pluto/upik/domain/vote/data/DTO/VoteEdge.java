@@ -0,0 +1,19 @@
+package pluto.upik.domain.vote.data.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 커서 기반 투표 목록의 항목
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VoteEdge implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private String cursor;
+    private VotePayload node;
+}
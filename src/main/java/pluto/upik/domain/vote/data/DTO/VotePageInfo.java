@@ -0,0 +1,19 @@
+package pluto.upik.domain.vote.data.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 커서 기반 투표 목록의 페이지 정보
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VotePageInfo implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private boolean hasNextPage;
+    private String endCursor; // 마지막 항목의 커서 (다음 페이지 요청 시 after로 전달)
+}
@@ -16,7 +16,7 @@ import java.util.UUID;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class VotePayload implements Serializable {
     private static final long serialVersionUID = 1L;
     private String id;
@@ -124,4 +124,33 @@ public class VotePayload implements Serializable {
                 .myOptionContent(myOptionContent)
                 .build();
     }
+
+    /**
+     * 조회 전용 투표 요약과 옵션 통계, 사용자 참여 정보로 VotePayload를 생성합니다.
+     *
+     * @param vote 투표 요약
+     * @param optionStats 각 옵션 통계
+     * @param totalResponses 전체 응답 수
+     * @param hasVoted 사용자가 투표했는지 여부
+     * @param myOptionId 사용자가 선택한 옵션 ID
+     * @param myOptionContent 사용자가 선택한 옵션 내용
+     * @return VotePayload
+     */
+    public static VotePayload fromSummary(VoteSummary vote, List<OptionWithStatsPayload> optionStats, int totalResponses,
+                                          boolean hasVoted, String myOptionId, String myOptionContent) {
+        return VotePayload.builder()
+                .id(vote.getId().toString())
+                .title(vote.getQuestion())
+                .category(vote.getCategory())
+                .finishedAt(vote.getFinishedAt().format(DateTimeFormatter.ISO_LOCAL_DATE))
+                .status(vote.getStatus().name())
+                .closureType(vote.getClosureType() != null ? vote.getClosureType().name() : Vote.ClosureType.DEFAULT.name())
+                .participantThreshold(vote.getParticipantThreshold())
+                .totalResponses(totalResponses)
+                .options(optionStats)
+                .hasVoted(hasVoted)
+                .myOptionId(myOptionId)
+                .myOptionContent(myOptionContent)
+                .build();
+    }
 }
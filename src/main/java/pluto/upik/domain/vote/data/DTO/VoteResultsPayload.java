@@ -0,0 +1,24 @@
+package pluto.upik.domain.vote.data.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 실시간 투표 결과 메시지
+ * voteResults 구독으로 전달되며, 노드 간 Redis Pub/Sub 메시지 본문으로도 사용됩니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VoteResultsPayload {
+
+    private String voteId;
+    private int totalResponses;
+    private List<OptionWithStatsPayload> options;
+    private long publishedAt;
+}
@@ -0,0 +1,38 @@
+package pluto.upik.domain.vote.data.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import pluto.upik.domain.vote.data.model.Vote;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * 투표 페이로드 구성에 필요한 컬럼만 담는 조회 전용 DTO
+ * JPQL 생성자 표현식으로 직접 생성되므로 영속성 컨텍스트에 엔티티가 적재되지 않습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class VoteSummary {
+
+    private final UUID id;
+    private final String question;
+    private final String category;
+    private final Vote.Status status;
+    private final LocalDate finishedAt;
+    private final Vote.ClosureType closureType;
+    private final Integer participantThreshold;
+
+    /**
+     * 투표 생성자 이름 (상세 조회에서만 채워집니다)
+     */
+    private final String creatorName;
+
+    /**
+     * 목록 조회용 생성자. 생성자 이름은 조회하지 않습니다.
+     */
+    public VoteSummary(UUID id, String question, String category, Vote.Status status, LocalDate finishedAt,
+                       Vote.ClosureType closureType, Integer participantThreshold) {
+        this(id, question, category, status, finishedAt, closureType, participantThreshold, null);
+    }
+}
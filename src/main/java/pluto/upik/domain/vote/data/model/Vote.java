@@ -9,7 +9,10 @@ import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 import pluto.upik.shared.oauth2jwt.entity.User;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.UUID;
 
 /**
@@ -82,6 +85,31 @@ public class Vote {
         this.finishedAt = finishedAt;
     }
 
+    /**
+     * 투표 마감 시각
+     * 생성(또는 재개) 시각에 진행 기간을 더한 시각이며({@link #deadlineAfter(LocalDateTime, int)}),
+     * 이 시각이 지나면 지연 큐에 의해 종료되고 응답도 받지 않습니다({@link #isPastDeadline(LocalDateTime)}).
+     * 종료일({@link #finishedAt})은 이 시각의 날짜입니다.
+     */
+    @Column(name = "deadline_at", columnDefinition = "DATETIME(6)")
+    private LocalDateTime deadlineAt;
+
+    /**
+     * 투표 마감 시각을 설정합니다.
+     *
+     * @param deadlineAt 설정할 마감 시각
+     */
+    public void setDeadlineAt(LocalDateTime deadlineAt) {
+        this.deadlineAt = deadlineAt;
+    }
+
+    /**
+     * 투표가 실제로 종료 처리된 시각
+     * 같은 종료 작업에서 닫힌 투표는 같은 값을 가집니다.
+     */
+    @Column(name = "closed_at", columnDefinition = "DATETIME(6)")
+    private LocalDateTime closedAt;
+
     /**
      * 투표 종료 타입
      */
@@ -114,6 +142,38 @@ public class Vote {
         this.participantThreshold = participantThreshold;
     }
 
+    /**
+     * 총 응답 수
+     * vote_option_tally 합계를 주기적으로 반영하는 비정규화 컬럼으로, 참여순 목록 정렬에 사용합니다.
+     * 엔티티 저장으로 덮어쓰지 않도록 DB에서만 갱신합니다.
+     */
+    @Column(name = "response_count", insertable = false, updatable = false)
+    private long responseCount;
+
+    /**
+     * 종료율 (response_count / participant_threshold)
+     * DB 생성 컬럼이며 종료율순 목록 정렬에만 사용합니다.
+     */
+    @Column(name = "completion_rate", insertable = false, updatable = false)
+    private BigDecimal completionRate;
+
+    /**
+     * 투표 생성 시각
+     */
+    @Column(name = "created_at", columnDefinition = "DATETIME(6)", updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 엔티티 생성 전 호출되는 메서드
+     * 생성 시각이 없으면 현재 시각으로 설정합니다.
+     */
+    @PrePersist
+    public void prePersist() {
+        if (this.createdAt == null) {
+            this.createdAt = LocalDateTime.now();
+        }
+    }
+
     /**
      * 가이드 생성 여부
      * 투표 종료 후 가이드가 생성되었는지 여부를 나타냅니다.
@@ -155,6 +215,38 @@ public class Vote {
         return currentDate.isAfter(finishedAt);
     }
     
+    /**
+     * 투표의 실제 마감 시각을 반환합니다.
+     * 마감 시각이 없는 기존 투표는 종료일 다음 날 0시를 마감 시각으로 봅니다.
+     *
+     * @return 마감 시각
+     */
+    public LocalDateTime getEffectiveDeadline() {
+        return deadlineAt != null ? deadlineAt : finishedAt.plusDays(1).atStartOfDay();
+    }
+
+    /**
+     * 마감 시각이 지났는지 확인합니다.
+     *
+     * @param now 현재 시각
+     * @return 마감 시각 이후이면 true
+     */
+    public boolean isPastDeadline(LocalDateTime now) {
+        return !now.isBefore(getEffectiveDeadline());
+    }
+
+    /**
+     * 시작 시각과 진행 일수로 마감 시각을 계산합니다.
+     * 모든 투표가 같은 시각에 몰려 마감되지 않도록 시작 시각의 시:분:초를 그대로 유지합니다.
+     *
+     * @param openedAt 투표 생성 또는 재개 시각
+     * @param days 진행 일수
+     * @return 마감 시각
+     */
+    public static LocalDateTime deadlineAfter(LocalDateTime openedAt, int days) {
+        return openedAt.truncatedTo(ChronoUnit.MICROS).plusDays(days);
+    }
+
     /**
      * 투표가 종료되었는지 확인 (모든 조건 고려)
      * 
@@ -176,7 +268,11 @@ public class Vote {
                 ", category='" + category + '\'' +
                 ", status=" + status +
                 ", finishedAt=" + finishedAt +
+                ", deadlineAt=" + deadlineAt +
+                ", closedAt=" + closedAt +
                 ", participantThreshold=" + participantThreshold +
+                ", responseCount=" + responseCount +
+                ", createdAt=" + createdAt +
                 ", guideGenerated=" + guideGenerated +
                 '}';
     }
@@ -0,0 +1,52 @@
+package pluto.upik.domain.vote.data.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 투표별 연관 투표 엔티티 (읽기 모델)
+ * 같은 사용자가 함께 참여한 수와 카테고리 일치 여부로 계산한 점수 상위 N개만 저장하며,
+ * 추천 조회 시 vote_response를 훑지 않고 기준 투표의 행만 읽기 위함입니다.
+ */
+@Entity
+@Table(name = "vote_related")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class VoteRelated {
+
+    /**
+     * 복합 키 (투표 ID + 연관 투표 ID)
+     */
+    @EmbeddedId
+    private VoteRelatedId id;
+
+    /**
+     * 연관 점수 (공동 참여자 수 + 카테고리 일치 가중치)
+     */
+    @Column(name = "score", nullable = false)
+    private double score;
+
+    /**
+     * 두 투표에 모두 참여한 사용자 수
+     */
+    @Column(name = "co_participants", nullable = false)
+    private long coParticipants;
+
+    /**
+     * 마지막 계산 시각
+     */
+    @Column(name = "updated_at", columnDefinition = "DATETIME(6)", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,42 @@
+package pluto.upik.domain.vote.data.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * 연관 투표의 복합 키 클래스 (투표 ID + 연관 투표 ID)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode
+@ToString
+@Embeddable
+public class VoteRelatedId implements Serializable {
+
+    /**
+     * 기준 투표 ID
+     */
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "vote_id", columnDefinition = "BINARY(16)", nullable = false)
+    private UUID voteId;
+
+    /**
+     * 연관 투표 ID
+     */
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "related_vote_id", columnDefinition = "BINARY(16)", nullable = false)
+    private UUID relatedVoteId;
+}
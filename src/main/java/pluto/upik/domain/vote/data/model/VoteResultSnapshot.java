@@ -0,0 +1,60 @@
+package pluto.upik.domain.vote.data.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 종료된 투표의 최종 결과 스냅샷 엔티티
+ * 투표마다 하나만 존재하며(투표 ID가 기본 키), 생성된 뒤에는 변경되지 않습니다.
+ * 투표가 다시 열리면 삭제되고, 다시 종료될 때 새로 생성됩니다.
+ */
+@Entity
+@Table(name = "vote_result_snapshot")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class VoteResultSnapshot {
+
+    /**
+     * 투표 ID (기본 키)
+     */
+    @Id
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "vote_id", columnDefinition = "BINARY(16)")
+    private UUID voteId;
+
+    /**
+     * 최종 총 응답 수
+     */
+    @Column(name = "total_responses", nullable = false)
+    private long totalResponses;
+
+    /**
+     * 옵션별 최종 결과 (OptionWithStatsPayload 목록 JSON)
+     */
+    @Column(name = "results", columnDefinition = "TEXT", nullable = false)
+    private String results;
+
+    /**
+     * 투표 종료 시각
+     */
+    @Column(name = "closed_at", columnDefinition = "DATETIME(6)")
+    private LocalDateTime closedAt;
+
+    /**
+     * 스냅샷 생성 시각
+     */
+    @Column(name = "created_at", columnDefinition = "DATETIME(6)", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,20 @@
+package pluto.upik.domain.vote.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.UUID;
+
+/**
+ * 투표가 종료되었을 때 발행되는 이벤트
+ * 투표마다 한 번만 발행되며, 종료 트랜잭션 안에서 가이드 생성 작업이 등록됩니다.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class VoteClosedEvent {
+
+    private final UUID voteId;
+    private final String category;
+}
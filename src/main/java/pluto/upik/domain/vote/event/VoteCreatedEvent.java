@@ -0,0 +1,19 @@
+package pluto.upik.domain.vote.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.UUID;
+
+/**
+ * 투표가 생성되었을 때 발행되는 이벤트
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class VoteCreatedEvent {
+
+    private final UUID voteId;
+    private final String category;
+}
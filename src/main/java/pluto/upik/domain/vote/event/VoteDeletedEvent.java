@@ -0,0 +1,21 @@
+package pluto.upik.domain.vote.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.UUID;
+
+/**
+ * 투표가 삭제되었을 때 발행되는 이벤트
+ * 삭제 직전의 진행 중 여부를 함께 전달합니다.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class VoteDeletedEvent {
+
+    private final UUID voteId;
+    private final String category;
+    private final boolean open;
+}
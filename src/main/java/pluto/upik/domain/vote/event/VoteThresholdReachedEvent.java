@@ -0,0 +1,21 @@
+package pluto.upik.domain.vote.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.UUID;
+
+/**
+ * 투표의 응답 수가 참여자 수 기준에 도달했을 때 발행되는 이벤트
+ * 응답을 저장한 트랜잭션 안에서 발행되며, 커밋 이후 비동기로 투표 종료가 처리됩니다.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class VoteThresholdReachedEvent {
+
+    private final UUID voteId;
+    private final long participantCount;
+    private final int participantThreshold;
+}
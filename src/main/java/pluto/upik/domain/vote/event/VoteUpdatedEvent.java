@@ -0,0 +1,19 @@
+package pluto.upik.domain.vote.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.UUID;
+
+/**
+ * 투표 상세 정보(상태, 종료일, 꼬리 질문 등)가 변경되었을 때 발행되는 이벤트
+ * 응답 수 변경은 {@link pluto.upik.domain.voteResponse.event.VoteResponsesCreatedEvent}, 종료는 {@link VoteClosedEvent}로 따로 전달됩니다.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class VoteUpdatedEvent {
+
+    private final UUID voteId;
+}
@@ -0,0 +1,85 @@
+package pluto.upik.domain.vote.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+
+/**
+ * Redis 정렬 집합 기반 투표 마감 지연 큐
+ *
+ * {@code vote:deadlines}에 투표 ID를 마감 시각(epoch millis)을 점수로 저장합니다.
+ * 마감이 지난 투표는 조회와 동시에 집합에서 제거되므로 여러 노드가 폴링해도 한 노드만 가져갑니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class VoteDeadlineRedisRepository {
+
+    private static final String KEY = "vote:deadlines";
+
+    /**
+     * 마감이 지난 투표를 최대 개수만큼 꺼내고 집합에서 제거합니다.
+     * KEYS[1] = 지연 큐 키, ARGV[1] = 현재 시각(epoch millis), ARGV[2] = 최대 개수
+     */
+    private static final RedisScript<List> POP_DUE = new DefaultRedisScript<>(
+            "local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2]) " +
+            "if #due > 0 then redis.call('ZREM', KEYS[1], unpack(due)) end " +
+            "return due", List.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 투표의 마감 시각을 등록합니다. 이미 등록된 투표는 마감 시각이 갱신됩니다.
+     *
+     * @param voteId 투표 ID
+     * @param deadlineMillis 마감 시각 (epoch millis)
+     */
+    public void schedule(UUID voteId, long deadlineMillis) {
+        redisTemplate.opsForZSet().add(KEY, voteId.toString(), deadlineMillis);
+    }
+
+    /**
+     * 여러 투표의 마감 시각을 한 번에 등록합니다.
+     *
+     * @param deadlines 투표 ID → 마감 시각 (epoch millis)
+     */
+    public void scheduleAll(Map<UUID, Long> deadlines) {
+        if (deadlines.isEmpty()) {
+            return;
+        }
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        deadlines.forEach((id, deadline) ->
+                tuples.add(ZSetOperations.TypedTuple.of(id.toString(), deadline.doubleValue())));
+        redisTemplate.opsForZSet().add(KEY, tuples);
+    }
+
+    /**
+     * 투표를 지연 큐에서 제거합니다.
+     *
+     * @param voteId 투표 ID
+     */
+    public void cancel(UUID voteId) {
+        redisTemplate.opsForZSet().remove(KEY, voteId.toString());
+    }
+
+    /**
+     * 마감이 지난 투표를 꺼냅니다.
+     *
+     * @param nowMillis 현재 시각 (epoch millis)
+     * @param limit 최대 개수
+     * @return 마감이 지난 투표 ID 목록 (마감 시각 순)
+     */
+    @SuppressWarnings("unchecked")
+    public List<UUID> popDue(long nowMillis, int limit) {
+        List<Object> due = redisTemplate.execute(POP_DUE, List.of(KEY),
+                String.valueOf(nowMillis), String.valueOf(limit));
+        if (due == null) {
+            return Collections.emptyList();
+        }
+        return due.stream().map(value -> UUID.fromString(value.toString())).toList();
+    }
+}
@@ -0,0 +1,198 @@
+package pluto.upik.domain.vote.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Redis 해시 기반 투표 상세 문서 저장소
+ *
+ * 투표마다 {@code vote:doc:{voteId}} 해시 하나를 두고, {@code doc} 필드에 사용자와 무관한 상세 정보(JSON),
+ * {@code total} 필드에 총 응답 수, 옵션 ID 필드에 옵션별 응답 수를 저장합니다.
+ * 상세 조회는 HGETALL 한 번으로 끝나며, 응답 수는 HINCRBY로, 상세 정보는 {@code doc} 필드 교체로 갱신됩니다.
+ * 키가 없는 투표의 갱신은 무시되며, 조회 시 DB에서 적재됩니다.
+ * 진행 중인 투표의 문서는 {@link #DEFAULT_TTL} 후 만료되고, 종료된 투표의 문서는 결과가 고정되어 만료 없이 유지됩니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class VoteDetailRedisRepository {
+
+    public static final String DOC_FIELD = "doc";
+    public static final String TOTAL_FIELD = "total";
+    private static final String KEY_PREFIX = "vote:doc:";
+    public static final Duration DEFAULT_TTL = Duration.ofDays(1);
+
+    /**
+     * 키가 존재하는 문서에 대해서만 옵션 응답 수와 총 응답 수를 함께 증감합니다. 여러 문서를 한 번에 처리합니다.
+     * KEYS = 문서 키 목록, ARGV[1] = 부호(1 또는 -1), 이후 키마다 옵션 수 n과 n개의 옵션 필드, 증감량 쌍
+     */
+    private static final RedisScript<Long> INCREMENT_ALL_IF_EXISTS = new DefaultRedisScript<>(
+            "local sign = tonumber(ARGV[1]) " +
+            "local pos = 2 " +
+            "local updated = 0 " +
+            "for i = 1, #KEYS do " +
+            "  local n = tonumber(ARGV[pos]) " +
+            "  pos = pos + 1 " +
+            "  if redis.call('EXISTS', KEYS[i]) == 1 then " +
+            "    local sum = 0 " +
+            "    for j = 1, n do " +
+            "      local delta = sign * tonumber(ARGV[pos + 1]) " +
+            "      redis.call('HINCRBY', KEYS[i], ARGV[pos], delta) " +
+            "      sum = sum + delta " +
+            "      pos = pos + 2 " +
+            "    end " +
+            "    redis.call('HINCRBY', KEYS[i], 'total', sum) " +
+            "    updated = updated + 1 " +
+            "  else " +
+            "    pos = pos + n * 2 " +
+            "  end " +
+            "end " +
+            "return updated", Long.class);
+
+    /**
+     * 키가 존재할 때만 상세 정보 필드를 교체합니다. 응답 수 필드는 그대로 둡니다.
+     * KEYS[1] = 문서 키, ARGV[1] = 상세 정보 JSON
+     */
+    private static final RedisScript<Long> REPLACE_DOC_IF_EXISTS = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+            "  redis.call('HSET', KEYS[1], 'doc', ARGV[1]) " +
+            "  return 1 " +
+            "end " +
+            "return 0", Long.class);
+
+    /**
+     * 키가 없을 때만 문서 전체를 적재합니다. TTL이 0이면 만료를 설정하지 않습니다.
+     * KEYS[1] = 문서 키, ARGV[1] = TTL(초), ARGV[2..] = field, value 쌍
+     */
+    private static final RedisScript<Long> LOAD_IF_ABSENT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+            "for i = 2, #ARGV, 2 do redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+            "if tonumber(ARGV[1]) > 0 then redis.call('EXPIRE', KEYS[1], ARGV[1]) end " +
+            "return 1", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 투표 상세 문서를 조회합니다.
+     *
+     * @param voteId 투표 ID
+     * @return 필드 → 값, 적재되지 않았으면 빈 맵
+     */
+    public Map<String, String> find(UUID voteId) {
+        Map<Object, Object> hash = redisTemplate.opsForHash().entries(key(voteId));
+        Map<String, String> fields = new HashMap<>();
+        hash.forEach((field, value) -> fields.put(field.toString(), value.toString()));
+        return fields;
+    }
+
+    /**
+     * 여러 투표 문서의 총 응답 수를 한 번의 파이프라인으로 조회합니다.
+     *
+     * @param voteIds 투표 ID 목록
+     * @return 투표 ID → 총 응답 수 (문서가 적재된 투표만 포함)
+     */
+    public Map<UUID, Long> findTotals(Collection<UUID> voteIds) {
+        List<UUID> ids = new ArrayList<>(voteIds);
+        if (ids.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (UUID id : ids) {
+                stringConnection.hGet(key(id), TOTAL_FIELD);
+            }
+            return null;
+        });
+
+        Map<UUID, Long> totals = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Object result = results.get(i);
+            if (result != null) {
+                totals.put(ids.get(i), Long.parseLong(result.toString()));
+            }
+        }
+        return totals;
+    }
+
+    /**
+     * 문서가 없을 때만 상세 정보와 응답 수를 적재합니다.
+     *
+     * @param voteId 투표 ID
+     * @param doc 상세 정보 JSON
+     * @param optionCounts 옵션 ID → 응답 수
+     * @param total 총 응답 수
+     * @param ttl 만료 시간, null이면 만료 없이 유지
+     * @return 적재했으면 true, 이미 존재했으면 false
+     */
+    public boolean loadIfAbsent(UUID voteId, String doc, Map<UUID, Long> optionCounts, long total, Duration ttl) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(ttl != null ? ttl.toSeconds() : 0));
+        args.add(DOC_FIELD);
+        args.add(doc);
+        args.add(TOTAL_FIELD);
+        args.add(String.valueOf(total));
+        optionCounts.forEach((optionId, count) -> {
+            args.add(optionId.toString());
+            args.add(String.valueOf(count));
+        });
+        Long loaded = redisTemplate.execute(LOAD_IF_ABSENT, List.of(key(voteId)), args.toArray());
+        return loaded != null && loaded == 1L;
+    }
+
+    /**
+     * 문서가 있을 때만 상세 정보를 교체합니다.
+     *
+     * @param voteId 투표 ID
+     * @param doc 상세 정보 JSON
+     * @return 교체했으면 true, 문서가 없었으면 false
+     */
+    public boolean replaceDocIfExists(UUID voteId, String doc) {
+        Long replaced = redisTemplate.execute(REPLACE_DOC_IF_EXISTS, List.of(key(voteId)), doc);
+        return replaced != null && replaced == 1L;
+    }
+
+    /**
+     * 문서가 있는 투표에 대해서만 총 응답 수와 옵션 응답 수를 스크립트 한 번으로 증감합니다.
+     *
+     * @param counts 투표 ID → 옵션 ID → 응답 수
+     * @param sign 1이면 증가, -1이면 감소
+     */
+    public void incrementAll(Map<UUID, Map<UUID, Long>> counts, int sign) {
+        if (counts.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(counts.size());
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(sign));
+        counts.forEach((voteId, optionCounts) -> {
+            keys.add(key(voteId));
+            args.add(String.valueOf(optionCounts.size()));
+            optionCounts.forEach((optionId, count) -> {
+                args.add(optionId.toString());
+                args.add(String.valueOf(count));
+            });
+        });
+        redisTemplate.execute(INCREMENT_ALL_IF_EXISTS, keys, args.toArray());
+    }
+
+    /**
+     * 투표 상세 문서를 삭제합니다.
+     *
+     * @param voteId 투표 ID
+     */
+    public void delete(UUID voteId) {
+        redisTemplate.unlink(key(voteId));
+    }
+
+    private String key(UUID voteId) {
+        return KEY_PREFIX + voteId;
+    }
+}
@@ -0,0 +1,107 @@
+package pluto.upik.domain.vote.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * 관리자 내보내기용 JDBC 저장소
+ *
+ * 결과를 한 번에 적재하지 않도록 읽기 전용, 전방향(forward-only) 커서로 조회하고
+ * fetchSize만큼씩 받아 행 단위로 콜백에 넘깁니다. (MariaDB 드라이버는 fetchSize > 0이면 결과를 스트리밍합니다)
+ * 엔티티를 만들지 않으므로 행 수와 관계없이 메모리 사용량이 일정합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class VoteExportJdbcRepository {
+
+    private static final int FETCH_SIZE = 1000;
+
+    private static final String RESULTS_SQL =
+            "SELECT v.id AS vote_id, v.question, v.category, v.status, v.finished_at, v.closed_at, " +
+            "       o.id AS option_id, o.content AS option_content, " +
+            "       (SELECT COALESCE(SUM(t.response_count), 0) FROM vote_option_tally t WHERE t.option_id = o.id) AS response_count " +
+            "FROM vote v " +
+            "JOIN `option` o ON o.vote_id = v.id ";
+
+    private static final String ACTIVE_CONDITION =
+            "WHERE v.status = 'OPEN' AND v.finished_at > ? ";
+
+    private static final String RESPONSES_SQL =
+            "SELECT r.id, r.user_id, r.vote_id, r.option_id, r.created_at FROM vote_response r ";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 투표별, 옵션별 결과 행을 스트리밍으로 조회합니다.
+     *
+     * @param includeExpired 종료된 투표 포함 여부
+     * @param handler 행 처리 콜백
+     */
+    public void streamResults(boolean includeExpired, RowCallbackHandler handler) {
+        String sql = RESULTS_SQL + (includeExpired ? "" : ACTIVE_CONDITION) + "ORDER BY v.id, o.id";
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = prepare(connection, sql);
+            if (!includeExpired) {
+                ps.setDate(1, Date.valueOf(LocalDate.now()));
+            }
+            return ps;
+        }, handler);
+    }
+
+    /**
+     * 투표 응답 행을 스트리밍으로 조회합니다.
+     *
+     * @param voteId 투표 ID (null이면 전체 응답)
+     * @param handler 행 처리 콜백
+     */
+    public void streamResponses(UUID voteId, RowCallbackHandler handler) {
+        String sql = RESPONSES_SQL + (voteId != null ? "WHERE r.vote_id = ?" : "");
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = prepare(connection, sql);
+            if (voteId != null) {
+                ps.setBytes(1, toBytes(voteId));
+            }
+            return ps;
+        }, handler);
+    }
+
+    /**
+     * BINARY(16) 컬럼 값을 UUID로 변환합니다.
+     *
+     * @param rs 결과 집합
+     * @param column 컬럼 이름
+     * @return UUID, 값이 없으면 null
+     */
+    public static UUID getUuid(ResultSet rs, String column) throws SQLException {
+        byte[] bytes = rs.getBytes(column);
+        if (bytes == null) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    private PreparedStatement prepare(Connection connection, String sql) throws SQLException {
+        PreparedStatement ps = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        ps.setFetchSize(FETCH_SIZE);
+        return ps;
+    }
+
+    private byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
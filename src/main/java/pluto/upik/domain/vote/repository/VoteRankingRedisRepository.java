@@ -0,0 +1,214 @@
+package pluto.upik.domain.vote.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Redis 정렬 집합 기반 투표 인기 순위 저장소
+ *
+ * 응답 수를 점수로 하는 두 개의 정렬 집합을 유지합니다.
+ * {@code vote:rank:all}에는 모든 투표가, {@code vote:rank:open}에는 진행 중인 투표만 들어 있습니다.
+ * 상위/하위 K개 조회는 ZREVRANGE/ZRANGE 한 번으로 처리됩니다.
+ * 빈 정렬 집합은 Redis에 남지 않으므로, 재구성이 끝났는지는 {@code vote:rank:built} 표시 키로 판단합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class VoteRankingRedisRepository {
+
+    private static final String ALL_KEY = "vote:rank:all";
+    private static final String OPEN_KEY = "vote:rank:open";
+    private static final String BUILT_KEY = "vote:rank:built";
+    private static final String REBUILD_LOCK_KEY = "vote:rank:rebuild:lock";
+
+    /**
+     * 잠금 값이 일치할 때만 삭제합니다.
+     * KEYS[1] = 잠금 키, ARGV[1] = 잠금 값
+     */
+    private static final RedisScript<Long> UNLOCK = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "  return redis.call('DEL', KEYS[1]) " +
+            "end " +
+            "return 0", Long.class);
+
+    /**
+     * 이미 순위에 등록된 집합에서만 점수를 증감합니다. 등록되지 않은 투표는 다음 재구성 때 반영됩니다.
+     * KEYS = 순위 키 목록, ARGV[1] = 부호(1 또는 -1), ARGV[2..] = 투표 ID, 증감량 쌍
+     */
+    private static final RedisScript<Long> INCREMENT_IF_PRESENT = new DefaultRedisScript<>(
+            "local sign = tonumber(ARGV[1]) " +
+            "local updated = 0 " +
+            "for i = 1, #KEYS do " +
+            "  for j = 2, #ARGV, 2 do " +
+            "    if redis.call('ZSCORE', KEYS[i], ARGV[j]) then " +
+            "      redis.call('ZINCRBY', KEYS[i], sign * tonumber(ARGV[j + 1]), ARGV[j]) " +
+            "      updated = updated + 1 " +
+            "    end " +
+            "  end " +
+            "end " +
+            "return updated", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 여러 투표의 응답 수 점수를 스크립트 한 번으로 증감합니다.
+     *
+     * @param counts 투표 ID → 응답 수
+     * @param sign 1이면 증가, -1이면 감소
+     */
+    public void incrementAll(Map<UUID, Long> counts, int sign) {
+        if (counts.isEmpty()) {
+            return;
+        }
+        List<String> args = new ArrayList<>(counts.size() * 2 + 1);
+        args.add(String.valueOf(sign));
+        counts.forEach((voteId, count) -> {
+            args.add(voteId.toString());
+            args.add(String.valueOf(count));
+        });
+        redisTemplate.execute(INCREMENT_IF_PRESENT, List.of(ALL_KEY, OPEN_KEY), args.toArray());
+    }
+
+    /**
+     * 투표를 순위에 등록합니다. 이미 등록된 투표의 점수는 변경하지 않습니다.
+     *
+     * @param voteId 투표 ID
+     * @param score 현재 응답 수
+     * @param open 진행 중 여부
+     */
+    public void add(UUID voteId, long score, boolean open) {
+        redisTemplate.opsForZSet().addIfAbsent(ALL_KEY, voteId.toString(), score);
+        if (open) {
+            redisTemplate.opsForZSet().addIfAbsent(OPEN_KEY, voteId.toString(), score);
+        }
+    }
+
+    /**
+     * 진행 중 순위에서 투표를 제거합니다.
+     *
+     * @param voteId 투표 ID
+     */
+    public void removeFromOpen(UUID voteId) {
+        redisTemplate.opsForZSet().remove(OPEN_KEY, voteId.toString());
+    }
+
+    /**
+     * 진행 중 순위에서 여러 투표를 한 번의 ZREM으로 제거합니다.
+     *
+     * @param voteIds 투표 ID 목록
+     */
+    public void removeFromOpen(Collection<UUID> voteIds) {
+        if (voteIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForZSet().remove(OPEN_KEY, voteIds.stream().map(UUID::toString).toArray());
+    }
+
+    /**
+     * 모든 순위에서 투표를 제거합니다.
+     *
+     * @param voteId 투표 ID
+     */
+    public void remove(UUID voteId) {
+        redisTemplate.opsForZSet().remove(ALL_KEY, voteId.toString());
+        redisTemplate.opsForZSet().remove(OPEN_KEY, voteId.toString());
+    }
+
+    /**
+     * 응답 수가 많은 순으로 투표 ID를 조회합니다.
+     *
+     * @param openOnly 진행 중인 투표만 조회할지 여부
+     * @param count 조회할 개수
+     * @return 투표 ID 목록
+     */
+    public List<UUID> findTop(boolean openOnly, int count) {
+        return toIds(redisTemplate.opsForZSet().reverseRange(key(openOnly), 0, count - 1));
+    }
+
+    /**
+     * 응답 수가 적은 순으로 투표 ID를 조회합니다.
+     *
+     * @param openOnly 진행 중인 투표만 조회할지 여부
+     * @param count 조회할 개수
+     * @return 투표 ID 목록
+     */
+    public List<UUID> findBottom(boolean openOnly, int count) {
+        return toIds(redisTemplate.opsForZSet().range(key(openOnly), 0, count - 1));
+    }
+
+    /**
+     * 순위가 한 번 이상 재구성되었는지 확인합니다. 진행 중인 투표가 없어 정렬 집합이 비어 있어도 true입니다.
+     *
+     * @return 재구성되었으면 true
+     */
+    public boolean isBuilt() {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(BUILT_KEY));
+    }
+
+    /**
+     * 재구성 잠금을 획득합니다. 여러 요청/노드가 동시에 전체 재구성을 수행하지 않도록 사용합니다.
+     *
+     * @param token 잠금 값 (해제 시 같은 값이 필요)
+     * @param ttl 잠금 만료 시간
+     * @return 획득했으면 true
+     */
+    public boolean tryLockRebuild(String token, Duration ttl) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(REBUILD_LOCK_KEY, token, ttl));
+    }
+
+    /**
+     * 자신이 획득한 재구성 잠금을 해제합니다.
+     *
+     * @param token 잠금 값
+     */
+    public void unlockRebuild(String token) {
+        redisTemplate.execute(UNLOCK, List.of(REBUILD_LOCK_KEY), token);
+    }
+
+    /**
+     * 순위 전체를 교체하고 재구성 완료를 표시합니다.
+     * 임시 키에 적재한 뒤 RENAME하여 조회 중에도 빈 순위가 보이지 않습니다.
+     *
+     * @param scores 투표 ID → 응답 수 (모든 투표)
+     * @param openVoteIds 진행 중인 투표 ID
+     */
+    public void replace(Map<UUID, Long> scores, Set<UUID> openVoteIds) {
+        replace(ALL_KEY, scores);
+        Map<UUID, Long> openScores = new HashMap<>();
+        openVoteIds.forEach(id -> openScores.put(id, scores.getOrDefault(id, 0L)));
+        replace(OPEN_KEY, openScores);
+        redisTemplate.opsForValue().set(BUILT_KEY, "1");
+    }
+
+    private void replace(String key, Map<UUID, Long> scores) {
+        if (scores.isEmpty()) {
+            redisTemplate.unlink(key);
+            return;
+        }
+        // 동시에 실행된 재구성이 서로의 임시 키를 덮어쓰지 않도록 실행마다 다른 키를 사용
+        String tempKey = key + ":rebuild:" + UUID.randomUUID();
+        redisTemplate.unlink(tempKey);
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        scores.forEach((id, score) ->
+                tuples.add(ZSetOperations.TypedTuple.of(id.toString(), score.doubleValue())));
+        redisTemplate.opsForZSet().add(tempKey, tuples);
+        redisTemplate.rename(tempKey, key);
+    }
+
+    private String key(boolean openOnly) {
+        return openOnly ? OPEN_KEY : ALL_KEY;
+    }
+
+    private List<UUID> toIds(Set<String> members) {
+        if (members == null) {
+            return Collections.emptyList();
+        }
+        return members.stream().map(UUID::fromString).toList();
+    }
+}
@@ -0,0 +1,78 @@
+package pluto.upik.domain.vote.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 연관 투표 재계산 상태 저장소
+ *
+ * {@code vote:related:watermark}에 다음 재계산에서 변경 여부를 확인할 구간의 시작 시각을 저장해,
+ * 재시작하거나 다른 노드가 실행해도 이어서 처리합니다.
+ * {@code vote:related:rebuild:lock}은 한 번에 한 노드만 재계산하도록 하는 잠금입니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class VoteRelatedRedisRepository {
+
+    private static final String WATERMARK_KEY = "vote:related:watermark";
+    private static final String REBUILD_LOCK_KEY = "vote:related:rebuild:lock";
+
+    /**
+     * 잠금 값이 일치할 때만 삭제합니다.
+     * KEYS[1] = 잠금 키, ARGV[1] = 잠금 값
+     */
+    private static final RedisScript<Long> UNLOCK = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "  return redis.call('DEL', KEYS[1]) " +
+            "end " +
+            "return 0", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 저장된 재계산 구간 시작 시각을 조회합니다.
+     *
+     * @return 구간 시작 시각, 저장된 적이 없으면 빈 값
+     */
+    public Optional<LocalDateTime> findWatermark() {
+        String value = redisTemplate.opsForValue().get(WATERMARK_KEY);
+        return Optional.ofNullable(value).map(LocalDateTime::parse);
+    }
+
+    /**
+     * 다음 재계산 구간 시작 시각을 저장합니다.
+     *
+     * @param watermark 구간 시작 시각
+     */
+    public void saveWatermark(LocalDateTime watermark) {
+        redisTemplate.opsForValue().set(WATERMARK_KEY, watermark.toString());
+    }
+
+    /**
+     * 재계산 잠금을 획득합니다.
+     *
+     * @param token 잠금 값 (해제 시 본인 확인용)
+     * @param ttl 잠금 유지 시간
+     * @return 획득했으면 true
+     */
+    public boolean tryLockRebuild(String token, Duration ttl) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(REBUILD_LOCK_KEY, token, ttl));
+    }
+
+    /**
+     * 자신이 획득한 재계산 잠금을 해제합니다.
+     *
+     * @param token 잠금 값
+     */
+    public void unlockRebuild(String token) {
+        redisTemplate.execute(UNLOCK, List.of(REBUILD_LOCK_KEY), token);
+    }
+}
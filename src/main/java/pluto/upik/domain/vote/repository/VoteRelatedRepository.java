@@ -0,0 +1,105 @@
+package pluto.upik.domain.vote.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import pluto.upik.domain.vote.data.DTO.VoteSummary;
+import pluto.upik.domain.vote.data.model.VoteRelated;
+import pluto.upik.domain.vote.data.model.VoteRelatedId;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 연관 투표 레포지토리
+ */
+@Repository
+public interface VoteRelatedRepository extends JpaRepository<VoteRelated, VoteRelatedId> {
+
+    /**
+     * 기준 투표의 연관 투표 중 진행 중인 투표의 요약을 점수 순으로 조회합니다.
+     * (vote_id, score) 인덱스 범위 하나와 연관 투표 기본 키 조회만 수행하며,
+     * 계산 이후 종료된 연관 투표는 다음 재계산 전까지 여기서 제외됩니다.
+     *
+     * @param voteId 기준 투표 ID
+     * @return 연관 투표 요약 목록 (점수 내림차순)
+     */
+    @Query("SELECT new pluto.upik.domain.vote.data.DTO.VoteSummary(v.id, v.question, v.category, v.status, v.finishedAt, v.closureType, v.participantThreshold) " +
+           "FROM VoteRelated r JOIN Vote v ON v.id = r.id.relatedVoteId " +
+           "WHERE r.id.voteId = :voteId AND v.status = pluto.upik.domain.vote.data.model.Vote.Status.OPEN " +
+           "ORDER BY r.score DESC, v.id DESC")
+    List<VoteSummary> findRelatedSummaries(@Param("voteId") UUID voteId);
+
+    /**
+     * 기준 투표의 연관 투표 ID를 조회합니다.
+     *
+     * @param voteId 기준 투표 ID
+     * @return 연관 투표 ID 목록
+     */
+    @Query("SELECT r.id.relatedVoteId FROM VoteRelated r WHERE r.id.voteId = :voteId")
+    List<UUID> findRelatedVoteIds(@Param("voteId") UUID voteId);
+
+    /**
+     * 기준 투표의 연관 투표를 모두 삭제합니다.
+     *
+     * @param voteId 기준 투표 ID
+     */
+    @Modifying
+    @Query(value = "DELETE FROM vote_related WHERE vote_id = :voteId", nativeQuery = true)
+    void deleteByVoteId(@Param("voteId") UUID voteId);
+
+    /**
+     * 투표가 기준이거나 연관 대상인 행을 모두 삭제합니다. 투표 삭제 시 사용합니다.
+     *
+     * @param voteId 투표 ID
+     */
+    @Modifying
+    @Query(value = "DELETE FROM vote_related WHERE vote_id = :voteId OR related_vote_id = :voteId", nativeQuery = true)
+    void deleteAllByVoteId(@Param("voteId") UUID voteId);
+
+    /**
+     * 기준 투표의 연관 투표 상위 N개를 계산해 저장합니다.
+     * 후보는 기준 투표 참여자가 함께 참여한 진행 중인 투표(공동 참여자 수)와 같은 카테고리의 최근 진행 중인 투표이며,
+     * 점수는 공동 참여자 수에 카테고리가 같으면 가중치를 더한 값입니다.
+     * 참여자가 많은 투표에서 자기 조인이 커지지 않도록, 공동 참여자 수는 (vote_id, user_id) 인덱스 순서로 읽은
+     * 참여자 최대 sampleSize명을 표본으로 셉니다.
+     * 호출 전에 {@link #deleteByVoteId(UUID)}로 기존 행을 삭제해야 합니다.
+     *
+     * @param voteId 기준 투표 ID
+     * @param categoryWeight 카테고리 일치 가중치
+     * @param limit 저장할 연관 투표 수
+     * @param sampleSize 공동 참여자 수를 셀 기준 투표 참여자 수 상한
+     * @param now 계산 시각
+     * @return 저장된 행 수
+     */
+    @Modifying
+    @Query(value = "INSERT INTO vote_related (vote_id, related_vote_id, score, co_participants, updated_at) " +
+           "SELECT :voteId, c.related_vote_id, SUM(c.co_participants) + MAX(c.same_category) * :categoryWeight, " +
+           "       SUM(c.co_participants), :now " +
+           "FROM (" +
+           "    SELECT o.vote_id AS related_vote_id, COUNT(*) AS co_participants, MAX(rv.category = v.category) AS same_category " +
+           "    FROM (SELECT user_id FROM vote_response WHERE vote_id = :voteId ORDER BY user_id LIMIT :sampleSize) a " +
+           "    JOIN vote_response o ON o.user_id = a.user_id AND o.vote_id <> :voteId " +
+           "    JOIN vote v ON v.id = :voteId " +
+           "    JOIN vote rv ON rv.id = o.vote_id " +
+           "    WHERE rv.status = 'OPEN' " +
+           "    GROUP BY o.vote_id " +
+           "    UNION ALL " +
+           "    (SELECT rv.id, 0, 1 " +
+           "     FROM vote v " +
+           "     JOIN vote rv ON rv.category = v.category AND rv.id <> v.id " +
+           "     WHERE v.id = :voteId AND rv.status = 'OPEN' " +
+           "     ORDER BY rv.created_at DESC " +
+           "     LIMIT :limit)" +
+           ") c " +
+           "GROUP BY c.related_vote_id " +
+           "ORDER BY 3 DESC, c.related_vote_id DESC " +
+           "LIMIT :limit",
+           nativeQuery = true)
+    int insertTopRelated(@Param("voteId") UUID voteId, @Param("categoryWeight") int categoryWeight,
+                         @Param("limit") int limit, @Param("sampleSize") int sampleSize,
+                         @Param("now") LocalDateTime now);
+}
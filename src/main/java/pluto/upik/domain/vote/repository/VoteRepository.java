@@ -1,13 +1,18 @@
 package pluto.upik.domain.vote.repository;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import pluto.upik.domain.vote.data.DTO.VoteSummary;
 import pluto.upik.domain.vote.data.model.Vote;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -53,6 +58,85 @@ public interface VoteRepository extends JpaRepository<Vote, UUID> {
     @Query("SELECT v FROM Vote v WHERE v.finishedAt > :currentDate AND v.status = pluto.upik.domain.vote.data.model.Vote.Status.OPEN")
     List<Vote> findActiveVotes(LocalDate currentDate);
 
+    /**
+     * 모든 투표의 요약을 조회합니다.
+     *
+     * @return 투표 요약 목록
+     */
+    @Query("SELECT new pluto.upik.domain.vote.data.DTO.VoteSummary(v.id, v.question, v.category, v.status, v.finishedAt, v.closureType, v.participantThreshold) " +
+           "FROM Vote v")
+    List<VoteSummary> findAllSummaries();
+
+    /**
+     * 종료 날짜가 지나지 않은 투표의 요약을 조회합니다.
+     *
+     * @param currentDate 현재 날짜
+     * @return 진행 중인 투표 요약 목록
+     */
+    @Query("SELECT new pluto.upik.domain.vote.data.DTO.VoteSummary(v.id, v.question, v.category, v.status, v.finishedAt, v.closureType, v.participantThreshold) " +
+           "FROM Vote v WHERE v.finishedAt > :currentDate AND v.status = pluto.upik.domain.vote.data.model.Vote.Status.OPEN")
+    List<VoteSummary> findActiveSummaries(@Param("currentDate") LocalDate currentDate);
+
+    /**
+     * 특정 사용자가 생성한 투표의 요약을 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 사용자가 생성한 투표 요약 목록
+     */
+    @Query("SELECT new pluto.upik.domain.vote.data.DTO.VoteSummary(v.id, v.question, v.category, v.status, v.finishedAt, v.closureType, v.participantThreshold) " +
+           "FROM Vote v WHERE v.user.id = :userId")
+    List<VoteSummary> findSummariesByUserId(@Param("userId") UUID userId);
+
+    /**
+     * 특정 사용자가 생성한 진행 중인 투표의 요약을 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @param currentDate 현재 날짜
+     * @return 사용자가 생성한 진행 중인 투표 요약 목록
+     */
+    @Query("SELECT new pluto.upik.domain.vote.data.DTO.VoteSummary(v.id, v.question, v.category, v.status, v.finishedAt, v.closureType, v.participantThreshold) " +
+           "FROM Vote v WHERE v.user.id = :userId AND v.finishedAt > :currentDate " +
+           "AND v.status = pluto.upik.domain.vote.data.model.Vote.Status.OPEN")
+    List<VoteSummary> findActiveSummariesByUserId(@Param("userId") UUID userId, @Param("currentDate") LocalDate currentDate);
+
+    /**
+     * 지정한 투표들의 요약을 조회합니다.
+     *
+     * @param ids 투표 ID 목록
+     * @return 투표 요약 목록 (순서는 보장되지 않습니다)
+     */
+    @Query("SELECT new pluto.upik.domain.vote.data.DTO.VoteSummary(v.id, v.question, v.category, v.status, v.finishedAt, v.closureType, v.participantThreshold) " +
+           "FROM Vote v WHERE v.id IN :ids")
+    List<VoteSummary> findSummariesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * 투표 상세 요약을 생성자 이름과 함께 한 번의 조인으로 조회합니다.
+     *
+     * @param id 투표 ID
+     * @return 투표 요약 (생성자 이름 포함)
+     */
+    @Query("SELECT new pluto.upik.domain.vote.data.DTO.VoteSummary(v.id, v.question, v.category, v.status, v.finishedAt, " +
+           "v.closureType, v.participantThreshold, u.username) " +
+           "FROM Vote v LEFT JOIN v.user u WHERE v.id = :id")
+    Optional<VoteSummary> findDetailSummaryById(@Param("id") UUID id);
+
+    /**
+     * 모든 투표의 ID를 조회합니다.
+     *
+     * @return 투표 ID 목록
+     */
+    @Query("SELECT v.id FROM Vote v")
+    List<UUID> findAllIds();
+
+    /**
+     * 진행 중인 투표의 ID를 조회합니다.
+     *
+     * @param currentDate 현재 날짜
+     * @return 진행 중인 투표 ID 목록
+     */
+    @Query("SELECT v.id FROM Vote v WHERE v.finishedAt > :currentDate AND v.status = pluto.upik.domain.vote.data.model.Vote.Status.OPEN")
+    List<UUID> findActiveVoteIds(LocalDate currentDate);
+
     /**
      * 종료 날짜가 지난 투표 목록을 조회합니다.
      *
@@ -80,38 +164,221 @@ public interface VoteRepository extends JpaRepository<Vote, UUID> {
     
     /**
      * 생성일 기준으로 정렬된 투표 목록을 페이지네이션하여 조회합니다.
+     * 정렬: createdAt 내림차순, id 내림차순 (idx_vote_created_at_id 인덱스 사용)
      *
      * @param pageable 페이지 정보
-     * @return 정렬된 투표 페이지
+     * @return 정렬된 투표 요약 목록
      */
-    @Query("SELECT v FROM Vote v ORDER BY v.finishedAt DESC")
-    Page<Vote> findAllByOrderByCreatedAtDesc(Pageable pageable);
+    @Query("SELECT new pluto.upik.domain.vote.data.DTO.VoteSummary(v.id, v.question, v.category, v.status, v.finishedAt, v.closureType, v.participantThreshold) " +
+           "FROM Vote v ORDER BY v.createdAt DESC, v.id DESC")
+    List<VoteSummary> findAllByOrderByCreatedAtDesc(Pageable pageable);
     
     /**
      * 참여율 기준으로 정렬된 투표 목록을 페이지네이션하여 조회합니다.
+     * 정렬: responseCount 내림차순, id 내림차순 (idx_vote_response_count_id 인덱스 사용)
      *
      * @param pageable 페이지 정보
-     * @return 정렬된 투표 페이지
+     * @return 정렬된 투표 요약 목록
      */
-    @Query(value = "SELECT v.* FROM vote v " +
-           "LEFT JOIN (SELECT vote_id, COUNT(*) as response_count FROM vote_response GROUP BY vote_id) vr " +
-           "ON v.id = vr.vote_id " +
-           "ORDER BY vr.response_count DESC NULLS LAST", 
-           nativeQuery = true)
-    Page<Vote> findAllOrderByParticipationRate(Pageable pageable);
+    @Query("SELECT new pluto.upik.domain.vote.data.DTO.VoteSummary(v.id, v.question, v.category, v.status, v.finishedAt, v.closureType, v.participantThreshold) " +
+           "FROM Vote v ORDER BY v.responseCount DESC, v.id DESC")
+    List<VoteSummary> findAllOrderByParticipationRate(Pageable pageable);
     
     /**
      * 종료율 기준으로 정렬된 투표 목록을 페이지네이션하여 조회합니다.
-     * 종료율 = 현재 참여자 수 / 종료 기준 참여자 수
+     * 종료율 = 현재 참여자 수 / 종료 기준 참여자 수이며, response_count로 계산되는 생성 컬럼 completion_rate를 사용합니다.
+     * 정렬: completion_rate 내림차순, id 내림차순 (idx_vote_status_completion_rate 인덱스 사용)
      *
      * @param pageable 페이지 정보
-     * @return 정렬된 투표 페이지
+     * @return 정렬된 투표 요약 목록
+     */
+    @Query("SELECT new pluto.upik.domain.vote.data.DTO.VoteSummary(v.id, v.question, v.category, v.status, v.finishedAt, v.closureType, v.participantThreshold) " +
+           "FROM Vote v " +
+           "WHERE v.status = pluto.upik.domain.vote.data.model.Vote.Status.OPEN AND v.completionRate IS NOT NULL " +
+           "ORDER BY v.completionRate DESC, v.id DESC")
+    List<VoteSummary> findAllOrderByCompletionRate(Pageable pageable);
+
+    /**
+     * 지정한 투표들의 response_count를 vote_option_tally 샤드 합계로 갱신합니다.
+     * 절대값으로 덮어쓰므로 여러 번 실행되어도 결과가 같습니다.
+     *
+     * @param voteIds 투표 ID 목록
+     * @return 갱신된 행 수
      */
-    @Query(value = "SELECT v.* FROM vote v " +
-           "LEFT JOIN (SELECT vote_id, COUNT(*) as response_count FROM vote_response GROUP BY vote_id) vr " +
-           "ON v.id = vr.vote_id " +
-           "WHERE v.participant_threshold IS NOT NULL AND v.status = 'OPEN' " +
-           "ORDER BY (vr.response_count / v.participant_threshold) DESC NULLS LAST", 
+    @Modifying
+    @Query(value = "UPDATE vote v " +
+           "LEFT JOIN (SELECT vote_id, SUM(response_count) AS total FROM vote_option_tally " +
+           "           WHERE vote_id IN (:voteIds) GROUP BY vote_id) t ON t.vote_id = v.id " +
+           "SET v.response_count = COALESCE(t.total, 0) " +
+           "WHERE v.id IN (:voteIds)",
            nativeQuery = true)
-    Page<Vote> findAllOrderByCompletionRate(Pageable pageable);
+    int syncResponseCounts(@Param("voteIds") Collection<UUID> voteIds);
+
+    /**
+     * (finishedAt, id) 키셋 기준으로 커서 다음의 투표 목록을 조회합니다.
+     * 정렬: finishedAt 내림차순, id 내림차순 (idx_vote_finished_at_id 인덱스 사용)
+     *
+     * @param finishedAt 커서의 종료일
+     * @param id 커서의 투표 ID
+     * @param pageable 조회 개수 (offset은 항상 0)
+     * @return 커서 다음의 투표 요약 목록
+     */
+    @Query("SELECT new pluto.upik.domain.vote.data.DTO.VoteSummary(v.id, v.question, v.category, v.status, v.finishedAt, v.closureType, v.participantThreshold) " +
+           "FROM Vote v " +
+           "WHERE v.finishedAt < :finishedAt OR (v.finishedAt = :finishedAt AND v.id < :id) " +
+           "ORDER BY v.finishedAt DESC, v.id DESC")
+    List<VoteSummary> findPageAfter(@Param("finishedAt") LocalDate finishedAt, @Param("id") UUID id, Pageable pageable);
+
+    /**
+     * (finishedAt, id) 키셋 기준으로 커서 다음의 진행 중인 투표 목록을 조회합니다.
+     *
+     * @param currentDate 현재 날짜
+     * @param finishedAt 커서의 종료일
+     * @param id 커서의 투표 ID
+     * @param pageable 조회 개수 (offset은 항상 0)
+     * @return 커서 다음의 진행 중인 투표 요약 목록
+     */
+    @Query("SELECT new pluto.upik.domain.vote.data.DTO.VoteSummary(v.id, v.question, v.category, v.status, v.finishedAt, v.closureType, v.participantThreshold) " +
+           "FROM Vote v " +
+           "WHERE v.status = pluto.upik.domain.vote.data.model.Vote.Status.OPEN AND v.finishedAt > :currentDate " +
+           "AND (v.finishedAt < :finishedAt OR (v.finishedAt = :finishedAt AND v.id < :id)) " +
+           "ORDER BY v.finishedAt DESC, v.id DESC")
+    List<VoteSummary> findActivePageAfter(@Param("currentDate") LocalDate currentDate, @Param("finishedAt") LocalDate finishedAt,
+                                          @Param("id") UUID id, Pageable pageable);
+
+    /**
+     * (finishedAt, id) 키셋 기준으로 커서 다음의 특정 사용자가 생성한 투표 목록을 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @param finishedAt 커서의 종료일
+     * @param id 커서의 투표 ID
+     * @param pageable 조회 개수 (offset은 항상 0)
+     * @return 커서 다음의 투표 요약 목록
+     */
+    @Query("SELECT new pluto.upik.domain.vote.data.DTO.VoteSummary(v.id, v.question, v.category, v.status, v.finishedAt, v.closureType, v.participantThreshold) " +
+           "FROM Vote v WHERE v.user.id = :userId " +
+           "AND (v.finishedAt < :finishedAt OR (v.finishedAt = :finishedAt AND v.id < :id)) " +
+           "ORDER BY v.finishedAt DESC, v.id DESC")
+    List<VoteSummary> findPageByUserIdAfter(@Param("userId") UUID userId, @Param("finishedAt") LocalDate finishedAt,
+                                            @Param("id") UUID id, Pageable pageable);
+
+    /**
+     * (finishedAt, id) 키셋 기준으로 커서 다음의 특정 사용자가 생성한 진행 중인 투표 목록을 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @param currentDate 현재 날짜
+     * @param finishedAt 커서의 종료일
+     * @param id 커서의 투표 ID
+     * @param pageable 조회 개수 (offset은 항상 0)
+     * @return 커서 다음의 진행 중인 투표 요약 목록
+     */
+    @Query("SELECT new pluto.upik.domain.vote.data.DTO.VoteSummary(v.id, v.question, v.category, v.status, v.finishedAt, v.closureType, v.participantThreshold) " +
+           "FROM Vote v WHERE v.user.id = :userId " +
+           "AND v.status = pluto.upik.domain.vote.data.model.Vote.Status.OPEN AND v.finishedAt > :currentDate " +
+           "AND (v.finishedAt < :finishedAt OR (v.finishedAt = :finishedAt AND v.id < :id)) " +
+           "ORDER BY v.finishedAt DESC, v.id DESC")
+    List<VoteSummary> findActivePageByUserIdAfter(@Param("userId") UUID userId, @Param("currentDate") LocalDate currentDate,
+                                                  @Param("finishedAt") LocalDate finishedAt, @Param("id") UUID id,
+                                                  Pageable pageable);
+
+    /**
+     * (finishedAt, id) 키셋 기준으로 커서 다음의 특정 사용자가 응답하지 않은 투표 목록을 조회합니다.
+     * 응답 여부는 vote_response의 (user_id, vote_id) 유니크 인덱스에 대한 NOT EXISTS로 DB에서 제외합니다.
+     *
+     * @param userId 사용자 ID
+     * @param finishedAt 커서의 종료일
+     * @param id 커서의 투표 ID
+     * @param pageable 조회 개수 (offset은 항상 0)
+     * @return 커서 다음의 미응답 투표 요약 목록
+     */
+    @Query("SELECT new pluto.upik.domain.vote.data.DTO.VoteSummary(v.id, v.question, v.category, v.status, v.finishedAt, v.closureType, v.participantThreshold) " +
+           "FROM Vote v " +
+           "WHERE (v.finishedAt < :finishedAt OR (v.finishedAt = :finishedAt AND v.id < :id)) " +
+           "AND NOT EXISTS (SELECT 1 FROM VoteResponse vr WHERE vr.user.id = :userId AND vr.vote.id = v.id) " +
+           "ORDER BY v.finishedAt DESC, v.id DESC")
+    List<VoteSummary> findUnvotedPageAfter(@Param("userId") UUID userId, @Param("finishedAt") LocalDate finishedAt,
+                                           @Param("id") UUID id, Pageable pageable);
+
+    /**
+     * (finishedAt, id) 키셋 기준으로 커서 다음의 특정 사용자가 응답하지 않은 진행 중인 투표 목록을 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @param currentDate 현재 날짜
+     * @param finishedAt 커서의 종료일
+     * @param id 커서의 투표 ID
+     * @param pageable 조회 개수 (offset은 항상 0)
+     * @return 커서 다음의 미응답 진행 중인 투표 요약 목록
+     */
+    @Query("SELECT new pluto.upik.domain.vote.data.DTO.VoteSummary(v.id, v.question, v.category, v.status, v.finishedAt, v.closureType, v.participantThreshold) " +
+           "FROM Vote v " +
+           "WHERE v.status = pluto.upik.domain.vote.data.model.Vote.Status.OPEN AND v.finishedAt > :currentDate " +
+           "AND (v.finishedAt < :finishedAt OR (v.finishedAt = :finishedAt AND v.id < :id)) " +
+           "AND NOT EXISTS (SELECT 1 FROM VoteResponse vr WHERE vr.user.id = :userId AND vr.vote.id = v.id) " +
+           "ORDER BY v.finishedAt DESC, v.id DESC")
+    List<VoteSummary> findActiveUnvotedPageAfter(@Param("userId") UUID userId, @Param("currentDate") LocalDate currentDate,
+                                                 @Param("finishedAt") LocalDate finishedAt, @Param("id") UUID id,
+                                                 Pageable pageable);
+
+    /**
+     * 진행 중인 투표만 종료 상태로 변경합니다.
+     * 여러 노드나 스레드가 동시에 호출해도 한 번만 1을 반환하므로 종료 후속 처리를 정확히 한 번 수행할 수 있습니다.
+     *
+     * @param voteId 투표 ID
+     * @param closedAt 종료 처리 시각
+     * @return 변경된 행 수 (이미 종료되었거나 투표가 없으면 0)
+     */
+    @Modifying
+    @Query("UPDATE Vote v SET v.status = pluto.upik.domain.vote.data.model.Vote.Status.CLOSED, v.closedAt = :closedAt " +
+           "WHERE v.id = :voteId AND v.status = pluto.upik.domain.vote.data.model.Vote.Status.OPEN")
+    int closeIfOpen(@Param("voteId") UUID voteId, @Param("closedAt") LocalDateTime closedAt);
+
+    /**
+     * 마감 시각이 지난 진행 중인 투표를 한 번의 UPDATE로 종료합니다.
+     * 마감 시각이 없는 투표는 종료일이 지났는지로 판단합니다.
+     *
+     * @param currentDate 현재 날짜
+     * @param closedAt 종료 처리 시각 (마감 비교 기준이자 이번 작업에서 닫힌 투표를 식별하는 데 사용)
+     * @return 종료된 투표 수
+     */
+    @Modifying
+    @Query("UPDATE Vote v SET v.status = pluto.upik.domain.vote.data.model.Vote.Status.CLOSED, v.closedAt = :closedAt " +
+           "WHERE v.status = pluto.upik.domain.vote.data.model.Vote.Status.OPEN " +
+           "AND (v.deadlineAt <= :closedAt OR (v.deadlineAt IS NULL AND v.finishedAt < :currentDate))")
+    int closeExpired(@Param("currentDate") LocalDate currentDate, @Param("closedAt") LocalDateTime closedAt);
+
+    /**
+     * 진행 중인 투표의 ID, 마감 시각, 종료일을 조회합니다. 마감 지연 큐 적재에 사용됩니다.
+     *
+     * @return [voteId, deadlineAt, finishedAt] 목록
+     */
+    @Query("SELECT v.id, v.deadlineAt, v.finishedAt FROM Vote v " +
+           "WHERE v.status = pluto.upik.domain.vote.data.model.Vote.Status.OPEN")
+    List<Object[]> findOpenDeadlines();
+
+    /**
+     * 응답 수가 참여자 수 기준 이상인 진행 중인 투표를 한 번의 UPDATE로 종료합니다.
+     * 응답 수는 vote_option_tally 샤드를 투표별로 합산한 값과 조인해 비교합니다.
+     *
+     * @param closedAt 종료 처리 시각 (이번 작업에서 닫힌 투표를 식별하는 데 사용)
+     * @return 종료된 투표 수
+     */
+    @Modifying
+    @Query(value = "UPDATE vote v " +
+                   "JOIN (SELECT vote_id, SUM(response_count) AS total FROM vote_option_tally GROUP BY vote_id) t " +
+                   "ON t.vote_id = v.id " +
+                   "SET v.status = 'CLOSED', v.closed_at = :closedAt " +
+                   "WHERE v.status = 'OPEN' AND v.participant_threshold IS NOT NULL " +
+                   "AND t.total >= v.participant_threshold",
+           nativeQuery = true)
+    int closeByParticipantThreshold(@Param("closedAt") LocalDateTime closedAt);
+
+    /**
+     * 특정 종료 작업에서 닫힌 투표의 ID와 카테고리를 조회합니다.
+     *
+     * @param closedAt 종료 처리 시각
+     * @return [voteId, category] 목록
+     */
+    @Query("SELECT v.id, v.category FROM Vote v WHERE v.closedAt = :closedAt " +
+           "AND v.status = pluto.upik.domain.vote.data.model.Vote.Status.CLOSED")
+    List<Object[]> findIdAndCategoryByClosedAt(@Param("closedAt") LocalDateTime closedAt);
 }
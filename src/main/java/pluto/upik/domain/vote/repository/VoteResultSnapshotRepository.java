@@ -0,0 +1,36 @@
+package pluto.upik.domain.vote.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import pluto.upik.domain.vote.data.model.VoteResultSnapshot;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 투표 결과 스냅샷 레포지토리
+ */
+@Repository
+public interface VoteResultSnapshotRepository extends JpaRepository<VoteResultSnapshot, UUID> {
+
+    /**
+     * 스냅샷이 없을 때만 생성합니다. 같은 투표에 대해 동시에 호출되어도 먼저 기록된 스냅샷이 유지됩니다.
+     *
+     * @param voteId 투표 ID
+     * @param totalResponses 최종 총 응답 수
+     * @param results 옵션별 최종 결과 JSON
+     * @param closedAt 투표 종료 시각
+     * @param createdAt 스냅샷 생성 시각
+     * @return 생성되었으면 1, 이미 존재했으면 0
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO vote_result_snapshot (vote_id, total_responses, results, closed_at, created_at) " +
+           "VALUES (:voteId, :totalResponses, :results, :closedAt, :createdAt)",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("voteId") UUID voteId, @Param("totalResponses") long totalResponses,
+                       @Param("results") String results, @Param("closedAt") LocalDateTime closedAt,
+                       @Param("createdAt") LocalDateTime createdAt);
+}
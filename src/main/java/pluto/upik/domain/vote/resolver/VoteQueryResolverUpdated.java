@@ -4,8 +4,11 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.SchemaMapping;
 import org.springframework.stereotype.Controller;
+import pluto.upik.domain.vote.data.DTO.RelatedVotePayload;
+import pluto.upik.domain.vote.data.DTO.VoteConnection;
 import pluto.upik.domain.vote.data.DTO.VoteDetailPayload;
 import pluto.upik.domain.vote.data.DTO.VotePayload;
+import pluto.upik.domain.vote.service.VoteRelatedService;
 import pluto.upik.domain.vote.service.VoteServiceUpdated;
 import pluto.upik.shared.oauth2jwt.util.SecurityUtil;
 
@@ -17,6 +20,7 @@ import java.util.UUID;
 public class VoteQueryResolverUpdated {
 
     private final VoteServiceUpdated voteService;
+    private final VoteRelatedService voteRelatedService;
     private final SecurityUtil securityUtil;
 
     /**
@@ -52,6 +56,20 @@ public class VoteQueryResolverUpdated {
         return voteService.getVoteById(parseUuid(id, "id"), userId);
     }
 
+    /**
+     * 투표 상세의 연관 투표 목록을 반환합니다.
+     * 주기적으로 미리 계산된 목록을 읽으며, 필드를 요청한 경우에만 조회됩니다.
+     * 로그인한 사용자가 이미 참여한 투표는 제외됩니다.
+     *
+     * @param vote 투표 상세 정보
+     * @return 연관 투표 목록
+     */
+    @SchemaMapping(typeName = "VoteDetailPayload", field = "relatedVotes")
+    public List<RelatedVotePayload> relatedVotes(VoteDetailPayload vote) {
+        UUID userId = securityUtil.isAuthenticated() ? securityUtil.getCurrentUserId() : null;
+        return voteRelatedService.getRelatedVotes(UUID.fromString(vote.getId()), userId);
+    }
+
     /**
      * 가장 인기 있는 투표 3개를 반환합니다.
      *
@@ -99,6 +117,56 @@ public class VoteQueryResolverUpdated {
         return voteService.getMyVotes(userId, include, filterHasVoted);
     }
 
+    /**
+     * 모든 투표 목록을 커서 기반으로 한 페이지씩 반환합니다.
+     *
+     * @param first 조회할 개수 (기본값: 20)
+     * @param after 이전 페이지의 endCursor
+     * @param includeExpired 종료된 투표 포함 여부 (기본값: true)
+     * @param includeHasVoted 사용자가 투표한 항목 필터링 여부 (기본값: false)
+     * @return 투표 Connection
+     */
+    @SchemaMapping(typeName = "VoteQuery", field = "getAllVotesConnection")
+    public VoteConnection getAllVotesConnection(@Argument(name = "first") Integer first, @Argument(name = "after") String after, @Argument(name = "includeExpired") Boolean includeExpired, @Argument(name = "includeHasVoted") Boolean includeHasVoted) {
+        UUID userId = securityUtil.isAuthenticated() ? securityUtil.getCurrentUserId() : null;
+        int size = (first != null) ? first : 20;
+        boolean include = (includeExpired != null) ? includeExpired : true;
+        boolean filterHasVoted = (includeHasVoted != null) ? includeHasVoted : false;
+        return voteService.getVotesConnection(userId, size, after, include, filterHasVoted);
+    }
+
+    /**
+     * 현재 사용자가 생성한 투표 목록을 커서 기반으로 한 페이지씩 반환합니다.
+     *
+     * @param first 조회할 개수 (기본값: 20)
+     * @param after 이전 페이지의 endCursor
+     * @param includeExpired 종료된 투표 포함 여부 (기본값: true)
+     * @return 투표 Connection
+     */
+    @SchemaMapping(typeName = "VoteQuery", field = "getMyVotesConnection")
+    public VoteConnection getMyVotesConnection(@Argument(name = "first") Integer first, @Argument(name = "after") String after, @Argument(name = "includeExpired") Boolean includeExpired) {
+        UUID userId = securityUtil.getCurrentUserId();
+        int size = (first != null) ? first : 20;
+        boolean include = (includeExpired != null) ? includeExpired : true;
+        return voteService.getMyVotesConnection(userId, size, after, include);
+    }
+
+    /**
+     * 투표 목록을 정렬 기준에 따라 한 페이지씩 반환합니다.
+     *
+     * @param sortBy 정렬 기준 (date, participation, completion / 기본값: date)
+     * @param page 페이지 번호 (기본값: 0)
+     * @param size 페이지 크기 (기본값: 10)
+     * @return 정렬된 투표 목록
+     */
+    @SchemaMapping(typeName = "VoteQuery", field = "getVotesSorted")
+    public List<VotePayload> getVotesSorted(@Argument(name = "sortBy") String sortBy, @Argument(name = "page") Integer page, @Argument(name = "size") Integer size) {
+        UUID userId = securityUtil.isAuthenticated() ? securityUtil.getCurrentUserId() : null;
+        int pageNumber = (page != null) ? page : 0;
+        int pageSize = (size != null) ? size : 10;
+        return voteService.getVotesSorted(userId, sortBy, pageNumber, pageSize);
+    }
+
     private UUID parseUuid(String raw, String fieldName) {
         if (raw == null || raw.isBlank()) {
             throw new IllegalArgumentException(fieldName + " is required");
@@ -0,0 +1,40 @@
+package pluto.upik.domain.vote.resolver;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.SubscriptionMapping;
+import org.springframework.stereotype.Controller;
+import pluto.upik.domain.vote.data.DTO.VoteResultsPayload;
+import pluto.upik.domain.vote.service.VoteResultsBroadcaster;
+import pluto.upik.shared.exception.InvalidParameterException;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+/**
+ * 투표 관련 GraphQL 구독 리졸버
+ * WebSocket(graphql-transport-ws)으로 실시간 투표 결과를 전달합니다.
+ */
+@Controller
+@RequiredArgsConstructor
+public class VoteSubscriptionResolver {
+
+    private final VoteResultsBroadcaster voteResultsBroadcaster;
+
+    /**
+     * 투표 결과 변경을 구독합니다.
+     *
+     * @param voteId 투표 ID
+     * @return 현재 결과와 이후 변경된 결과 스트림
+     */
+    @SubscriptionMapping
+    public Flux<VoteResultsPayload> voteResults(@Argument String voteId) {
+        UUID id;
+        try {
+            id = UUID.fromString(voteId);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidParameterException("voteId", voteId, "유효하지 않은 투표 ID입니다.");
+        }
+        return voteResultsBroadcaster.subscribe(id);
+    }
+}
@@ -2,20 +2,31 @@ package pluto.upik.domain.vote.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 import pluto.upik.domain.vote.data.model.Vote;
+import pluto.upik.domain.vote.event.VoteClosedEvent;
+import pluto.upik.domain.vote.event.VoteThresholdReachedEvent;
 import pluto.upik.domain.vote.repository.VoteRepository;
-import pluto.upik.domain.voteResponse.repository.VoteResponseRepository;
-import pluto.upik.shared.ai.service.AIService;
+import pluto.upik.domain.voteResponse.service.VoteParticipationService;
+import pluto.upik.shared.cache.CacheDependencyTracker;
+import pluto.upik.shared.cache.CacheTags;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
 /**
  * 투표 종료 처리를 담당하는 서비스
  * 스케줄러와 실시간 종료 모두에서 사용됨
+ * 실시간 종료는 응답 카운터가 참여자 수 기준에 도달할 때 발행되는 {@link VoteThresholdReachedEvent}로 처리됨
  */
 @Slf4j
 @Service
@@ -23,108 +34,87 @@ import java.util.UUID;
 public class VoteClosureService {
 
     private final VoteRepository voteRepository;
-    private final VoteResponseRepository voteResponseRepository;
-    private final AIService aiService;
+    private final VoteParticipationService voteParticipationService;
+    private final VoteRankingService voteRankingService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheDependencyTracker cacheDependencyTracker;
 
     /**
      * 모든 종료 조건을 확인하고 투표를 종료합니다.
+     * 열린 투표 수와 관계없이 날짜 기준 UPDATE 1회, 참여자 수 기준 UPDATE 1회, 종료된 투표 조회 1회만 수행합니다.
      *
-     * @return 종료된 투표 수
+     * @return 이번 작업에서 종료된 투표 ID 목록
      */
     @Transactional
-    public int checkAndCloseAllVotes() {
+    public List<UUID> checkAndCloseAllVotes() {
         LocalDate today = LocalDate.now();
+        LocalDateTime closedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
         log.info("투표 종료 조건 확인 시작: {}", today);
 
-        // 날짜 기준 종료 조건 확인
-        List<Vote> votesToClose = voteRepository.findByStatusAndFinishedAtBefore(Vote.Status.OPEN, today);
-        log.info("날짜 기준 종료 대상 투표 수: {}", votesToClose.size());
-
-        // 참여자 수 기준 종료 조건 확인
-        List<Vote> openVotes = voteRepository.findByStatus(Vote.Status.OPEN);
-        for (Vote vote : openVotes) {
-            if (vote.getParticipantThreshold() != null) {
-                Long participantCount = voteResponseRepository.countByVoteId(vote.getId());
-                if (participantCount >= vote.getParticipantThreshold()) {
-                    votesToClose.add(vote);
-                    log.info("참여자 수 기준 종료 대상 투표: {}, 참여자 수: {}, 기준: {}",
-                            vote.getId(), participantCount, vote.getParticipantThreshold());
-                }
-            }
+        // 날짜 기준 종료
+        int closedByDate = voteRepository.closeExpired(today, closedAt);
+        log.info("날짜 기준 종료된 투표 수: {}", closedByDate);
+
+        // 참여자 수 기준 종료 (옵션 집계 합계와 조인)
+        int closedByThreshold = voteRepository.closeByParticipantThreshold(closedAt);
+        log.info("참여자 수 기준 종료된 투표 수: {}", closedByThreshold);
+
+        // 이번 작업에서 종료된 투표 후속 처리
+        List<Object[]> closedRows = voteRepository.findIdAndCategoryByClosedAt(closedAt);
+        List<UUID> closedIds = new ArrayList<>(closedRows.size());
+        List<String> tags = new ArrayList<>(List.of(CacheTags.VOTE_COLLECTION, CacheTags.VOTE_RANKING));
+        for (Object[] row : closedRows) {
+            UUID voteId = (UUID) row[0];
+            closedIds.add(voteId);
+            tags.add(CacheTags.vote(voteId));
+            eventPublisher.publishEvent(new VoteClosedEvent(voteId, (String) row[1]));
         }
-
-        // 중복 제거
-        List<Vote> uniqueVotesToClose = votesToClose.stream().distinct().toList();
-
-        // 투표 종료 처리
-        for (Vote vote : uniqueVotesToClose) {
-            closeVote(vote);
+        if (!closedIds.isEmpty()) {
+            voteRankingService.markClosed(closedIds);
+            cacheDependencyTracker.invalidate(tags.toArray(String[]::new));
         }
 
-        log.info("투표 종료 처리 완료. 총 {}개 투표 종료됨", uniqueVotesToClose.size());
-        return uniqueVotesToClose.size();
+        log.info("투표 종료 처리 완료. 총 {}개 투표 종료됨", closedIds.size());
+        return closedIds;
     }
 
     /**
-     * 특정 투표의 참여자 수 기준 종료 조건을 실시간으로 확인합니다.
+     * 참여자 수 기준 도달 이벤트를 받아 투표를 종료합니다.
+     * 응답을 저장한 트랜잭션이 커밋된 뒤 별도 스레드에서 실행되므로 응답한 사용자는 종료 처리를 기다리지 않습니다.
      *
-     * @param voteId 확인할 투표 ID
-     * @return 투표가 종료되었으면 true, 아니면 false
+     * @param event 참여자 수 기준 도달 이벤트
      */
-    @Transactional
-    public boolean checkAndCloseVoteByParticipantCount(UUID voteId) {
-        Vote vote = voteRepository.findById(voteId).orElse(null);
-
-        if (vote == null) {
-            log.warn("투표를 찾을 수 없습니다: {}", voteId);
-            return false;
-        }
-
-        // 이미 종료된 투표
-        if (vote.getStatus() == Vote.Status.CLOSED) {
-            return false;
-        }
-
-        // 참여자 수 기준이 설정되지 않은 투표
-        if (vote.getParticipantThreshold() == null) {
-            return false;
-        }
-
-        // 현재 참여자 수 확인
-        Long participantCount = voteResponseRepository.countByVoteId(voteId);
-
-        // 참여자 수가 기준치에 도달했는지 확인
-        if (participantCount >= vote.getParticipantThreshold()) {
-            log.info("참여자 수 기준 도달로 투표 종료: voteId={}, 참여자수={}, 기준={}",
-                    voteId, participantCount, vote.getParticipantThreshold());
-            closeVote(vote);
-            return true;
-        }
-
-        return false;
+    @Async("taskExecutor")
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onThresholdReached(VoteThresholdReachedEvent event) {
+        voteRepository.findById(event.getVoteId()).ifPresent(vote -> {
+            if (closeVote(vote)) {
+                log.info("참여자 수 기준 도달로 투표 종료: voteId={}, 참여자수={}, 기준={}",
+                        event.getVoteId(), event.getParticipantCount(), event.getParticipantThreshold());
+            }
+        });
     }
 
     /**
-     * 투표를 종료하고 AI 가이드를 생성합니다.
+     * 진행 중인 투표를 종료합니다.
+     * 상태가 OPEN인 경우에만 변경하므로 같은 투표에 대해 동시에 호출되어도 후속 처리는 한 번만 수행되며,
+     * AI 가이드 생성은 {@link VoteClosedEvent}로 등록된 가이드 생성 작업이 별도로 처리합니다.
      *
      * @param vote 종료할 투표
+     * @return 이번 호출로 종료되었으면 true, 이미 종료된 투표였으면 false
      */
     @Transactional
-    public void closeVote(Vote vote) {
-        vote.setStatus(Vote.Status.CLOSED);
-        voteRepository.save(vote);
+    public boolean closeVote(Vote vote) {
+        if (voteRepository.closeIfOpen(vote.getId(), LocalDateTime.now().truncatedTo(ChronoUnit.MICROS)) == 0) {
+            return false;
+        }
+        voteRankingService.markClosed(vote.getId());
+        cacheDependencyTracker.invalidate(CacheTags.vote(vote.getId()), CacheTags.VOTE_COLLECTION, CacheTags.VOTE_RANKING);
+        eventPublisher.publishEvent(new VoteClosedEvent(vote.getId(), vote.getCategory()));
 
         log.info("투표 종료 처리 완료: {}", vote.getId());
-
-        // AI를 통해 가이드 자동 생성
-        try {
-            log.info("투표 종료 후 AI 가이드 생성 시작: voteId={}", vote.getId());
-            aiService.generateAndSaveGuide(vote.getId(), vote.getCategory());
-            log.info("투표 종료 후 AI 가이드 생성 완료: voteId={}", vote.getId());
-        } catch (Exception e) {
-            log.error("투표 종료 후 AI 가이드 생성 실패: voteId={}, error={}", vote.getId(), e.getMessage(), e);
-            // 가이드 생성 실패해도 투표 종료는 정상 처리됨
-        }
+        return true;
     }
 
     /**
@@ -142,14 +132,13 @@ public class VoteClosureService {
         }
 
         boolean isClosed = vote.getStatus() == Vote.Status.CLOSED;
-        LocalDate today = LocalDate.now();
-        boolean isDatePassed = vote.isFinishedByDate(today);
+        boolean isDatePassed = vote.isPastDeadline(LocalDateTime.now());
 
         Long participantCount = null;
         Boolean isThresholdReached = null;
 
         if (vote.getParticipantThreshold() != null) {
-            participantCount = voteResponseRepository.countByVoteId(voteId);
+            participantCount = voteParticipationService.countParticipants(voteId);
             isThresholdReached = participantCount >= vote.getParticipantThreshold();
         }
 
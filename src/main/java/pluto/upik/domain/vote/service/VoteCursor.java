@@ -0,0 +1,61 @@
+package pluto.upik.domain.vote.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import pluto.upik.domain.vote.data.DTO.VoteSummary;
+import pluto.upik.shared.exception.InvalidParameterException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * (finishedAt, id) 기준 키셋 페이지네이션 커서
+ * 클라이언트에는 Base64(URL-safe) 문자열로 전달됩니다.
+ */
+@Getter
+@AllArgsConstructor
+public class VoteCursor {
+
+    /**
+     * 첫 페이지 조회용 커서. 모든 투표보다 뒤에 위치합니다.
+     */
+    private static final VoteCursor FIRST = new VoteCursor(
+            LocalDate.of(9999, 12, 31), new UUID(0xFFFFFFFFFFFFFFFFL, 0xFFFFFFFFFFFFFFFFL));
+
+    private final LocalDate finishedAt;
+    private final UUID id;
+
+    /**
+     * 커서 문자열을 해석합니다. 값이 없으면 첫 페이지 커서를 반환합니다.
+     *
+     * @param raw 커서 문자열 (null 가능)
+     * @return 해석된 커서
+     * @throws InvalidParameterException 커서 형식이 올바르지 않은 경우
+     */
+    public static VoteCursor decode(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(raw), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|", 2);
+            return new VoteCursor(LocalDate.parse(parts[0]), UUID.fromString(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException | ArrayIndexOutOfBoundsException e) {
+            throw new InvalidParameterException("after", raw, "유효하지 않은 커서입니다.");
+        }
+    }
+
+    /**
+     * 투표의 커서 문자열을 생성합니다.
+     *
+     * @param vote 투표 요약
+     * @return 커서 문자열
+     */
+    public static String encode(VoteSummary vote) {
+        String raw = vote.getFinishedAt() + "|" + vote.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
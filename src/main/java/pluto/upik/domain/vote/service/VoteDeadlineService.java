@@ -0,0 +1,185 @@
+package pluto.upik.domain.vote.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pluto.upik.domain.vote.data.model.Vote;
+import pluto.upik.domain.vote.event.VoteClosedEvent;
+import pluto.upik.domain.vote.event.VoteDeletedEvent;
+import pluto.upik.domain.vote.event.VoteUpdatedEvent;
+import pluto.upik.domain.vote.repository.VoteDeadlineRedisRepository;
+import pluto.upik.domain.vote.repository.VoteRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+
+/**
+ * 투표 마감 시각에 맞춰 투표를 종료하는 서비스
+ *
+ * 진행 중인 투표의 마감 시각을 Redis 지연 큐에 등록해 두고, 짧은 주기로 마감이 지난 투표만 꺼내 종료합니다.
+ * 투표 생성/재개 시 등록되고, 종료되면 제거되며, 애플리케이션 시작 시와 매일 밤 DB 기준으로 다시 적재됩니다.
+ * 자정 스케줄러는 지연 큐가 놓친 투표를 처리하는 보정 작업으로만 동작합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VoteDeadlineService {
+
+    private static final long RETRY_DELAY_MILLIS = 60_000L;
+
+    private final VoteDeadlineRedisRepository voteDeadlineRedisRepository;
+    private final VoteRepository voteRepository;
+    private final VoteClosureService voteClosureService;
+
+    @Value("${vote.deadline.poll-batch-size:100}")
+    private int pollBatchSize;
+
+    /**
+     * 투표의 마감 시각을 지연 큐에 등록합니다.
+     *
+     * @param vote 투표 엔티티
+     */
+    public void schedule(Vote vote) {
+        scheduleQuietly(vote.getId(), toMillis(vote.getEffectiveDeadline()));
+    }
+
+    /**
+     * 종료된 투표를 지연 큐에서 제거합니다.
+     *
+     * @param event 투표 종료 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVoteClosed(VoteClosedEvent event) {
+        try {
+            voteDeadlineRedisRepository.cancel(event.getVoteId());
+        } catch (DataAccessException e) {
+            log.warn("투표 마감 예약 취소 실패: voteId={}, error={}", event.getVoteId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 투표 변경(재개, 종료일 변경 등)이 커밋되면 진행 중인 투표의 마감 시각을 지연 큐에 다시 등록합니다.
+     *
+     * @param event 투표 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVoteUpdated(VoteUpdatedEvent event) {
+        voteRepository.findById(event.getVoteId())
+                .filter(vote -> vote.getStatus() == Vote.Status.OPEN)
+                .ifPresent(this::schedule);
+    }
+
+    /**
+     * 삭제된 투표를 지연 큐에서 제거합니다.
+     *
+     * @param event 투표 삭제 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVoteDeleted(VoteDeletedEvent event) {
+        try {
+            voteDeadlineRedisRepository.cancel(event.getVoteId());
+        } catch (DataAccessException e) {
+            log.warn("투표 마감 예약 취소 실패: voteId={}, error={}", event.getVoteId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 애플리케이션 시작 시 진행 중인 투표의 마감 시각을 적재합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    /**
+     * 진행 중인 모든 투표의 마감 시각을 DB 기준으로 다시 적재합니다.
+     *
+     * @return 적재된 투표 수
+     */
+    public int reload() {
+        Map<UUID, Long> deadlines = new HashMap<>();
+        for (Object[] row : voteRepository.findOpenDeadlines()) {
+            LocalDateTime deadlineAt = (LocalDateTime) row[1];
+            LocalDate finishedAt = (LocalDate) row[2];
+            if (deadlineAt == null && finishedAt == null) {
+                continue;
+            }
+            deadlines.put((UUID) row[0], toMillis(deadlineAt != null ? deadlineAt : finishedAt.plusDays(1).atStartOfDay()));
+        }
+
+        try {
+            voteDeadlineRedisRepository.scheduleAll(deadlines);
+            log.info("투표 마감 지연 큐 적재 완료: {}개", deadlines.size());
+        } catch (DataAccessException e) {
+            log.warn("투표 마감 지연 큐 적재 실패: {}", e.getMessage());
+        }
+        return deadlines.size();
+    }
+
+    /**
+     * 마감이 지난 투표를 꺼내 종료합니다.
+     *
+     * @return 종료된 투표 수
+     */
+    @Scheduled(fixedDelayString = "${vote.deadline.poll-interval-ms:1000}")
+    public int closeDueVotes() {
+        long now = System.currentTimeMillis();
+        List<UUID> due;
+        try {
+            due = voteDeadlineRedisRepository.popDue(now, pollBatchSize);
+        } catch (DataAccessException e) {
+            log.warn("투표 마감 지연 큐 조회 실패: {}", e.getMessage());
+            return 0;
+        }
+
+        int closed = 0;
+        for (UUID voteId : due) {
+            try {
+                if (closeIfDue(voteId)) {
+                    closed++;
+                }
+            } catch (RuntimeException e) {
+                log.error("마감 투표 종료 실패, 재시도 예약: voteId={}, error={}", voteId, e.getMessage(), e);
+                scheduleQuietly(voteId, now + RETRY_DELAY_MILLIS);
+            }
+        }
+
+        if (closed > 0) {
+            log.info("마감 시각 도달로 투표 종료: {}개", closed);
+        }
+        return closed;
+    }
+
+    private boolean closeIfDue(UUID voteId) {
+        Vote vote = voteRepository.findById(voteId).orElse(null);
+        if (vote == null || vote.getStatus() != Vote.Status.OPEN) {
+            return false;
+        }
+        // 재개 등으로 마감이 연장된 경우 새 마감 시각으로 다시 등록
+        if (vote.getEffectiveDeadline().isAfter(LocalDateTime.now())) {
+            schedule(vote);
+            return false;
+        }
+        return voteClosureService.closeVote(vote);
+    }
+
+    private void scheduleQuietly(UUID voteId, long deadlineMillis) {
+        try {
+            voteDeadlineRedisRepository.schedule(voteId, deadlineMillis);
+        } catch (DataAccessException e) {
+            log.warn("투표 마감 예약 실패: voteId={}, error={}", voteId, e.getMessage());
+        }
+    }
+
+    private long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
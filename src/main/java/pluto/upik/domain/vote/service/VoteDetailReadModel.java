@@ -0,0 +1,262 @@
+package pluto.upik.domain.vote.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import pluto.upik.domain.option.repository.OptionRepository;
+import pluto.upik.domain.tail.data.DTO.TailSummary;
+import pluto.upik.domain.tail.repository.TailRepository;
+import pluto.upik.domain.vote.data.DTO.OptionWithStatsPayload;
+import pluto.upik.domain.vote.data.DTO.VoteDetailPayload;
+import pluto.upik.domain.vote.data.DTO.VoteSummary;
+import pluto.upik.domain.vote.data.model.Vote;
+import pluto.upik.domain.vote.data.model.VoteResultSnapshot;
+import pluto.upik.domain.vote.event.VoteDeletedEvent;
+import pluto.upik.domain.vote.event.VoteReopenedEvent;
+import pluto.upik.domain.vote.event.VoteUpdatedEvent;
+import pluto.upik.domain.vote.repository.VoteDetailRedisRepository;
+import pluto.upik.domain.vote.repository.VoteRepository;
+import pluto.upik.domain.voteResponse.event.VoteResponsesCreatedEvent;
+import pluto.upik.shared.exception.ResourceNotFoundException;
+
+import java.time.Duration;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+
+/**
+ * 사용자와 무관한 투표 상세 정보를 Redis 문서로 유지하는 읽기 모델
+ *
+ * 상세 조회는 {@link VoteDetailRedisRepository}의 문서 하나를 읽어 바로 페이로드를 구성하며,
+ * 문서가 없을 때만 DB에서 만들어 적재합니다.
+ * 문서는 쓰기 이벤트로 갱신됩니다.
+ * 응답 저장({@link VoteResponsesCreatedEvent})은 Redis 카운터와 같은 시점에 응답 수를 증가시키고 롤백 시 되돌리며,
+ * 투표 변경({@link VoteUpdatedEvent})은 커밋 후 상세 정보 필드를 다시 씁니다.
+ * 종료된 투표는 {@link VoteResultSnapshotService}의 결과 스냅샷으로 만료 없는 문서를 적재하며,
+ * 종료 시점의 문서 삭제는 스냅샷 서비스가 담당하고, 재개({@link VoteReopenedEvent})와
+ * 삭제({@link VoteDeletedEvent})가 커밋되면 스냅샷 기준 문서를 버리도록 문서를 삭제합니다.
+ * 사용자별 참여 정보는 {@link VoteServiceUpdated}가 조회 시점에 덧씌웁니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VoteDetailReadModel {
+
+    private final VoteRepository voteRepository;
+    private final OptionRepository optionRepository;
+    private final TailRepository tailRepository;
+    private final VoteStatsLoader voteStatsLoader;
+    private final VoteDetailRedisRepository voteDetailRedisRepository;
+    private final VoteResultSnapshotService voteResultSnapshotService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 투표 상세 정보를 조회합니다.
+     *
+     * @param voteId 투표 ID
+     * @return 사용자 정보가 없는 투표 상세 정보
+     * @throws ResourceNotFoundException 투표가 존재하지 않는 경우
+     */
+    @Transactional(readOnly = true)
+    public VoteDetailPayload get(UUID voteId) {
+        try {
+            Map<String, String> fields = voteDetailRedisRepository.find(voteId);
+            if (fields.containsKey(VoteDetailRedisRepository.DOC_FIELD)) {
+                return assemble(fields);
+            }
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("투표 상세 문서 조회 실패, DB에서 조회합니다: voteId={}, error={}", voteId, e.getMessage());
+        }
+        return load(voteId);
+    }
+
+    /**
+     * 투표 응답 저장 이벤트를 받아 문서의 응답 수를 증가시킵니다.
+     * 이벤트에 담긴 응답을 투표/옵션별로 합쳐 스크립트 한 번으로 반영하며, 트랜잭션이 롤백되면 증가분을 되돌립니다.
+     *
+     * @param event 투표 응답 저장 이벤트
+     */
+    @EventListener
+    public void onVoteResponsesCreated(VoteResponsesCreatedEvent event) {
+        Map<UUID, Map<UUID, Long>> counts = event.countByVoteAndOption();
+        if (!incrementAllQuietly(counts, 1)) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        incrementAllQuietly(counts, -1);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * 투표 변경이 커밋되면 문서의 상세 정보를 다시 씁니다.
+     *
+     * @param event 투표 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onVoteUpdated(VoteUpdatedEvent event) {
+        refresh(event.getVoteId());
+    }
+
+    /**
+     * 종료된 투표가 다시 열린 것이 커밋되면 결과 스냅샷으로 적재된 문서를 삭제합니다.
+     *
+     * @param event 투표 재개 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVoteReopened(VoteReopenedEvent event) {
+        evict(event.getVoteId());
+    }
+
+    /**
+     * 투표 삭제가 커밋되면 문서를 삭제합니다.
+     *
+     * @param event 투표 삭제 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVoteDeleted(VoteDeletedEvent event) {
+        evict(event.getVoteId());
+    }
+
+    /**
+     * 투표의 상세 문서를 삭제합니다. 다음 조회 시 DB에서 다시 적재됩니다.
+     *
+     * @param voteId 투표 ID
+     */
+    public void evict(UUID voteId) {
+        try {
+            voteDetailRedisRepository.delete(voteId);
+        } catch (DataAccessException e) {
+            log.warn("투표 상세 문서 삭제 실패: voteId={}, error={}", voteId, e.getMessage());
+        }
+    }
+
+    /**
+     * DB에서 상세 정보와 응답 수를 읽어 페이로드를 만들고 문서를 적재합니다.
+     * 종료된 투표는 결과 스냅샷의 응답 수로 만료 없이 적재합니다.
+     */
+    private VoteDetailPayload load(UUID voteId) {
+        VoteSummary vote = voteRepository.findDetailSummaryById(voteId)
+                .orElseThrow(() -> new ResourceNotFoundException("투표를 찾을 수 없습니다: " + voteId));
+
+        Optional<VoteResultSnapshot> snapshot = vote.getStatus() == Vote.Status.CLOSED
+                ? voteResultSnapshotService.getOrFreeze(voteId)
+                : Optional.empty();
+        List<OptionWithStatsPayload> options;
+        long total;
+        if (snapshot.isPresent()) {
+            options = voteResultSnapshotService.readResults(snapshot.get());
+            total = snapshot.get().getTotalResponses();
+        } else {
+            VoteStatsLoader.VoteStats stats = voteStatsLoader.load(List.of(voteId), null);
+            options = stats.getOptionStats(voteId);
+            total = stats.getTotalResponses(voteId);
+        }
+
+        VoteDetailPayload payload = toDocument(vote, options, findTail(voteId)).toBuilder()
+                .totalResponses((int) total)
+                .build();
+
+        Map<UUID, Long> optionCounts = new HashMap<>();
+        options.forEach(option -> optionCounts.put(UUID.fromString(option.getId()), (long) option.getResponseCount()));
+        Duration ttl = snapshot.isPresent() ? null : VoteDetailRedisRepository.DEFAULT_TTL;
+        try {
+            voteDetailRedisRepository.loadIfAbsent(voteId, objectMapper.writeValueAsString(payload), optionCounts, total, ttl);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("투표 상세 문서 적재 실패: voteId={}, error={}", voteId, e.getMessage());
+        }
+        return payload;
+    }
+
+    /**
+     * 문서가 적재되어 있으면 상세 정보 필드만 DB 기준으로 교체합니다. 응답 수 필드는 유지됩니다.
+     */
+    private void refresh(UUID voteId) {
+        Optional<VoteSummary> vote = voteRepository.findDetailSummaryById(voteId);
+        if (vote.isEmpty()) {
+            evict(voteId);
+            return;
+        }
+        List<OptionWithStatsPayload> options = optionRepository.findSummariesByVoteIdIn(List.of(voteId)).stream()
+                .map(option -> new OptionWithStatsPayload(option.getId().toString(), option.getContent(), 0, 0))
+                .toList();
+        try {
+            String doc = objectMapper.writeValueAsString(toDocument(vote.get(), options, findTail(voteId)));
+            voteDetailRedisRepository.replaceDocIfExists(voteId, doc);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("투표 상세 문서 갱신 실패, 문서를 삭제합니다: voteId={}, error={}", voteId, e.getMessage());
+            evict(voteId);
+        }
+    }
+
+    /**
+     * 문서의 상세 정보에 응답 수 필드를 반영해 페이로드를 구성합니다.
+     */
+    private VoteDetailPayload assemble(Map<String, String> fields) throws JsonProcessingException {
+        VoteDetailPayload doc = objectMapper.readValue(fields.get(VoteDetailRedisRepository.DOC_FIELD), VoteDetailPayload.class);
+        long total = parseCount(fields.get(VoteDetailRedisRepository.TOTAL_FIELD));
+        List<OptionWithStatsPayload> options = doc.getOptions().stream()
+                .map(option -> {
+                    long count = parseCount(fields.get(option.getId()));
+                    float percentage = total > 0 ? (float) count * 100 / total : 0;
+                    return new OptionWithStatsPayload(option.getId(), option.getContent(), (int) count, percentage);
+                })
+                .toList();
+        return doc.toBuilder()
+                .totalResponses((int) total)
+                .options(options)
+                .build();
+    }
+
+    private VoteDetailPayload toDocument(VoteSummary vote, List<OptionWithStatsPayload> options, Optional<TailSummary> tail) {
+        return VoteDetailPayload.builder()
+                .id(vote.getId().toString())
+                .title(vote.getQuestion())
+                .category(vote.getCategory())
+                .status(vote.getStatus().name())
+                .createdBy(vote.getCreatorName())
+                .finishedAt(vote.getFinishedAt().format(DateTimeFormatter.ISO_LOCAL_DATE))
+                .closureType(vote.getClosureType() != null ? vote.getClosureType().name() : Vote.ClosureType.DEFAULT.name())
+                .participantThreshold(vote.getParticipantThreshold())
+                .options(options)
+                .hasVoted(false)
+                .tailId(tail.map(t -> t.getId().toString()).orElse(null))
+                .tailQuestion(tail.map(TailSummary::getQuestion).orElse(null))
+                .build();
+    }
+
+    private Optional<TailSummary> findTail(UUID voteId) {
+        return tailRepository.findSummariesByVoteId(voteId, PageRequest.of(0, 1)).stream().findFirst();
+    }
+
+    private boolean incrementAllQuietly(Map<UUID, Map<UUID, Long>> counts, int sign) {
+        try {
+            voteDetailRedisRepository.incrementAll(counts, sign);
+            return true;
+        } catch (DataAccessException e) {
+            log.warn("투표 상세 문서 응답 수 증감 실패, 문서를 삭제합니다: voteIds={}, error={}", counts.keySet(), e.getMessage());
+            counts.keySet().forEach(this::evict);
+            return false;
+        }
+    }
+
+    private static long parseCount(String value) {
+        return value != null ? Long.parseLong(value) : 0L;
+    }
+}
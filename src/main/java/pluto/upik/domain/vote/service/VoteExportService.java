@@ -0,0 +1,212 @@
+package pluto.upik.domain.vote.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import pluto.upik.domain.vote.repository.VoteExportJdbcRepository;
+import pluto.upik.shared.exception.InvalidParameterException;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * 투표 결과와 응답을 CSV/NDJSON으로 내보내는 서비스 (관리자용)
+ *
+ * {@link VoteExportJdbcRepository}의 커서에서 읽은 행을 바로 출력 스트림에 쓰므로
+ * 행 수와 관계없이 버퍼 크기 이상의 메모리를 사용하지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VoteExportService {
+
+    private static final String[] RESULT_COLUMNS = {
+            "vote_id", "question", "category", "status", "finished_at", "closed_at",
+            "option_id", "option_content", "response_count"
+    };
+    private static final String[] RESPONSE_COLUMNS = {"id", "user_id", "vote_id", "option_id", "created_at"};
+
+    private final VoteExportJdbcRepository voteExportJdbcRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 투표별, 옵션별 결과를 내보냅니다.
+     *
+     * @param includeExpired 종료된 투표 포함 여부
+     * @param format 출력 형식
+     * @param out 출력 스트림
+     */
+    public void writeResults(boolean includeExpired, Format format, OutputStream out) throws IOException {
+        try (RowWriter writer = RowWriter.of(format, RESULT_COLUMNS, out, objectMapper)) {
+            voteExportJdbcRepository.streamResults(includeExpired, rs -> writer.writeQuietly(new Object[]{
+                    VoteExportJdbcRepository.getUuid(rs, "vote_id"),
+                    rs.getString("question"),
+                    rs.getString("category"),
+                    rs.getString("status"),
+                    rs.getObject("finished_at", LocalDate.class),
+                    rs.getObject("closed_at", LocalDateTime.class),
+                    VoteExportJdbcRepository.getUuid(rs, "option_id"),
+                    rs.getString("option_content"),
+                    rs.getLong("response_count")
+            }));
+            log.info("투표 결과 내보내기 완료: format={}, rows={}", format, writer.getRows());
+        }
+    }
+
+    /**
+     * 투표 응답을 내보냅니다.
+     *
+     * @param voteId 투표 ID (null이면 전체 응답)
+     * @param format 출력 형식
+     * @param out 출력 스트림
+     */
+    public void writeResponses(UUID voteId, Format format, OutputStream out) throws IOException {
+        try (RowWriter writer = RowWriter.of(format, RESPONSE_COLUMNS, out, objectMapper)) {
+            voteExportJdbcRepository.streamResponses(voteId, rs -> writer.writeQuietly(new Object[]{
+                    VoteExportJdbcRepository.getUuid(rs, "id"),
+                    VoteExportJdbcRepository.getUuid(rs, "user_id"),
+                    VoteExportJdbcRepository.getUuid(rs, "vote_id"),
+                    VoteExportJdbcRepository.getUuid(rs, "option_id"),
+                    rs.getObject("created_at", LocalDate.class)
+            }));
+            log.info("투표 응답 내보내기 완료: voteId={}, format={}, rows={}", voteId, format, writer.getRows());
+        }
+    }
+
+    /**
+     * 내보내기 출력 형식
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        public static Format from(String raw) {
+            try {
+                return Format.valueOf(raw.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException | NullPointerException e) {
+                throw new InvalidParameterException("format", raw, "지원하지 않는 형식입니다. (csv, ndjson)");
+            }
+        }
+    }
+
+    /**
+     * 한 행씩 출력 스트림에 쓰는 작성기
+     */
+    private abstract static class RowWriter implements Closeable {
+
+        protected final String[] columns;
+        @Getter
+        private long rows;
+
+        protected RowWriter(String[] columns) {
+            this.columns = columns;
+        }
+
+        static RowWriter of(Format format, String[] columns, OutputStream out, ObjectMapper objectMapper) throws IOException {
+            return format == Format.CSV
+                    ? new CsvRowWriter(columns, out)
+                    : new NdjsonRowWriter(columns, out, objectMapper);
+        }
+
+        void writeQuietly(Object[] values) {
+            try {
+                write(values);
+                rows++;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        protected abstract void write(Object[] values) throws IOException;
+    }
+
+    private static class CsvRowWriter extends RowWriter {
+
+        private final Writer writer;
+
+        CsvRowWriter(String[] columns, OutputStream out) throws IOException {
+            super(columns);
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writer.write(String.join(",", columns));
+            writer.write("\n");
+        }
+
+        @Override
+        protected void write(Object[] values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(escape(values[i]));
+            }
+            writer.write('\n');
+        }
+
+        /**
+         * 구분자, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고, 스프레드시트 수식으로 해석될 수 있는 값은 앞에 '를 붙입니다.
+         */
+        private String escape(Object value) {
+            if (value == null) {
+                return "";
+            }
+            String text = value.toString();
+            if (!text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0 && !(value instanceof Number)) {
+                text = "'" + text;
+            }
+            if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+                return "\"" + text.replace("\"", "\"\"") + "\"";
+            }
+            return text;
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+    }
+
+    private static class NdjsonRowWriter extends RowWriter {
+
+        private final JsonGenerator generator;
+
+        NdjsonRowWriter(String[] columns, OutputStream out, ObjectMapper objectMapper) throws IOException {
+            super(columns);
+            this.generator = objectMapper.getFactory().createGenerator(out);
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        protected void write(Object[] values) throws IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < columns.length; i++) {
+                Object value = values[i];
+                if (value == null) {
+                    generator.writeNullField(columns[i]);
+                } else if (value instanceof Number number) {
+                    generator.writeNumberField(columns[i], number.longValue());
+                } else {
+                    generator.writeStringField(columns[i], value.toString());
+                }
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.flush();
+        }
+    }
+}
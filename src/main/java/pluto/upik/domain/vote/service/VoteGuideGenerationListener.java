@@ -0,0 +1,29 @@
+package pluto.upik.domain.vote.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import pluto.upik.domain.guide.service.GuideGenerationJobService;
+import pluto.upik.domain.vote.event.VoteClosedEvent;
+
+/**
+ * 투표 종료 시 AI 가이드 생성 작업을 등록하는 리스너
+ * 종료 트랜잭션 안에서 작업을 등록하므로 종료가 커밋되면 작업도 함께 남고,
+ * 실제 생성은 {@link pluto.upik.domain.guide.service.GuideGenerationWorker}가 제한된 동시성으로 수행합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class VoteGuideGenerationListener {
+
+    private final GuideGenerationJobService guideGenerationJobService;
+
+    /**
+     * 종료된 투표의 가이드 생성 작업을 등록합니다. 이미 등록된 투표는 다시 등록하지 않습니다.
+     *
+     * @param event 투표 종료 이벤트
+     */
+    @EventListener
+    public void onVoteClosed(VoteClosedEvent event) {
+        guideGenerationJobService.enqueue(event.getVoteId(), event.getCategory());
+    }
+}
@@ -0,0 +1,171 @@
+package pluto.upik.domain.vote.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pluto.upik.domain.vote.data.DTO.VotePayload;
+import pluto.upik.domain.vote.data.DTO.VoteSummary;
+import pluto.upik.domain.vote.event.VoteDeletedEvent;
+import pluto.upik.domain.vote.event.VoteReopenedEvent;
+import pluto.upik.domain.vote.event.VoteUpdatedEvent;
+import pluto.upik.domain.vote.repository.VoteRepository;
+import pluto.upik.shared.cache.CacheDependencyTracker;
+import pluto.upik.shared.cache.CacheNames;
+import pluto.upik.shared.cache.CacheTags;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자와 무관한 투표 페이로드(투표, 옵션, 응답 수)를 공유 키로 캐싱하는 컴포넌트
+ *
+ * 캐시 키에 사용자 ID를 포함하지 않으므로 모든 사용자가 같은 캐시 항목을 사용합니다.
+ * 반환되는 페이로드의 hasVoted/myOption 필드는 항상 비어 있으며,
+ * 사용자별 정보와 응답 수는 {@link VoteServiceUpdated}가 조회 시점에 카운터와 참여자 인덱스에서 덧씌웁니다.
+ * 따라서 각 항목은 목록 구성(생성, 종료, 삭제)과 순위 태그에만 의존하며, 응답이 들어와도 무효화되지 않습니다.
+ * 투표와 옵션은 페이로드에 필요한 컬럼만 생성자 표현식으로 조회하며 엔티티를 적재하지 않습니다.
+ * 투표 상세 정보는 {@link VoteDetailReadModel}이 별도의 문서로 유지합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class VotePayloadCache {
+
+    private final VoteRepository voteRepository;
+    private final VoteStatsLoader voteStatsLoader;
+    private final VoteRankingService voteRankingService;
+    private final CacheDependencyTracker cacheDependencyTracker;
+
+    /**
+     * 전체 투표 목록을 조회합니다.
+     *
+     * @param includeExpired 종료된 투표 포함 여부
+     * @return 사용자 정보가 없는 투표 목록
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(value = CacheNames.VOTE_LIST, key = "#includeExpired")
+    public List<VotePayload> getAllVotes(boolean includeExpired) {
+        List<VoteSummary> votes = includeExpired
+                ? voteRepository.findAllSummaries()
+                : voteRepository.findActiveSummaries(LocalDate.now());
+        List<VotePayload> payloads = toPayloads(votes);
+        cacheDependencyTracker.track(CacheNames.VOTE_LIST, includeExpired, List.of(CacheTags.VOTE_COLLECTION));
+        return payloads;
+    }
+
+    /**
+     * 특정 사용자가 생성한 투표 목록을 조회합니다.
+     *
+     * @param creatorId 생성자 ID
+     * @param includeExpired 종료된 투표 포함 여부
+     * @return 사용자 정보가 없는 투표 목록
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(value = CacheNames.VOTE_MY, key = "T(java.lang.String).format('%s:%b', #creatorId, #includeExpired)")
+    public List<VotePayload> getVotesByCreator(UUID creatorId, boolean includeExpired) {
+        List<VoteSummary> votes = includeExpired
+                ? voteRepository.findSummariesByUserId(creatorId)
+                : voteRepository.findActiveSummariesByUserId(creatorId, LocalDate.now());
+        List<VotePayload> payloads = toPayloads(votes);
+        cacheDependencyTracker.track(CacheNames.VOTE_MY, String.format("%s:%b", creatorId, includeExpired),
+                List.of(CacheTags.voteCreator(creatorId), CacheTags.VOTE_COLLECTION));
+        return payloads;
+    }
+
+    /**
+     * 응답 수가 가장 많은 투표 3개를 조회합니다.
+     *
+     * @param includeExpired 종료된 투표 포함 여부
+     * @return 사용자 정보가 없는 투표 목록
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(value = CacheNames.VOTE_POPULAR, key = "#includeExpired")
+    public List<VotePayload> getMostPopular(boolean includeExpired) {
+        List<VoteSummary> topVotes = voteRankingService.findTop(includeExpired, 3)
+                .orElseGet(() -> rankInMemory(includeExpired, Comparator.reverseOrder(), 3));
+        List<VotePayload> payloads = toPayloads(topVotes);
+        cacheDependencyTracker.track(CacheNames.VOTE_POPULAR, includeExpired,
+                List.of(CacheTags.VOTE_RANKING, CacheTags.VOTE_COLLECTION));
+        return payloads;
+    }
+
+    /**
+     * 응답 수가 가장 적은 투표를 조회합니다.
+     *
+     * @param includeExpired 종료된 투표 포함 여부
+     * @return 사용자 정보가 없는 투표, 투표가 없으면 null
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(value = CacheNames.VOTE_LEAST, key = "#includeExpired", unless = "#result == null")
+    public VotePayload getLeastPopular(boolean includeExpired) {
+        List<VotePayload> payloads = voteRankingService.findBottom(includeExpired, 1)
+                .orElseGet(() -> rankInMemory(includeExpired, Comparator.naturalOrder(), 1))
+                .stream()
+                .limit(1)
+                .map(vote -> toPayloads(List.of(vote)).get(0))
+                .toList();
+        if (payloads.isEmpty()) {
+            return null;
+        }
+        cacheDependencyTracker.track(CacheNames.VOTE_LEAST, includeExpired,
+                List.of(CacheTags.VOTE_RANKING, CacheTags.VOTE_COLLECTION));
+        return payloads.get(0);
+    }
+
+    /**
+     * 투표 변경(종료일 연장 등)이 커밋되면 목록 항목을 무효화합니다.
+     *
+     * @param event 투표 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVoteUpdated(VoteUpdatedEvent event) {
+        cacheDependencyTracker.invalidate(CacheTags.vote(event.getVoteId()), CacheTags.VOTE_COLLECTION);
+    }
+
+    /**
+     * 종료된 투표가 다시 열린 것이 커밋되면 목록과 순위 항목을 무효화합니다.
+     *
+     * @param event 투표 재개 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVoteReopened(VoteReopenedEvent event) {
+        cacheDependencyTracker.invalidate(CacheTags.vote(event.getVoteId()), CacheTags.VOTE_COLLECTION, CacheTags.VOTE_RANKING);
+    }
+
+    /**
+     * 투표 삭제가 커밋되면 목록과 순위 항목을 무효화합니다.
+     *
+     * @param event 투표 삭제 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVoteDeleted(VoteDeletedEvent event) {
+        cacheDependencyTracker.invalidate(CacheTags.vote(event.getVoteId()), CacheTags.VOTE_COLLECTION, CacheTags.VOTE_RANKING);
+    }
+
+    /**
+     * 순위 저장소를 사용할 수 없을 때 투표 전체의 응답 수를 읽어 정렬합니다.
+     */
+    private List<VoteSummary> rankInMemory(boolean includeExpired, Comparator<Long> order, int limit) {
+        List<VoteSummary> votes = includeExpired
+                ? voteRepository.findAllSummaries()
+                : voteRepository.findActiveSummaries(LocalDate.now());
+        if (votes.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<UUID, Long> totals = voteStatsLoader.loadTotals(votes.stream().map(VoteSummary::getId).toList());
+        return votes.stream()
+                .sorted(Comparator.comparing((VoteSummary vote) -> totals.get(vote.getId()), order))
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    private List<VotePayload> toPayloads(List<VoteSummary> votes) {
+        VoteStatsLoader.VoteStats stats = voteStatsLoader.load(votes.stream().map(VoteSummary::getId).toList(), null);
+        return votes.stream()
+                .map(stats::toPayload)
+                .collect(Collectors.toList());
+    }
+}
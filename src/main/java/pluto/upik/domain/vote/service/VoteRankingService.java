@@ -0,0 +1,274 @@
+package pluto.upik.domain.vote.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import pluto.upik.domain.vote.data.DTO.VoteSummary;
+import pluto.upik.domain.vote.data.model.Vote;
+import pluto.upik.domain.vote.event.VoteDeletedEvent;
+import pluto.upik.domain.vote.event.VoteReopenedEvent;
+import pluto.upik.domain.vote.repository.VoteRankingRedisRepository;
+import pluto.upik.domain.vote.repository.VoteRepository;
+import pluto.upik.domain.voteResponse.event.VoteResponsesCreatedEvent;
+import pluto.upik.domain.voteResponse.repository.VoteOptionTallyRepository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 응답 수 기준 투표 인기 순위를 관리하는 서비스
+ *
+ * 응답 저장, 투표 생성/종료/재개/삭제 시점에 Redis 정렬 집합을 갱신하고,
+ * 상위/하위 K개 투표 조회를 정렬 집합에서 처리합니다.
+ * 순위가 아직 재구성되지 않았으면 잠금을 잡은 요청 하나만 vote_option_tally 집계로 재구성하고,
+ * 나머지 요청은 재구성이 끝날 때까지 DB 집계로 대체합니다. 날짜 경과로 종료된 투표 등
+ * 누락된 갱신은 주기적인 재구성으로 보정됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VoteRankingService {
+
+    private static final Duration REBUILD_LOCK_TTL = Duration.ofSeconds(60);
+
+    private final VoteRankingRedisRepository voteRankingRedisRepository;
+    private final VoteRepository voteRepository;
+    private final VoteOptionTallyRepository voteOptionTallyRepository;
+
+    /**
+     * 투표 응답 저장 이벤트를 받아 순위 점수를 증가시킵니다.
+     * 이벤트에 담긴 응답을 투표별로 합쳐 스크립트 한 번으로 반영하며, 트랜잭션이 롤백되면 증가분을 되돌립니다.
+     *
+     * @param event 투표 응답 저장 이벤트
+     */
+    @EventListener
+    public void onVoteResponsesCreated(VoteResponsesCreatedEvent event) {
+        Map<UUID, Long> counts = event.countByVote();
+        if (!incrementAllQuietly(counts, 1)) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        incrementAllQuietly(counts, -1);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * 새로 생성된 투표를 순위에 등록합니다.
+     *
+     * @param vote 생성된 투표
+     */
+    public void register(Vote vote) {
+        try {
+            voteRankingRedisRepository.add(vote.getId(), 0, vote.getStatus() == Vote.Status.OPEN);
+        } catch (DataAccessException e) {
+            log.warn("투표 순위 등록 실패: voteId={}, error={}", vote.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 종료된 투표를 진행 중 순위에서 제거합니다.
+     *
+     * @param voteId 투표 ID
+     */
+    public void markClosed(UUID voteId) {
+        try {
+            voteRankingRedisRepository.removeFromOpen(voteId);
+        } catch (DataAccessException e) {
+            log.warn("투표 순위 종료 반영 실패: voteId={}, error={}", voteId, e.getMessage());
+        }
+    }
+
+    /**
+     * 한 번에 종료된 여러 투표를 진행 중 순위에서 제거합니다.
+     *
+     * @param voteIds 투표 ID 목록
+     */
+    public void markClosed(Collection<UUID> voteIds) {
+        try {
+            voteRankingRedisRepository.removeFromOpen(voteIds);
+        } catch (DataAccessException e) {
+            log.warn("투표 순위 종료 반영 실패: {}개, error={}", voteIds.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 종료된 투표가 다시 열린 것이 커밋되면 현재 응답 수로 진행 중 순위에 등록합니다.
+     *
+     * @param event 투표 재개 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVoteReopened(VoteReopenedEvent event) {
+        markOpen(event.getVoteId());
+    }
+
+    /**
+     * 투표 삭제가 커밋되면 모든 순위에서 제거합니다.
+     *
+     * @param event 투표 삭제 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVoteDeleted(VoteDeletedEvent event) {
+        remove(event.getVoteId());
+    }
+
+    /**
+     * 다시 진행 중이 된 투표를 현재 응답 수로 진행 중 순위에 등록합니다.
+     *
+     * @param voteId 투표 ID
+     */
+    public void markOpen(UUID voteId) {
+        Long total = voteOptionTallyRepository.sumByVoteId(voteId);
+        try {
+            voteRankingRedisRepository.add(voteId, total != null ? total : 0L, true);
+        } catch (DataAccessException e) {
+            log.warn("투표 순위 재개 반영 실패: voteId={}, error={}", voteId, e.getMessage());
+        }
+    }
+
+    /**
+     * 삭제된 투표를 모든 순위에서 제거합니다.
+     *
+     * @param voteId 투표 ID
+     */
+    public void remove(UUID voteId) {
+        try {
+            voteRankingRedisRepository.remove(voteId);
+        } catch (DataAccessException e) {
+            log.warn("투표 순위 삭제 실패: voteId={}, error={}", voteId, e.getMessage());
+        }
+    }
+
+    /**
+     * 응답 수가 가장 많은 투표를 조회합니다.
+     *
+     * @param includeExpired 종료된 투표 포함 여부
+     * @param count 조회할 개수
+     * @return 응답 수 내림차순 투표 목록, 순위를 사용할 수 없으면 empty
+     */
+    @Transactional(readOnly = true)
+    public Optional<List<VoteSummary>> findTop(boolean includeExpired, int count) {
+        return find(includeExpired, count, true);
+    }
+
+    /**
+     * 응답 수가 가장 적은 투표를 조회합니다.
+     *
+     * @param includeExpired 종료된 투표 포함 여부
+     * @param count 조회할 개수
+     * @return 응답 수 오름차순 투표 목록, 순위를 사용할 수 없으면 empty
+     */
+    @Transactional(readOnly = true)
+    public Optional<List<VoteSummary>> findBottom(boolean includeExpired, int count) {
+        return find(includeExpired, count, false);
+    }
+
+    /**
+     * 모든 투표의 응답 수로 순위를 재구성합니다.
+     * 날짜가 지났지만 아직 종료 처리되지 않은 투표도 진행 중 순위에서 제외됩니다.
+     */
+    @Scheduled(fixedDelayString = "${vote.ranking.rebuild-interval-ms:600000}",
+               initialDelayString = "${vote.ranking.rebuild-interval-ms:600000}")
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        Map<UUID, Long> scores = new HashMap<>();
+        voteRepository.findAllIds().forEach(id -> scores.put(id, 0L));
+        for (Object[] row : voteOptionTallyRepository.sumGroupByVote()) {
+            scores.computeIfPresent((UUID) row[0], (id, zero) -> ((Number) row[1]).longValue());
+        }
+        Set<UUID> openVoteIds = new HashSet<>(voteRepository.findActiveVoteIds(LocalDate.now()));
+
+        try {
+            voteRankingRedisRepository.replace(scores, openVoteIds);
+            log.info("투표 순위 재구성 완료: 전체 {}개, 진행 중 {}개", scores.size(), openVoteIds.size());
+        } catch (DataAccessException e) {
+            log.warn("투표 순위 재구성 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 순위에서 후보를 읽고 현재 상태를 검증합니다.
+     * 종료/삭제가 아직 반영되지 않은 항목을 건너뛸 수 있도록 여유분을 더 읽습니다.
+     */
+    private Optional<List<VoteSummary>> find(boolean includeExpired, int count, boolean descending) {
+        boolean openOnly = !includeExpired;
+        List<UUID> candidateIds;
+        try {
+            if (!voteRankingRedisRepository.isBuilt() && !rebuildOnce()) {
+                return Optional.empty();
+            }
+            int window = count + 10;
+            candidateIds = descending
+                    ? voteRankingRedisRepository.findTop(openOnly, window)
+                    : voteRankingRedisRepository.findBottom(openOnly, window);
+        } catch (DataAccessException e) {
+            log.warn("투표 순위 조회 실패, DB 집계로 대체합니다: {}", e.getMessage());
+            return Optional.empty();
+        }
+
+        Map<UUID, VoteSummary> votesById = voteRepository.findSummariesByIdIn(candidateIds).stream()
+                .collect(Collectors.toMap(VoteSummary::getId, vote -> vote));
+        LocalDate today = LocalDate.now();
+
+        List<VoteSummary> result = new ArrayList<>();
+        for (UUID id : candidateIds) {
+            VoteSummary vote = votesById.get(id);
+            if (vote == null) {
+                remove(id);
+                continue;
+            }
+            if (openOnly && (vote.getStatus() != Vote.Status.OPEN || !vote.getFinishedAt().isAfter(today))) {
+                markClosed(id);
+                continue;
+            }
+            result.add(vote);
+            if (result.size() == count) {
+                break;
+            }
+        }
+        return Optional.of(result);
+    }
+
+    /**
+     * 재구성 잠금을 잡은 경우에만 재구성합니다.
+     *
+     * @return 재구성했으면 true, 다른 요청이 재구성 중이면 false
+     */
+    private boolean rebuildOnce() {
+        String token = UUID.randomUUID().toString();
+        if (!voteRankingRedisRepository.tryLockRebuild(token, REBUILD_LOCK_TTL)) {
+            return false;
+        }
+        try {
+            rebuild();
+            return voteRankingRedisRepository.isBuilt();
+        } finally {
+            voteRankingRedisRepository.unlockRebuild(token);
+        }
+    }
+
+    private boolean incrementAllQuietly(Map<UUID, Long> counts, int sign) {
+        try {
+            voteRankingRedisRepository.incrementAll(counts, sign);
+            return true;
+        } catch (DataAccessException e) {
+            log.warn("투표 순위 갱신 실패: votes={}, error={}", counts.size(), e.getMessage());
+            return false;
+        }
+    }
+}
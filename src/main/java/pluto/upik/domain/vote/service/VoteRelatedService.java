@@ -0,0 +1,173 @@
+package pluto.upik.domain.vote.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import pluto.upik.domain.vote.data.DTO.RelatedVotePayload;
+import pluto.upik.domain.vote.data.DTO.VoteSummary;
+import pluto.upik.domain.vote.event.VoteDeletedEvent;
+import pluto.upik.domain.vote.repository.VoteRelatedRedisRepository;
+import pluto.upik.domain.vote.repository.VoteRelatedRepository;
+import pluto.upik.domain.voteResponse.repository.VoteResponseHourlyRepository;
+import pluto.upik.domain.voteResponse.service.VoteParticipationService;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * 투표별 연관 투표 목록을 미리 계산해 두는 서비스
+ *
+ * 조회 시 vote_response를 집계하지 않도록, 주기 작업이 마지막 실행 이후 응답이 들어온 투표만 골라
+ * 공동 참여자 수와 카테고리 일치 여부로 진행 중인 투표 상위 {@value #RELATED_LIMIT}개를 vote_related에 다시 씁니다.
+ * 공동 참여자 수는 양방향으로 같으므로, 변경된 투표의 새 연관 투표들도 같은 실행에서 다시 계산합니다.
+ * 변경된 투표는 시간대별 응답 집계(vote_response_hourly)로 찾고, 확인할 구간의 시작 시각은 Redis에 저장해
+ * 재시작 후에도 이어서 처리합니다. 여러 노드 중 Redis 잠금을 획득한 한 노드만 재계산합니다.
+ * 조회는 기준 투표의 vote_related 행을 인덱스로 한 번 읽고, 사용자가 이미 참여한 투표는 제외합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VoteRelatedService {
+
+    private static final int RELATED_LIMIT = 10;
+    private static final int CATEGORY_WEIGHT = 3;
+    private static final Duration INITIAL_LOOKBACK = Duration.ofDays(1);
+    private static final Duration REBUILD_LOCK_TTL = Duration.ofMinutes(10);
+
+    private final VoteRelatedRepository voteRelatedRepository;
+    private final VoteRelatedRedisRepository voteRelatedRedisRepository;
+    private final VoteResponseHourlyRepository voteResponseHourlyRepository;
+    private final VoteParticipationService voteParticipationService;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${vote.related.participant-sample:1000}")
+    private int participantSample;
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void initTransactionTemplate() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 투표의 연관 투표 목록을 조회합니다. 사용자가 이미 참여한 투표는 제외합니다.
+     *
+     * @param voteId 투표 ID
+     * @param userId 사용자 ID (null이면 제외하지 않음)
+     * @return 연관 투표 목록 (점수 내림차순), 계산되지 않았으면 빈 목록
+     */
+    @Transactional(readOnly = true)
+    public List<RelatedVotePayload> getRelatedVotes(UUID voteId, UUID userId) {
+        List<VoteSummary> related = voteRelatedRepository.findRelatedSummaries(voteId);
+        Set<UUID> voted = voteParticipationService.getSelections(userId,
+                related.stream().map(VoteSummary::getId).toList()).keySet();
+        return related.stream()
+                .filter(vote -> !voted.contains(vote.getId()))
+                .map(RelatedVotePayload::fromSummary)
+                .toList();
+    }
+
+    /**
+     * 마지막 실행 이후 응답이 들어온 투표와, 새로 계산된 그 연관 투표들의 연관 투표 목록을 다시 계산합니다.
+     * 현재 시간 구간은 다음 실행에서도 다시 확인하므로 실행 중에 들어온 응답도 누락되지 않습니다.
+     * 다른 노드가 재계산 중이거나 Redis에 접근할 수 없으면 이번 실행은 건너뜁니다.
+     */
+    @Scheduled(fixedDelayString = "${vote.related.rebuild-interval-ms:600000}",
+               initialDelayString = "${vote.related.rebuild-interval-ms:600000}")
+    public void rebuildChanged() {
+        String token = UUID.randomUUID().toString();
+        try {
+            if (!voteRelatedRedisRepository.tryLockRebuild(token, REBUILD_LOCK_TTL)) {
+                log.debug("다른 노드에서 연관 투표를 재계산 중이므로 건너뜁니다.");
+                return;
+            }
+        } catch (DataAccessException e) {
+            log.warn("연관 투표 재계산 잠금 획득 실패: {}", e.getMessage());
+            return;
+        }
+        try {
+            rebuildSinceWatermark();
+        } catch (DataAccessException e) {
+            log.warn("연관 투표 재계산 실패: {}", e.getMessage());
+        } finally {
+            unlockQuietly(token);
+        }
+    }
+
+    private void rebuildSinceWatermark() {
+        LocalDateTime currentBucket = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime since = voteRelatedRedisRepository.findWatermark()
+                .orElse(currentBucket.minus(INITIAL_LOOKBACK));
+
+        List<UUID> voteIds = voteResponseHourlyRepository.findVoteIdsWithResponsesSince(since);
+        Set<UUID> rebuilt = new HashSet<>(voteIds);
+        Set<UUID> partners = new LinkedHashSet<>();
+        int failed = 0;
+        for (UUID voteId : voteIds) {
+            try {
+                rebuild(voteId);
+                partners.addAll(voteRelatedRepository.findRelatedVoteIds(voteId));
+            } catch (DataAccessException e) {
+                failed++;
+                log.warn("연관 투표 계산 실패: voteId={}, error={}", voteId, e.getMessage());
+            }
+        }
+        partners.removeAll(rebuilt);
+        for (UUID partnerId : partners) {
+            try {
+                rebuild(partnerId);
+            } catch (DataAccessException e) {
+                failed++;
+                log.warn("연관 투표 계산 실패: voteId={}, error={}", partnerId, e.getMessage());
+            }
+        }
+        if (failed == 0) {
+            voteRelatedRedisRepository.saveWatermark(currentBucket);
+        }
+        log.debug("연관 투표 재계산: 구간 시작 {}, 대상 {}개, 연관 {}개, 실패 {}개",
+                since, voteIds.size(), partners.size(), failed);
+    }
+
+    /**
+     * 투표 하나의 연관 투표 목록을 다시 계산합니다.
+     *
+     * @param voteId 투표 ID
+     */
+    public void rebuild(UUID voteId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            voteRelatedRepository.deleteByVoteId(voteId);
+            voteRelatedRepository.insertTopRelated(voteId, CATEGORY_WEIGHT, RELATED_LIMIT, participantSample,
+                    LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+        });
+    }
+
+    private void unlockQuietly(String token) {
+        try {
+            voteRelatedRedisRepository.unlockRebuild(token);
+        } catch (DataAccessException e) {
+            log.warn("연관 투표 재계산 잠금 해제 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 투표가 삭제되면 같은 트랜잭션에서 그 투표와 관련된 연관 투표 행을 모두 삭제합니다.
+     *
+     * @param event 투표 삭제 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onVoteDeleted(VoteDeletedEvent event) {
+        voteRelatedRepository.deleteAllByVoteId(event.getVoteId());
+    }
+}
@@ -0,0 +1,223 @@
+package pluto.upik.domain.vote.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import pluto.upik.domain.option.data.DTO.OptionSummary;
+import pluto.upik.domain.option.repository.OptionRepository;
+import pluto.upik.domain.vote.data.DTO.OptionWithStatsPayload;
+import pluto.upik.domain.vote.data.DTO.VoteResultsPayload;
+import pluto.upik.domain.vote.data.model.Vote;
+import pluto.upik.domain.vote.data.model.VoteResultSnapshot;
+import pluto.upik.domain.vote.event.VoteClosedEvent;
+import pluto.upik.domain.vote.event.VoteDeletedEvent;
+import pluto.upik.domain.vote.event.VoteReopenedEvent;
+import pluto.upik.domain.vote.repository.VoteDetailRedisRepository;
+import pluto.upik.domain.vote.repository.VoteRepository;
+import pluto.upik.domain.vote.repository.VoteResultSnapshotRepository;
+import pluto.upik.domain.voteResponse.repository.VoteOptionTallyRepository;
+import pluto.upik.shared.exception.BusinessException;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * 종료된 투표의 최종 결과를 변경되지 않는 스냅샷으로 고정하는 서비스
+ *
+ * 투표가 종료되면 커밋 후 별도 스레드에서 vote_option_tally 합계로 스냅샷을 한 번 기록하고,
+ * 상세 문서를 삭제해 다음 조회부터 스냅샷 기준의 만료 없는 문서가 적재되게 합니다.
+ * 스냅샷이 없는 기존 종료 투표는 처음 조회될 때 같은 방식으로 기록되며,
+ * 종료 전에 접수된 응답이 수집 큐에서 늦게 저장되면 {@link #refreeze(UUID)}로 다시 기록됩니다.
+ * 투표가 다시 열리거나 삭제되면 같은 트랜잭션에서 스냅샷을 삭제하며, 이때 상세 문서는 {@link VoteDetailReadModel}이 삭제합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VoteResultSnapshotService {
+
+    private static final TypeReference<List<OptionWithStatsPayload>> RESULTS_TYPE = new TypeReference<>() {
+    };
+
+    private final VoteResultSnapshotRepository voteResultSnapshotRepository;
+    private final VoteRepository voteRepository;
+    private final OptionRepository optionRepository;
+    private final VoteOptionTallyRepository voteOptionTallyRepository;
+    private final VoteDetailRedisRepository voteDetailRedisRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void initTransactionTemplate() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 투표 종료가 커밋되면 결과 스냅샷을 기록하고 상세 문서를 다시 적재하도록 삭제합니다.
+     *
+     * @param event 투표 종료 이벤트
+     */
+    @Async("taskExecutor")
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVoteClosed(VoteClosedEvent event) {
+        freeze(event.getVoteId());
+        evictDetail(event.getVoteId());
+    }
+
+    /**
+     * 종료된 투표의 결과 스냅샷을 조회하고, 없으면 기록합니다.
+     *
+     * @param voteId 투표 ID
+     * @return 결과 스냅샷, 투표가 없거나 아직 종료되지 않았으면 empty
+     */
+    public Optional<VoteResultSnapshot> getOrFreeze(UUID voteId) {
+        Optional<VoteResultSnapshot> snapshot = voteResultSnapshotRepository.findById(voteId);
+        if (snapshot.isPresent()) {
+            return snapshot;
+        }
+        return freeze(voteId);
+    }
+
+    /**
+     * 투표가 종료 상태이면 현재 집계로 결과 스냅샷을 기록합니다. 이미 기록된 스냅샷은 변경하지 않습니다.
+     * 호출한 쪽의 트랜잭션(읽기 전용 포함)과 무관하게 별도 트랜잭션에서 기록합니다.
+     *
+     * @param voteId 투표 ID
+     * @return 기록된 결과 스냅샷, 투표가 없거나 아직 종료되지 않았으면 empty
+     */
+    public Optional<VoteResultSnapshot> freeze(UUID voteId) {
+        return transactionTemplate.execute(status -> {
+            Optional<Vote> vote = voteRepository.findById(voteId);
+            if (vote.isEmpty() || vote.get().getStatus() != Vote.Status.CLOSED) {
+                return Optional.<VoteResultSnapshot>empty();
+            }
+
+            Map<UUID, Long> optionCounts = new HashMap<>();
+            for (Object[] row : voteOptionTallyRepository.sumByVoteIdsGroupByOption(List.of(voteId))) {
+                optionCounts.put((UUID) row[1], ((Number) row[2]).longValue());
+            }
+            long total = optionCounts.values().stream().mapToLong(Long::longValue).sum();
+
+            List<OptionWithStatsPayload> results = new ArrayList<>();
+            for (OptionSummary option : optionRepository.findSummariesByVoteIdIn(List.of(voteId))) {
+                long count = optionCounts.getOrDefault(option.getId(), 0L);
+                float percentage = total > 0 ? (float) count * 100 / total : 0;
+                results.add(new OptionWithStatsPayload(option.getId().toString(), option.getContent(), (int) count, percentage));
+            }
+
+            LocalDateTime closedAt = vote.get().getClosedAt();
+            int inserted = voteResultSnapshotRepository.insertIfAbsent(voteId, total, writeResults(results), closedAt,
+                    LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+            if (inserted == 1) {
+                log.info("투표 결과 스냅샷 기록: voteId={}, 총 응답 수={}", voteId, total);
+            }
+            return voteResultSnapshotRepository.findById(voteId);
+        });
+    }
+
+    /**
+     * 종료 전에 접수되었지만 종료 후에 저장된 응답을 반영하도록 결과 스냅샷을 다시 기록합니다.
+     * 수집 큐가 종료된 투표의 응답을 저장한 트랜잭션이 커밋된 뒤 호출됩니다.
+     *
+     * @param voteId 투표 ID
+     */
+    public void refreeze(UUID voteId) {
+        transactionTemplate.executeWithoutResult(status -> voteResultSnapshotRepository.deleteById(voteId));
+        freeze(voteId);
+        evictDetail(voteId);
+    }
+
+    /**
+     * 종료된 투표가 다시 열리면 같은 트랜잭션에서 결과 스냅샷을 삭제합니다.
+     *
+     * @param event 투표 재개 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onVoteReopened(VoteReopenedEvent event) {
+        voteResultSnapshotRepository.deleteById(event.getVoteId());
+    }
+
+    /**
+     * 투표가 삭제되면 같은 트랜잭션에서 결과 스냅샷을 삭제합니다.
+     *
+     * @param event 투표 삭제 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onVoteDeleted(VoteDeletedEvent event) {
+        voteResultSnapshotRepository.deleteById(event.getVoteId());
+    }
+
+    /**
+     * 스냅샷의 옵션별 결과를 읽습니다.
+     *
+     * @param snapshot 결과 스냅샷
+     * @return 옵션별 결과 목록
+     */
+    public List<OptionWithStatsPayload> readResults(VoteResultSnapshot snapshot) {
+        try {
+            return objectMapper.readValue(snapshot.getResults(), RESULTS_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new BusinessException("투표 결과 스냅샷을 읽을 수 없습니다: " + snapshot.getVoteId(), e);
+        }
+    }
+
+    /**
+     * 스냅샷으로 투표 결과 페이로드를 생성합니다.
+     *
+     * @param snapshot 결과 스냅샷
+     * @return 투표 결과 페이로드 (publishedAt은 스냅샷 생성 시각)
+     */
+    public VoteResultsPayload toPayload(VoteResultSnapshot snapshot) {
+        return VoteResultsPayload.builder()
+                .voteId(snapshot.getVoteId().toString())
+                .totalResponses((int) snapshot.getTotalResponses())
+                .options(readResults(snapshot))
+                .publishedAt(toEpochMillis(snapshot.getCreatedAt()))
+                .build();
+    }
+
+    /**
+     * 스냅샷의 ETag를 생성합니다. 스냅샷은 변경되지 않으므로 투표 ID와 생성 시각으로 충분합니다.
+     *
+     * @param snapshot 결과 스냅샷
+     * @return 강한 ETag 값
+     */
+    public String etag(VoteResultSnapshot snapshot) {
+        return "\"" + snapshot.getVoteId() + "-" + toEpochMillis(snapshot.getCreatedAt()) + "\"";
+    }
+
+    private String writeResults(List<OptionWithStatsPayload> results) {
+        try {
+            return objectMapper.writeValueAsString(results);
+        } catch (JsonProcessingException e) {
+            throw new BusinessException("투표 결과 스냅샷을 기록할 수 없습니다.", e);
+        }
+    }
+
+    private void evictDetail(UUID voteId) {
+        try {
+            voteDetailRedisRepository.delete(voteId);
+        } catch (DataAccessException e) {
+            log.warn("투표 상세 문서 삭제 실패: voteId={}, error={}", voteId, e.getMessage());
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
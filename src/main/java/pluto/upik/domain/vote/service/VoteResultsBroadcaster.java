@@ -0,0 +1,252 @@
+package pluto.upik.domain.vote.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pluto.upik.domain.vote.data.DTO.VoteResultsPayload;
+import pluto.upik.domain.vote.repository.VoteRepository;
+import pluto.upik.domain.voteResponse.event.VoteResponsesCreatedEvent;
+import pluto.upik.shared.exception.ResourceNotFoundException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 투표 결과를 구독자에게 실시간으로 전달하는 브로드캐스터
+ *
+ * 응답이 커밋되면 투표를 변경 목록에 표시만 하고, tick 주기마다 변경된 투표의 결과를 한 번에 조회해
+ * Redis 채널 {@code vote:results}로 발행합니다. 한 주기 안의 여러 응답은 하나의 메시지로 합쳐집니다.
+ * 모든 노드는 같은 채널을 구독해 자기 노드에 연결된 구독자에게만 전달하며,
+ * 구독자별로도 tick 주기당 최대 한 번만 전송되도록 샘플링합니다.
+ *
+ * 각 노드는 구독자가 있는 투표를 {@code vote:results:watched} 정렬 집합에 만료 시각과 함께 갱신하고,
+ * 발행 시에는 클러스터 어디에도 구독자가 없는 투표의 결과를 조회하지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VoteResultsBroadcaster implements MessageListener {
+
+    private static final String CHANNEL = "vote:results";
+    private static final String WATCHED_KEY = CHANNEL + ":watched";
+    private static final int WATCH_TTL_TICKS = 5;
+
+    private final VoteStatsLoader voteStatsLoader;
+    private final VoteRepository voteRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+
+    private final Set<UUID> dirtyVotes = ConcurrentHashMap.newKeySet();
+    private final Map<UUID, Channel> channels = new ConcurrentHashMap<>();
+
+    @Value("${vote.results.tick-ms:1000}")
+    private long tickMillis;
+
+    @PostConstruct
+    void subscribeChannel() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 커밋된 응답의 투표를 다음 tick에 발행할 대상으로 표시합니다.
+     *
+     * @param event 투표 응답 저장 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVoteResponsesCreated(VoteResponsesCreatedEvent event) {
+        dirtyVotes.addAll(event.getVoteIds());
+    }
+
+    /**
+     * 투표 결과 스트림을 구독합니다. 현재 결과를 먼저 보내고, 이후 변경분을 tick 주기로 전달합니다.
+     *
+     * @param voteId 투표 ID
+     * @return 투표 결과 스트림
+     * @throws ResourceNotFoundException 투표가 존재하지 않는 경우
+     */
+    public Flux<VoteResultsPayload> subscribe(UUID voteId) {
+        Mono<VoteResultsPayload> initial = Mono.fromCallable(() -> {
+                    if (!voteRepository.existsById(voteId)) {
+                        throw new ResourceNotFoundException("투표를 찾을 수 없습니다: " + voteId);
+                    }
+                    return load(List.of(voteId)).get(0);
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+
+        // 초기 결과를 조회하는 동안에도 변경분을 받도록 sink를 먼저 구독하고,
+        // 구독자 수를 직접 세어 다른 구독자의 해제가 이 구독의 sink를 제거하지 않도록 합니다.
+        Flux<VoteResultsPayload> updates = Flux.using(
+                () -> acquire(voteId),
+                sink -> sink.asFlux().sample(Duration.ofMillis(tickMillis)),
+                sink -> release(voteId));
+
+        return Flux.merge(updates, initial)
+                .scan((previous, next) -> next.getPublishedAt() >= previous.getPublishedAt() ? next : previous)
+                .distinctUntilChanged();
+    }
+
+    /**
+     * 변경된 투표의 결과를 조회해 Redis 채널로 발행합니다.
+     * 클러스터 어디에도 구독자가 없는 투표는 조회하지 않고 건너뜁니다.
+     * 조회나 발행에 실패하면 아직 발행하지 못한 투표를 다음 주기에 다시 발행하도록 대상을 되돌립니다.
+     */
+    @Scheduled(fixedDelayString = "${vote.results.tick-ms:1000}")
+    public void publishDirty() {
+        refreshWatched();
+        if (dirtyVotes.isEmpty()) {
+            return;
+        }
+        List<UUID> voteIds = new ArrayList<>(dirtyVotes);
+        dirtyVotes.removeAll(voteIds);
+
+        Set<UUID> unpublished = new HashSet<>(voteIds);
+        try {
+            List<UUID> watched = filterWatched(voteIds);
+            unpublished.retainAll(watched);
+            if (watched.isEmpty()) {
+                return;
+            }
+            for (VoteResultsPayload payload : load(watched)) {
+                redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(payload));
+                unpublished.remove(UUID.fromString(payload.getVoteId()));
+            }
+        } catch (DataAccessException | JsonProcessingException e) {
+            dirtyVotes.addAll(unpublished);
+            log.warn("투표 결과 발행 실패: {}개 중 {}개 재시도 예정, error={}",
+                    voteIds.size(), unpublished.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * Redis 채널로 수신한 결과를 이 노드의 구독자에게 전달합니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        VoteResultsPayload payload;
+        try {
+            payload = objectMapper.readValue(new String(message.getBody(), StandardCharsets.UTF_8),
+                    VoteResultsPayload.class);
+        } catch (JsonProcessingException e) {
+            log.warn("투표 결과 메시지 해석 실패: {}", e.getMessage());
+            return;
+        }
+
+        Channel channel = channels.get(UUID.fromString(payload.getVoteId()));
+        if (channel == null) {
+            return;
+        }
+        synchronized (channel.sink) {
+            channel.sink.tryEmitNext(payload);
+        }
+    }
+
+    private List<VoteResultsPayload> load(List<UUID> voteIds) {
+        VoteStatsLoader.VoteStats stats = voteStatsLoader.load(voteIds, null);
+        long now = System.currentTimeMillis();
+        return voteIds.stream()
+                .map(voteId -> VoteResultsPayload.builder()
+                        .voteId(voteId.toString())
+                        .totalResponses((int) stats.getTotalResponses(voteId))
+                        .options(stats.getOptionStats(voteId))
+                        .publishedAt(now)
+                        .build())
+                .toList();
+    }
+
+    /**
+     * 투표의 sink를 가져오고 구독자 수를 늘립니다. 첫 구독자이면 감시 목록에 바로 등록합니다.
+     */
+    private Sinks.Many<VoteResultsPayload> acquire(UUID voteId) {
+        boolean[] first = new boolean[1];
+        Channel channel = channels.compute(voteId, (id, existing) -> {
+            Channel acquired = existing != null ? existing : new Channel();
+            first[0] = ++acquired.subscribers == 1;
+            return acquired;
+        });
+        if (first[0]) {
+            try {
+                watch(List.of(voteId));
+            } catch (DataAccessException e) {
+                log.warn("투표 결과 구독 등록 실패, 다음 주기에 다시 등록합니다: voteId={}, error={}", voteId, e.getMessage());
+            }
+        }
+        return channel.sink;
+    }
+
+    /**
+     * 구독자 수를 줄이고, 마지막 구독자가 해제되면 sink를 제거합니다.
+     */
+    private void release(UUID voteId) {
+        channels.computeIfPresent(voteId, (id, channel) -> --channel.subscribers == 0 ? null : channel);
+    }
+
+    /**
+     * 이 노드에 구독자가 있는 투표의 감시 만료 시각을 갱신하고, 만료된 항목을 정리합니다.
+     */
+    private void refreshWatched() {
+        try {
+            watch(new ArrayList<>(channels.keySet()));
+            redisTemplate.opsForZSet().removeRangeByScore(WATCHED_KEY, 0, System.currentTimeMillis());
+        } catch (DataAccessException e) {
+            log.warn("투표 결과 구독 목록 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    private void watch(List<UUID> voteIds) {
+        if (voteIds.isEmpty()) {
+            return;
+        }
+        double expiresAt = System.currentTimeMillis() + tickMillis * WATCH_TTL_TICKS;
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        for (UUID voteId : voteIds) {
+            tuples.add(ZSetOperations.TypedTuple.of(voteId.toString(), expiresAt));
+        }
+        redisTemplate.opsForZSet().add(WATCHED_KEY, tuples);
+    }
+
+    /**
+     * 클러스터의 어느 노드에든 구독자가 있는 투표만 남깁니다.
+     */
+    private List<UUID> filterWatched(List<UUID> voteIds) {
+        List<Double> expiries = redisTemplate.opsForZSet().score(WATCHED_KEY,
+                voteIds.stream().map(UUID::toString).toArray());
+        long now = System.currentTimeMillis();
+        List<UUID> watched = new ArrayList<>();
+        for (int i = 0; i < voteIds.size(); i++) {
+            Double expiresAt = expiries != null ? expiries.get(i) : null;
+            if (expiresAt != null && expiresAt > now) {
+                watched.add(voteIds.get(i));
+            }
+        }
+        return watched;
+    }
+
+    /**
+     * 투표별 sink와 이 노드의 구독자 수
+     * 구독자 수는 {@link #channels}의 compute 안에서만 변경됩니다.
+     */
+    private static class Channel {
+        private final Sinks.Many<VoteResultsPayload> sink = Sinks.many().multicast().directBestEffort();
+        private int subscribers;
+    }
+}
@@ -3,7 +3,6 @@ package pluto.upik.domain.vote.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -14,6 +13,7 @@ import pluto.upik.domain.vote.data.DTO.CreateVoteInput;
 import pluto.upik.domain.vote.data.DTO.OptionWithStatsPayload;
 import pluto.upik.domain.vote.data.DTO.VoteDetailPayload;
 import pluto.upik.domain.vote.data.DTO.VotePayload;
+import pluto.upik.domain.vote.data.DTO.VoteSummary;
 import pluto.upik.domain.vote.data.model.Vote;
 import pluto.upik.domain.vote.repository.VoteRepository;
 import pluto.upik.domain.voteResponse.data.model.VoteResponse;
@@ -42,6 +42,7 @@ public class VoteService {
     private final UserRepository userRepository;
     private final VoteResponseService voteResponseService;
     private final TailRepository tailRepository;
+    private final VoteStatsLoader voteStatsLoader;
 
     // 더미 사용자 ID
     private static final UUID DUMMY_USER_ID = UUID.fromString("e49207e8-471a-11f0-937c-42010a800003");
@@ -307,39 +308,39 @@ public class VoteService {
 
     /**
      * 투표 목록을 정렬하여 가져옵니다.
+     * 정렬 기준마다 vote 테이블의 인덱스 컬럼(created_at, response_count, completion_rate)만으로 페이지를 읽고,
+     * 옵션과 응답 수는 {@link VoteStatsLoader}로 한 번에 조회합니다.
      *
      * @param sortBy 정렬 기준 ("date", "participation", "completion")
      * @param page   페이지 번호
      * @param size   페이지 크기
      * @return 정렬된 투표 목록
      */
+    @Transactional(readOnly = true)
     public List<VotePayload> getVotesSorted(String sortBy, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<Vote> votesPage;
+        List<VoteSummary> votes;
 
         switch (sortBy.toLowerCase()) {
             case "participation":
                 // 참여율 기준 정렬
-                votesPage = voteRepository.findAllOrderByParticipationRate(pageable);
+                votes = voteRepository.findAllOrderByParticipationRate(pageable);
                 break;
             case "completion":
                 // 종료율 기준 정렬
-                votesPage = voteRepository.findAllOrderByCompletionRate(pageable);
+                votes = voteRepository.findAllOrderByCompletionRate(pageable);
                 break;
             case "date":
             default:
                 // 기본: 생성일 기준 정렬 (최신순)
-                votesPage = voteRepository.findAllByOrderByCreatedAtDesc(pageable);
+                votes = voteRepository.findAllByOrderByCreatedAtDesc(pageable);
                 break;
         }
 
-        return votesPage.getContent().stream()
-                .map(vote -> {
-                    // 더미 옵션 목록 생성
-                    List<Option> dummyOptions = new ArrayList<>();
-                    // fromEntity 메서드 사용
-                return VotePayload.fromEntity(vote, dummyOptions);
-            })
+        VoteStatsLoader.VoteStats stats = voteStatsLoader.load(
+                votes.stream().map(VoteSummary::getId).toList(), null);
+        return votes.stream()
+                .map(stats::toPayload)
                 .collect(Collectors.toList());
     }
 
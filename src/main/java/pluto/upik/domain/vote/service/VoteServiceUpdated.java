@@ -2,32 +2,35 @@ package pluto.upik.domain.vote.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import pluto.upik.domain.option.data.model.Option;
 import pluto.upik.domain.option.repository.OptionRepository;
 import pluto.upik.domain.vote.data.DTO.CreateVoteInput;
 import pluto.upik.domain.vote.data.DTO.OptionWithStatsPayload;
+import pluto.upik.domain.vote.data.DTO.VoteConnection;
 import pluto.upik.domain.vote.data.DTO.VoteDetailPayload;
+import pluto.upik.domain.vote.data.DTO.VoteEdge;
+import pluto.upik.domain.vote.data.DTO.VotePageInfo;
 import pluto.upik.domain.vote.data.DTO.VotePayload;
+import pluto.upik.domain.vote.data.DTO.VoteSummary;
 import pluto.upik.domain.vote.data.model.Vote;
+import pluto.upik.domain.vote.event.VoteCreatedEvent;
 import pluto.upik.domain.vote.repository.VoteRepository;
-import pluto.upik.domain.voteResponse.data.model.VoteResponse;
-import pluto.upik.domain.voteResponse.repository.VoteResponseRepository;
-import pluto.upik.domain.voteResponse.service.VoteResponseService;
-import pluto.upik.domain.tail.data.model.Tail;
-import pluto.upik.domain.tail.repository.TailRepository;
+import pluto.upik.domain.voteResponse.service.VoteParticipationService;
+import pluto.upik.domain.tail.data.DTO.TailSummary;
 import pluto.upik.domain.tail.repository.TailResponseRepository;
-import pluto.upik.shared.cache.CacheNames;
+import pluto.upik.shared.cache.CacheDependencyTracker;
+import pluto.upik.shared.cache.CacheTags;
 import pluto.upik.shared.exception.ResourceNotFoundException;
 import pluto.upik.shared.oauth2jwt.entity.User;
 import pluto.upik.shared.oauth2jwt.repository.UserRepository;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -37,35 +40,40 @@ import java.util.stream.Collectors;
 @Slf4j
 public class VoteServiceUpdated {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final VoteRepository voteRepository;
     private final OptionRepository optionRepository;
-    private final VoteResponseRepository voteResponseRepository;
     private final UserRepository userRepository;
-    private final VoteResponseService voteResponseService;
-    private final TailRepository tailRepository;
     private final TailResponseRepository tailResponseRepository;
+    private final VoteStatsLoader voteStatsLoader;
+    private final VoteRankingService voteRankingService;
+    private final VoteDeadlineService voteDeadlineService;
+    private final VotePayloadCache votePayloadCache;
+    private final VoteDetailReadModel voteDetailReadModel;
+    private final VoteParticipationService voteParticipationService;
+    private final CacheDependencyTracker cacheDependencyTracker;
+    private final ApplicationEventPublisher eventPublisher;
 
-    @Caching(evict = {
-            @CacheEvict(value = CacheNames.VOTE_LIST, allEntries = true),
-            @CacheEvict(value = CacheNames.VOTE_DETAIL, allEntries = true),
-            @CacheEvict(value = CacheNames.VOTE_POPULAR, allEntries = true),
-            @CacheEvict(value = CacheNames.VOTE_LEAST, allEntries = true),
-            @CacheEvict(value = CacheNames.VOTE_MY, allEntries = true)
-    })
     public VotePayload createVote(CreateVoteInput input, UUID userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다: " + userId));
 
+        LocalDateTime deadlineAt = Vote.deadlineAfter(LocalDateTime.now(), 3);
         Vote vote = Vote.builder()
                 .id(UUID.randomUUID())
                 .question(input.getTitle())
                 .category(input.getCategory())
                 .status(Vote.Status.OPEN)
-                .finishedAt(LocalDate.now().plusDays(3))
+                .finishedAt(deadlineAt.toLocalDate())
+                .deadlineAt(deadlineAt)
                 .user(user)
                 .build();
 
         Vote savedVote = voteRepository.save(vote);
+        voteRankingService.register(savedVote);
+        voteDeadlineService.schedule(savedVote);
+        voteParticipationService.initialize(savedVote.getId());
 
         List<Option> options = input.getOptions().stream().map(content ->
                 Option.builder()
@@ -74,310 +82,220 @@ public class VoteServiceUpdated {
                         .build()
         ).toList();
         List<Option> savedOptions = optionRepository.saveAll(options);
+        cacheDependencyTracker.invalidate(CacheTags.VOTE_COLLECTION, CacheTags.VOTE_RANKING, CacheTags.voteCreator(userId));
+        eventPublisher.publishEvent(new VoteCreatedEvent(savedVote.getId(), savedVote.getCategory()));
 
         return VotePayload.fromEntity(savedVote, savedOptions);
     }
 
+    /**
+     * 전체 투표 목록을 조회합니다.
+     * 미참여 투표만 요청하면 참여한 투표를 DB에서 제외하고, 반환할 투표의 페이로드만 생성합니다.
+     *
+     * @param userId 사용자 ID (null 가능)
+     * @param includeExpired 종료된 투표 포함 여부
+     * @param includeHasVoted 사용자가 참여하지 않은 투표만 반환할지 여부
+     * @return 투표 목록
+     */
     @Transactional(readOnly = true)
-    @Cacheable(value = CacheNames.VOTE_LIST, key = "T(java.lang.String).format('%s:%b:%b', #userId, #includeExpired, #includeHasVoted)")
     public List<VotePayload> getAllVotes(UUID userId, boolean includeExpired, boolean includeHasVoted) {
-        LocalDate currentDate = LocalDate.now();
-        List<Vote> votes;
-
-        if (includeExpired) {
-            votes = voteRepository.findAll();
-        } else {
-            votes = voteRepository.findActiveVotes(currentDate);
-        }
-
-        List<VotePayload> votePayloads = new ArrayList<>();
-
-        for (Vote vote : votes) {
-            List<Option> options = optionRepository.findByVoteId(vote.getId());
-            Long totalResponses = voteResponseRepository.countByVoteId(vote.getId());
-            List<OptionWithStatsPayload> optionStats = new ArrayList<>();
-            for (Option option : options) {
-                Long optionCount = voteResponseRepository.countByOptionId(option.getId());
-                float percentage = totalResponses > 0 ? (float) optionCount * 100 / totalResponses : 0;
-
-                optionStats.add(new OptionWithStatsPayload(
-                    option.getId().toString(),
-                    option.getContent(),
-                    optionCount.intValue(),
-                    percentage
-                ));
-            }
-
-            Optional<VoteResponse> userResponse = findUserResponse(userId, vote.getId());
-            boolean hasVoted = userResponse.isPresent();
-
-            votePayloads.add(VotePayload.fromEntityWithStats(
-                vote,
-                options,
-                optionStats,
-                totalResponses.intValue(),
-                hasVoted,
-                userResponse.map(vr -> vr.getSelectedOption().getId().toString()).orElse(null),
-                userResponse.map(vr -> vr.getSelectedOption().getContent()).orElse(null)
-            ));
-        }
-
-        if (includeHasVoted) {
-            return votePayloads.stream()
-                    .filter(p -> !p.getHasVoted())
-                    .collect(Collectors.toList());
+        if (includeHasVoted && userId != null) {
+            VoteCursor cursor = VoteCursor.decode(null);
+            List<VoteSummary> votes = findUnvotedPage(userId, cursor, includeExpired, Pageable.unpaged());
+            VoteStatsLoader.VoteStats stats = voteStatsLoader.load(votes.stream().map(VoteSummary::getId).toList(), null);
+            return votes.stream().map(stats::toPayload).collect(Collectors.toList());
         }
-
-        return votePayloads;
+        return overlay(votePayloadCache.getAllVotes(includeExpired), userId);
     }
 
     @Transactional(readOnly = true)
-    @Cacheable(value = CacheNames.VOTE_DETAIL, key = "T(java.lang.String).format('%s:%s', #voteId, T(java.util.Objects).toString(#userId))")
     public VoteDetailPayload getVoteById(UUID voteId, UUID userId) {
-        Vote vote = voteRepository.findById(voteId)
-                .orElseThrow(() -> new ResourceNotFoundException("투표를 찾을 수 없습니다: " + voteId));
-
-        List<Option> options = optionRepository.findByVoteId(voteId);
-        Long totalResponses = voteResponseRepository.countByVoteId(voteId);
-
-        List<OptionWithStatsPayload> optionStats = new ArrayList<>();
-        for (Option option : options) {
-            Long optionCount = voteResponseRepository.countByOptionId(option.getId());
-            float percentage = totalResponses > 0 ? (float) optionCount * 100 / totalResponses : 0;
-
-            optionStats.add(new OptionWithStatsPayload(
-                option.getId().toString(),
-                option.getContent(),
-                optionCount.intValue(),
-                percentage
-            ));
+        VoteDetailPayload shared = voteDetailReadModel.get(voteId);
+        if (userId == null) {
+            return shared;
         }
 
-        String creatorName = Optional.ofNullable(vote.getUser())
-                .map(User::getUsername)
-                .orElse(null);
+        UUID myOptionId = voteParticipationService.getSelections(userId, List.of(voteId)).get(voteId);
+        Optional<TailSummary> myTailResponse = tailResponseRepository.findSummaryByUserIdAndVoteId(userId, voteId);
 
-        Optional<VoteResponse> userResponse = findUserResponse(userId, voteId);
-        boolean hasVoted = userResponse.isPresent();
-        Optional<Tail> tail = tailRepository.findFirstByVote(vote);
-        Optional<pluto.upik.domain.tail.data.model.TailResponse> myTailResponse =
-                (userId != null) ? tailResponseRepository.findByUserIdAndVoteId(userId, voteId) : Optional.empty();
-
-        return VoteDetailPayload.builder()
-                .id(vote.getId().toString())
-                .title(vote.getQuestion())
-                .category(vote.getCategory())
-                .status(vote.getStatus().name())
-                .createdBy(creatorName)
-                .finishedAt(vote.getFinishedAt().format(DateTimeFormatter.ISO_LOCAL_DATE))
-                .closureType(vote.getClosureType() != null ? vote.getClosureType().name() : Vote.ClosureType.DEFAULT.name())
-                .participantThreshold(vote.getParticipantThreshold())
-                .totalResponses(totalResponses.intValue())
-                .options(optionStats)
-                .hasVoted(hasVoted)
-                .myOptionId(userResponse.map(vr -> vr.getSelectedOption().getId().toString()).orElse(null))
-                .myOptionContent(userResponse.map(vr -> vr.getSelectedOption().getContent()).orElse(null))
-                .tailId(tail.map(t -> t.getId().toString()).orElse(null))
-                .tailQuestion(tail.map(Tail::getQuestion).orElse(null))
-                .myTailId(myTailResponse.map(tr -> tr.getTail().getId().toString()).orElse(null))
-                .myTailQuestion(myTailResponse.map(tr -> tr.getTail().getQuestion()).orElse(null))
-                .myTailAnswer(myTailResponse.map(pluto.upik.domain.tail.data.model.TailResponse::getAnswer).orElse(null))
+        return shared.toBuilder()
+                .hasVoted(myOptionId != null)
+                .myOptionId(myOptionId != null ? myOptionId.toString() : null)
+                .myOptionContent(findOptionContent(shared.getOptions(), myOptionId))
+                .myTailId(myTailResponse.map(tr -> tr.getId().toString()).orElse(null))
+                .myTailQuestion(myTailResponse.map(TailSummary::getQuestion).orElse(null))
+                .myTailAnswer(myTailResponse.map(TailSummary::getAnswer).orElse(null))
                 .build();
     }
 
     @Transactional(readOnly = true)
-    @Cacheable(value = CacheNames.VOTE_POPULAR, key = "T(java.lang.String).format('%s:%b:%b', #userId, #includeExpired, #includeHasVoted)")
     public List<VotePayload> getMostPopularOpenVote(UUID userId, boolean includeExpired, boolean includeHasVoted) {
-        LocalDate currentDate = LocalDate.now();
-        List<Vote> votes;
-
-        if (includeExpired) {
-            votes = voteRepository.findAll();
-        } else {
-            votes = voteRepository.findActiveVotes(currentDate);
-        }
-
-        if (votes.isEmpty()) {
-            return Collections.emptyList();
-        }
+        return filterHasVoted(overlay(votePayloadCache.getMostPopular(includeExpired), userId), includeHasVoted);
+    }
 
-        Map<Vote, Long> voteResponseCounts = new HashMap<>();
-        for (Vote vote : votes) {
-            Long responseCount = voteResponseRepository.countByVoteId(vote.getId());
-            voteResponseCounts.put(vote, responseCount);
+    @Transactional(readOnly = true)
+    public VotePayload getLeastPopularOpenVote(UUID userId, boolean includeExpired, boolean includeHasVoted) {
+        VotePayload shared = votePayloadCache.getLeastPopular(includeExpired);
+        if (shared == null) {
+            return null;
         }
 
-        List<Map.Entry<Vote, Long>> sortedVotes = voteResponseCounts.entrySet().stream()
-            .sorted(Map.Entry.<Vote, Long>comparingByValue().reversed())
-            .limit(3)
-            .collect(Collectors.toList());
-
-        List<VotePayload> result = new ArrayList<>();
-        for (Map.Entry<Vote, Long> entry : sortedVotes) {
-            Vote vote = entry.getKey();
-            Long totalResponses = entry.getValue();
-            List<Option> options = optionRepository.findByVoteId(vote.getId());
-
-            List<OptionWithStatsPayload> optionStats = new ArrayList<>();
-            for (Option option : options) {
-                Long optionCount = voteResponseRepository.countByOptionId(option.getId());
-                float percentage = totalResponses > 0 ? (float) optionCount * 100 / totalResponses : 0;
-
-                optionStats.add(new OptionWithStatsPayload(
-                    option.getId().toString(),
-                    option.getContent(),
-                    optionCount.intValue(),
-                    percentage
-                ));
-            }
-
-            Optional<VoteResponse> userResponse = findUserResponse(userId, vote.getId());
-            boolean hasVoted = userResponse.isPresent();
-            result.add(VotePayload.fromEntityWithStats(
-                    vote,
-                    options,
-                    optionStats,
-                    totalResponses.intValue(),
-                    hasVoted,
-                    userResponse.map(vr -> vr.getSelectedOption().getId().toString()).orElse(null),
-                    userResponse.map(vr -> vr.getSelectedOption().getContent()).orElse(null)));
-        }
+        VotePayload payload = overlay(List.of(shared), userId).get(0);
 
-        if (includeHasVoted) {
-            return result.stream()
-                    .filter(p -> !p.getHasVoted())
-                    .collect(Collectors.toList());
+        if (includeHasVoted && payload.getHasVoted()) {
+            return null;
         }
 
-        return result;
+        return payload;
     }
 
     @Transactional(readOnly = true)
-    @Cacheable(value = CacheNames.VOTE_LEAST, key = "T(java.lang.String).format('%s:%b:%b', #userId, #includeExpired, #includeHasVoted)")
-    public VotePayload getLeastPopularOpenVote(UUID userId, boolean includeExpired, boolean includeHasVoted) {
-        LocalDate currentDate = LocalDate.now();
-        List<Vote> votes;
+    public List<VotePayload> getVotesByUserId(UUID userId, boolean includeExpired, boolean includeHasVoted) {
+        return filterHasVoted(overlay(votePayloadCache.getVotesByCreator(userId, includeExpired), userId), includeHasVoted);
+    }
 
-        if (includeExpired) {
-            votes = voteRepository.findAll();
-        } else {
-            votes = voteRepository.findActiveVotes(currentDate);
-        }
+    @Transactional(readOnly = true)
+    public List<VotePayload> getMyVotes(UUID userId, boolean includeExpired, boolean includeHasVoted) {
+        return getVotesByUserId(userId, includeExpired, includeHasVoted);
+    }
 
-        if (votes.isEmpty()) {
-            return null;
+    /**
+     * 전체 투표 목록을 (finishedAt, id) 키셋 커서 기준으로 한 페이지씩 조회합니다.
+     * 전체 목록을 적재하지 않으므로 투표 수가 늘어도 응답 시간과 메모리 사용량이 일정합니다.
+     *
+     * @param userId 사용자 ID (null 가능)
+     * @param first 조회할 개수 (1 ~ 100)
+     * @param after 이전 페이지의 endCursor (null이면 첫 페이지)
+     * @param includeExpired 종료된 투표 포함 여부
+     * @param includeHasVoted 사용자가 참여하지 않은 투표만 반환할지 여부 (참여한 투표는 DB에서 제외)
+     * @return 투표 Connection
+     */
+    @Transactional(readOnly = true)
+    public VoteConnection getVotesConnection(UUID userId, int first, String after, boolean includeExpired, boolean includeHasVoted) {
+        VoteCursor cursor = VoteCursor.decode(after);
+        PageRequest limit = PageRequest.of(0, clampPageSize(first) + 1);
+        if (includeHasVoted && userId != null) {
+            return toConnection(findUnvotedPage(userId, cursor, includeExpired, limit), clampPageSize(first), null);
         }
+        List<VoteSummary> votes = includeExpired
+                ? voteRepository.findPageAfter(cursor.getFinishedAt(), cursor.getId(), limit)
+                : voteRepository.findActivePageAfter(LocalDate.now(), cursor.getFinishedAt(), cursor.getId(), limit);
+        return toConnection(votes, clampPageSize(first), userId);
+    }
 
-        Map<Vote, Long> voteResponseCounts = new HashMap<>();
-        for (Vote vote : votes) {
-            Long responseCount = voteResponseRepository.countByVoteId(vote.getId());
-            voteResponseCounts.put(vote, responseCount);
-        }
+    /**
+     * 현재 사용자가 생성한 투표 목록을 (finishedAt, id) 키셋 커서 기준으로 한 페이지씩 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @param first 조회할 개수 (1 ~ 100)
+     * @param after 이전 페이지의 endCursor (null이면 첫 페이지)
+     * @param includeExpired 종료된 투표 포함 여부
+     * @return 투표 Connection
+     */
+    @Transactional(readOnly = true)
+    public VoteConnection getMyVotesConnection(UUID userId, int first, String after, boolean includeExpired) {
+        VoteCursor cursor = VoteCursor.decode(after);
+        PageRequest limit = PageRequest.of(0, clampPageSize(first) + 1);
+        List<VoteSummary> votes = includeExpired
+                ? voteRepository.findPageByUserIdAfter(userId, cursor.getFinishedAt(), cursor.getId(), limit)
+                : voteRepository.findActivePageByUserIdAfter(userId, LocalDate.now(), cursor.getFinishedAt(), cursor.getId(), limit);
+        return toConnection(votes, clampPageSize(first), userId);
+    }
 
-        Optional<Map.Entry<Vote, Long>> leastPopular = voteResponseCounts.entrySet().stream()
-            .min(Map.Entry.comparingByValue());
+    /**
+     * 투표 목록을 정렬하여 한 페이지씩 조회합니다.
+     * 정렬 기준마다 vote 테이블의 인덱스 컬럼(created_at, response_count, completion_rate)만으로 페이지를 읽고,
+     * 옵션, 응답 수와 사용자의 참여 여부는 {@link VoteStatsLoader}로 한 번에 조회합니다.
+     *
+     * @param userId 사용자 ID (null 가능)
+     * @param sortBy 정렬 기준 ("date", "participation", "completion")
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기 (1 ~ 100)
+     * @return 정렬된 투표 목록
+     */
+    @Transactional(readOnly = true)
+    public List<VotePayload> getVotesSorted(UUID userId, String sortBy, int page, int size) {
+        Pageable pageable = PageRequest.of(Math.max(page, 0), clampPageSize(size));
+        List<VoteSummary> votes = switch (sortBy == null ? "date" : sortBy.toLowerCase()) {
+            case "participation" -> voteRepository.findAllOrderByParticipationRate(pageable);
+            case "completion" -> voteRepository.findAllOrderByCompletionRate(pageable);
+            default -> voteRepository.findAllByOrderByCreatedAtDesc(pageable);
+        };
+
+        VoteStatsLoader.VoteStats stats = voteStatsLoader.load(votes.stream().map(VoteSummary::getId).toList(), userId);
+        return votes.stream().map(stats::toPayload).collect(Collectors.toList());
+    }
 
-        if (leastPopular.isEmpty()) {
-            return null;
-        }
+    /**
+     * 한 개를 더 조회한 결과로 다음 페이지 존재 여부를 판단하여 Connection을 구성합니다.
+     */
+    private VoteConnection toConnection(List<VoteSummary> votes, int pageSize, UUID userId) {
+        boolean hasNextPage = votes.size() > pageSize;
+        List<VoteSummary> page = hasNextPage ? votes.subList(0, pageSize) : votes;
+
+        VoteStatsLoader.VoteStats stats = voteStatsLoader.load(page.stream().map(VoteSummary::getId).toList(), userId);
+        List<VoteEdge> edges = page.stream()
+                .map(vote -> new VoteEdge(VoteCursor.encode(vote), stats.toPayload(vote)))
+                .collect(Collectors.toList());
+
+        String endCursor = edges.isEmpty() ? null : edges.get(edges.size() - 1).getCursor();
+        return VoteConnection.builder()
+                .edges(edges)
+                .pageInfo(new VotePageInfo(hasNextPage, endCursor))
+                .build();
+    }
 
-        Vote vote = leastPopular.get().getKey();
-        Long totalResponses = leastPopular.get().getValue();
-        List<Option> options = optionRepository.findByVoteId(vote.getId());
-
-        List<OptionWithStatsPayload> optionStats = new ArrayList<>();
-        for (Option option : options) {
-            Long optionCount = voteResponseRepository.countByOptionId(option.getId());
-            float percentage = totalResponses > 0 ? (float) optionCount * 100 / totalResponses : 0;
-
-            optionStats.add(new OptionWithStatsPayload(
-                option.getId().toString(),
-                option.getContent(),
-                optionCount.intValue(),
-                percentage
-            ));
-        }
+    /**
+     * 사용자가 응답하지 않은 투표를 커서 다음부터 조회합니다.
+     * 반환된 투표는 모두 미참여이므로 참여 정보 조회 없이 페이로드를 만들 수 있습니다.
+     */
+    private List<VoteSummary> findUnvotedPage(UUID userId, VoteCursor cursor, boolean includeExpired, Pageable pageable) {
+        return includeExpired
+                ? voteRepository.findUnvotedPageAfter(userId, cursor.getFinishedAt(), cursor.getId(), pageable)
+                : voteRepository.findActiveUnvotedPageAfter(userId, LocalDate.now(), cursor.getFinishedAt(), cursor.getId(), pageable);
+    }
 
-        Optional<VoteResponse> userResponse = findUserResponse(userId, vote.getId());
-        boolean hasVoted = userResponse.isPresent();
-        VotePayload payload = VotePayload.fromEntityWithStats(
-                vote,
-                options,
-                optionStats,
-                totalResponses.intValue(),
-                hasVoted,
-                userResponse.map(vr -> vr.getSelectedOption().getId().toString()).orElse(null),
-                userResponse.map(vr -> vr.getSelectedOption().getContent()).orElse(null));
+    private int clampPageSize(int first) {
+        return Math.max(1, Math.min(first, MAX_PAGE_SIZE));
+    }
 
-        if (includeHasVoted && payload.getHasVoted()) {
-            return null;
+    /**
+     * 공유 캐시의 페이로드를 복사하여 최신 응답 수와 사용자의 참여 여부, 선택 옵션을 덧씌웁니다.
+     * 응답 수는 카운터, 참여 정보는 참여자 인덱스에 대한 각각 한 번의 조회로 가져오며, 캐시된 원본은 변경하지 않습니다.
+     *
+     * @param shared 사용자 정보가 없는 페이로드 목록
+     * @param userId 사용자 ID (null이면 응답 수만 반영)
+     * @return 응답 수와 사용자 정보가 반영된 페이로드 목록
+     */
+    private List<VotePayload> overlay(List<VotePayload> shared, UUID userId) {
+        if (shared.isEmpty()) {
+            return shared;
         }
 
-        return payload;
+        List<UUID> voteIds = shared.stream().map(p -> UUID.fromString(p.getId())).toList();
+        VoteStatsLoader.VoteStats stats = voteStatsLoader.loadCounts(voteIds, userId);
+        return shared.stream()
+                .map(stats::overlay)
+                .collect(Collectors.toList());
     }
 
-    @Transactional(readOnly = true)
-    public List<VotePayload> getVotesByUserId(UUID userId, boolean includeExpired, boolean includeHasVoted) {
-        LocalDate currentDate = LocalDate.now();
-        List<Vote> votes;
-
-        if (includeExpired) {
-            votes = voteRepository.findByUserId(userId);
-        } else {
-            votes = voteRepository.findActiveVotesByUserId(userId, currentDate);
-        }
-
-        List<VotePayload> votePayloads = new ArrayList<>();
-
-        for (Vote vote : votes) {
-            List<Option> options = optionRepository.findByVoteId(vote.getId());
-            Long totalResponses = voteResponseRepository.countByVoteId(vote.getId());
-            List<OptionWithStatsPayload> optionStats = new ArrayList<>();
-            for (Option option : options) {
-                Long optionCount = voteResponseRepository.countByOptionId(option.getId());
-                float percentage = totalResponses > 0 ? (float) optionCount * 100 / totalResponses : 0;
-
-                optionStats.add(new OptionWithStatsPayload(
-                    option.getId().toString(),
-                    option.getContent(),
-                    optionCount.intValue(),
-                    percentage
-                ));
-            }
-
-            Optional<VoteResponse> userResponse = findUserResponse(userId, vote.getId());
-            boolean hasVoted = userResponse.isPresent();
-
-            votePayloads.add(VotePayload.fromEntityWithStats(
-                vote,
-                options,
-                optionStats,
-                totalResponses.intValue(),
-                hasVoted,
-                userResponse.map(vr -> vr.getSelectedOption().getId().toString()).orElse(null),
-                userResponse.map(vr -> vr.getSelectedOption().getContent()).orElse(null)
-            ));
+    private String findOptionContent(List<OptionWithStatsPayload> options, UUID optionId) {
+        if (optionId == null || options == null) {
+            return null;
         }
+        return options.stream()
+                .filter(option -> option.getId().equals(optionId.toString()))
+                .map(OptionWithStatsPayload::getContent)
+                .findFirst()
+                .orElse(null);
+    }
 
+    private List<VotePayload> filterHasVoted(List<VotePayload> votePayloads, boolean includeHasVoted) {
         if (includeHasVoted) {
             return votePayloads.stream()
                     .filter(p -> !p.getHasVoted())
                     .collect(Collectors.toList());
         }
-
         return votePayloads;
     }
-
-    @Transactional(readOnly = true)
-    @Cacheable(value = CacheNames.VOTE_MY, key = "T(java.lang.String).format('%s:%b:%b', #userId, #includeExpired, #includeHasVoted)")
-    public List<VotePayload> getMyVotes(UUID userId, boolean includeExpired, boolean includeHasVoted) {
-        return getVotesByUserId(userId, includeExpired, includeHasVoted);
-    }
-
-    private Optional<VoteResponse> findUserResponse(UUID userId, UUID voteId) {
-        if (userId == null) {
-            return Optional.empty();
-        }
-        return voteResponseRepository.findByUserIdAndVoteId(userId, voteId);
-    }
 }
@@ -0,0 +1,197 @@
+package pluto.upik.domain.vote.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import pluto.upik.domain.option.data.DTO.OptionSummary;
+import pluto.upik.domain.option.repository.OptionRepository;
+import pluto.upik.domain.vote.data.DTO.OptionWithStatsPayload;
+import pluto.upik.domain.vote.data.DTO.VotePayload;
+import pluto.upik.domain.vote.data.DTO.VoteSummary;
+import pluto.upik.domain.voteResponse.service.VoteCounterService;
+import pluto.upik.domain.voteResponse.service.VoteParticipationService;
+
+import java.util.*;
+
+/**
+ * 여러 투표의 옵션, 옵션별 응답 수, 총 응답 수, 사용자 응답을 한 번에 조회하는 로더
+ * 투표 수와 관계없이 일정한 수의 쿼리로 목록용 통계를 구성합니다.
+ * 응답 수는 vote_response를 직접 세지 않고 Redis 카운터(미적재 시 vote_option_tally 샤드 합산)에서 읽고,
+ * 사용자의 참여 여부와 선택 옵션은 Redis 참여자 인덱스에서 한 번에 읽습니다.
+ * 옵션은 엔티티 대신 ID, 투표 ID, 내용만 담은 {@link OptionSummary}로 조회합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class VoteStatsLoader {
+
+    private final OptionRepository optionRepository;
+    private final VoteCounterService voteCounterService;
+    private final VoteParticipationService voteParticipationService;
+
+    /**
+     * 투표별 총 응답 수만 조회합니다.
+     *
+     * @param voteIds 투표 ID 목록
+     * @return 투표 ID → 총 응답 수 (응답이 없는 투표는 0)
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, Long> loadTotals(Collection<UUID> voteIds) {
+        Map<UUID, Long> totals = new HashMap<>();
+        if (voteIds.isEmpty()) {
+            return totals;
+        }
+        VoteCounterService.VoteCounts counts = voteCounterService.getCounts(voteIds);
+        voteIds.forEach(id -> totals.put(id, counts.getTotal(id)));
+        return totals;
+    }
+
+    /**
+     * 투표 목록의 옵션, 옵션별 응답 수, 사용자 응답을 한 번에 조회합니다.
+     * 옵션 조회 1회, 카운터 조회 1회, 참여자 인덱스 조회 1회(인증 사용자인 경우)만 수행합니다.
+     *
+     * @param voteIds 투표 ID 목록
+     * @param userId 사용자 ID (null 가능)
+     * @return 조회된 통계
+     */
+    @Transactional(readOnly = true)
+    public VoteStats load(Collection<UUID> voteIds, UUID userId) {
+        VoteStats stats = new VoteStats();
+        if (voteIds.isEmpty()) {
+            return stats;
+        }
+
+        for (OptionSummary option : optionRepository.findSummariesByVoteIdIn(voteIds)) {
+            stats.optionsByVote.computeIfAbsent(option.getVoteId(), id -> new ArrayList<>()).add(option);
+        }
+
+        stats.counts = voteCounterService.getCounts(voteIds);
+
+        stats.userSelections.putAll(voteParticipationService.getSelections(userId, voteIds));
+
+        return stats;
+    }
+
+    /**
+     * 캐시된 페이로드에 덧씌울 응답 수와 사용자 응답만 조회합니다. 옵션은 페이로드의 것을 사용하므로 조회하지 않습니다.
+     * 카운터 조회 1회, 참여자 인덱스 조회 1회(인증 사용자인 경우)만 수행합니다.
+     *
+     * @param voteIds 투표 ID 목록
+     * @param userId 사용자 ID (null 가능)
+     * @return 조회된 통계 ({@link VoteStats#overlay(VotePayload)} 전용)
+     */
+    @Transactional(readOnly = true)
+    public VoteStats loadCounts(Collection<UUID> voteIds, UUID userId) {
+        VoteStats stats = new VoteStats();
+        if (voteIds.isEmpty()) {
+            return stats;
+        }
+        stats.counts = voteCounterService.getCounts(voteIds);
+        stats.userSelections.putAll(voteParticipationService.getSelections(userId, voteIds));
+        return stats;
+    }
+
+    /**
+     * 한 번의 로드로 얻은 투표 통계 묶음
+     */
+    public static class VoteStats {
+        private final Map<UUID, List<OptionSummary>> optionsByVote = new HashMap<>();
+        private VoteCounterService.VoteCounts counts = new VoteCounterService.VoteCounts();
+        private final Map<UUID, UUID> userSelections = new HashMap<>();
+
+        public List<OptionSummary> getOptions(UUID voteId) {
+            return optionsByVote.getOrDefault(voteId, Collections.emptyList());
+        }
+
+        public long getTotalResponses(UUID voteId) {
+            return counts.getTotal(voteId);
+        }
+
+        /**
+         * 사용자가 선택한 옵션을 조회합니다.
+         *
+         * @param voteId 투표 ID
+         * @return 선택한 옵션, 참여하지 않았으면 empty
+         */
+        public Optional<OptionSummary> getUserSelection(UUID voteId) {
+            UUID optionId = userSelections.get(voteId);
+            if (optionId == null) {
+                return Optional.empty();
+            }
+            return getOptions(voteId).stream()
+                    .filter(option -> option.getId().equals(optionId))
+                    .findFirst();
+        }
+
+        /**
+         * 옵션별 응답 수와 비율을 계산합니다.
+         *
+         * @param voteId 투표 ID
+         * @return 옵션 통계 목록
+         */
+        public List<OptionWithStatsPayload> getOptionStats(UUID voteId) {
+            long totalResponses = getTotalResponses(voteId);
+            List<OptionWithStatsPayload> optionStats = new ArrayList<>();
+            for (OptionSummary option : getOptions(voteId)) {
+                long optionCount = counts.getOptionCount(option.getId());
+                float percentage = totalResponses > 0 ? (float) optionCount * 100 / totalResponses : 0;
+                optionStats.add(new OptionWithStatsPayload(
+                        option.getId().toString(),
+                        option.getContent(),
+                        (int) optionCount,
+                        percentage
+                ));
+            }
+            return optionStats;
+        }
+
+        /**
+         * 캐시된 페이로드의 응답 수, 옵션 비율과 사용자 참여 정보를 로드된 값으로 바꾼 복사본을 반환합니다.
+         * 원본 페이로드는 변경하지 않습니다.
+         *
+         * @param cached 캐시된 페이로드
+         * @return 최신 응답 수와 사용자 참여 정보가 반영된 페이로드
+         */
+        public VotePayload overlay(VotePayload cached) {
+            UUID voteId = UUID.fromString(cached.getId());
+            long totalResponses = getTotalResponses(voteId);
+            List<OptionWithStatsPayload> optionStats = new ArrayList<>();
+            List<OptionWithStatsPayload> cachedOptions = cached.getOptions() != null ? cached.getOptions() : List.of();
+            for (OptionWithStatsPayload option : cachedOptions) {
+                long optionCount = counts.getOptionCount(UUID.fromString(option.getId()));
+                float percentage = totalResponses > 0 ? (float) optionCount * 100 / totalResponses : 0;
+                optionStats.add(new OptionWithStatsPayload(option.getId(), option.getContent(), (int) optionCount, percentage));
+            }
+
+            UUID myOptionId = userSelections.get(voteId);
+            String myOptionContent = myOptionId == null ? null : optionStats.stream()
+                    .filter(option -> option.getId().equals(myOptionId.toString()))
+                    .map(OptionWithStatsPayload::getContent)
+                    .findFirst()
+                    .orElse(null);
+            return cached.toBuilder()
+                    .totalResponses((int) totalResponses)
+                    .options(optionStats)
+                    .hasVoted(myOptionId != null)
+                    .myOptionId(myOptionId != null ? myOptionId.toString() : null)
+                    .myOptionContent(myOptionContent)
+                    .build();
+        }
+
+        /**
+         * 로드된 통계로 VotePayload를 생성합니다.
+         *
+         * @param vote 투표 요약
+         * @return 통계와 사용자 참여 정보가 포함된 VotePayload
+         */
+        public VotePayload toPayload(VoteSummary vote) {
+            Optional<OptionSummary> selection = getUserSelection(vote.getId());
+            return VotePayload.fromSummary(
+                    vote,
+                    getOptionStats(vote.getId()),
+                    (int) getTotalResponses(vote.getId()),
+                    selection.isPresent(),
+                    selection.map(option -> option.getId().toString()).orElse(null),
+                    selection.map(OptionSummary::getContent).orElse(null));
+        }
+    }
+}
@@ -4,8 +4,13 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import pluto.upik.domain.voteResponse.data.DTO.CreateVoteResponseInput;
 import pluto.upik.domain.voteResponse.data.DTO.VoteResponsePayload;
+import pluto.upik.domain.voteResponse.data.DTO.VoteResponseResultPayload;
+import pluto.upik.domain.voteResponse.data.DTO.VoteTrendBucketPayload;
+import pluto.upik.domain.voteResponse.service.VoteResponseIngestionService;
 import pluto.upik.domain.voteResponse.service.VoteResponseService;
+import pluto.upik.domain.voteResponse.service.VoteTrendService;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -14,15 +19,24 @@ import java.util.UUID;
 public class VoteResponseApplication {
 
     private final VoteResponseService voteResponseService;
+    private final VoteResponseIngestionService voteResponseIngestionService;
+    private final VoteTrendService voteTrendService;
     // VoteResponseApplication.java에 추가할 메서드
     public Boolean hasUserVoted(UUID userId, UUID voteId) {
         return voteResponseService.hasUserVoted(userId, voteId);
     }
 
     public VoteResponsePayload createVoteResponse(CreateVoteResponseInput input, UUID userId) {
+        if (voteResponseIngestionService.isEnabled()) {
+            return voteResponseIngestionService.submit(input, userId);
+        }
         return voteResponseService.createVoteResponse(input, userId);
     }
 
+    public List<VoteResponseResultPayload> createVoteResponses(List<CreateVoteResponseInput> inputs, UUID userId) {
+        return voteResponseService.createVoteResponses(inputs, userId);
+    }
+
     public Long getVoteResponseCount(UUID voteId) {
         return voteResponseService.getVoteResponseCount(voteId);
     }
@@ -34,4 +48,8 @@ public class VoteResponseApplication {
     public List<VoteResponsePayload> getMyVoteResponses(UUID userId) {
         return voteResponseService.getMyVoteResponses(userId);
     }
+
+    public List<VoteTrendBucketPayload> getVoteTrend(UUID voteId, LocalDateTime from, LocalDateTime to) {
+        return voteTrendService.getTrend(voteId, from, to);
+    }
 }
@@ -0,0 +1,23 @@
+package pluto.upik.domain.voteResponse.data.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 수집 큐에 적재되어 배치 저장을 기다리는 투표 응답
+ * 접수 시각({@link #acceptedAt})은 저장 시점에 투표가 이미 종료되었을 때 종료 전에 접수된 응답인지 판단하는 데 사용됩니다.
+ */
+@Getter
+@AllArgsConstructor
+public class PendingVoteResponse {
+    private final UUID id;
+    private final UUID userId;
+    private final UUID voteId;
+    private final UUID optionId;
+    private final LocalDate createdAt;
+    private final LocalDateTime acceptedAt;
+}
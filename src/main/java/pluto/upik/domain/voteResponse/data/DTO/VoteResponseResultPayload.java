@@ -0,0 +1,42 @@
+package pluto.upik.domain.voteResponse.data.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * 일괄 투표 응답의 항목별 처리 결과
+ * 성공하면 저장된 응답을, 실패하면 사유를 담습니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VoteResponseResultPayload {
+    private UUID voteId;
+    private UUID optionId;
+    private boolean success;
+    private String message;
+    private VoteResponsePayload response;
+
+    public static VoteResponseResultPayload success(VoteResponsePayload response) {
+        return VoteResponseResultPayload.builder()
+                .voteId(response.getVoteId())
+                .optionId(response.getOptionId())
+                .success(true)
+                .response(response)
+                .build();
+    }
+
+    public static VoteResponseResultPayload failure(CreateVoteResponseInput input, String message) {
+        return VoteResponseResultPayload.builder()
+                .voteId(input.getVoteId())
+                .optionId(input.getOptionId())
+                .success(false)
+                .message(message)
+                .build();
+    }
+}
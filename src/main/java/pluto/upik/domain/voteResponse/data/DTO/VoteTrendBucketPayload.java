@@ -0,0 +1,34 @@
+package pluto.upik.domain.voteResponse.data.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 투표 응답 추이의 1시간 구간
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VoteTrendBucketPayload {
+    private String bucketStart;
+    private long responseCount;
+    private long cumulativeResponseCount;
+    private List<OptionCount> options;
+
+    /**
+     * 구간 안의 옵션별 응답 수
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class OptionCount {
+        private UUID optionId;
+        private long responseCount;
+    }
+}
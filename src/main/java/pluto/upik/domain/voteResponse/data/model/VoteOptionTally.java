@@ -0,0 +1,49 @@
+package pluto.upik.domain.voteResponse.data.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.util.UUID;
+
+/**
+ * 옵션별 응답 수 집계 엔티티 (읽기 모델)
+ * 하나의 옵션은 여러 샤드 행으로 나뉘어 저장되며, 조회 시 샤드 값을 합산합니다.
+ * 인기 투표에 응답이 몰려도 단일 행 잠금에 직렬화되지 않도록 하기 위함입니다.
+ */
+@Entity
+@Table(name = "vote_option_tally")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class VoteOptionTally {
+
+    /**
+     * 복합 키 (옵션 ID + 샤드 번호)
+     */
+    @EmbeddedId
+    private VoteOptionTallyId id;
+
+    /**
+     * 옵션이 속한 투표 ID
+     */
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "vote_id", columnDefinition = "BINARY(16)", nullable = false)
+    private UUID voteId;
+
+    /**
+     * 샤드에 누적된 응답 수
+     */
+    @Column(name = "response_count", nullable = false)
+    private long responseCount;
+}
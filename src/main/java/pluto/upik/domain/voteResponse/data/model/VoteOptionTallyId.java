@@ -0,0 +1,41 @@
+package pluto.upik.domain.voteResponse.data.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * 옵션별 응답 집계 샤드의 복합 키 클래스 (옵션 ID + 샤드 번호)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode
+@ToString
+@Embeddable
+public class VoteOptionTallyId implements Serializable {
+
+    /**
+     * 옵션 ID
+     */
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "option_id", columnDefinition = "BINARY(16)", nullable = false)
+    private UUID optionId;
+
+    /**
+     * 샤드 번호
+     */
+    @Column(name = "shard", nullable = false)
+    private int shard;
+}
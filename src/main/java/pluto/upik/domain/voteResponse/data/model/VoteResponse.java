@@ -10,6 +10,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -28,9 +29,11 @@ import java.util.UUID;
 /**
  * 투표 응답 엔티티
  * 사용자가 제출한 투표 응답 정보를 저장합니다.
+ * 한 사용자는 한 투표에 한 번만 응답할 수 있으며, (user_id, vote_id) 유니크 제약으로 보장됩니다.
  */
 @Entity
-@Table(name = "vote_response")
+@Table(name = "vote_response",
+       uniqueConstraints = @UniqueConstraint(name = VoteResponse.USER_VOTE_CONSTRAINT, columnNames = {"user_id", "vote_id"}))
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -38,6 +41,8 @@ import java.util.UUID;
 @ToString(exclude = {"user", "vote", "selectedOption"}) // 순환 참조 방지
 public class VoteResponse {
 
+    public static final String USER_VOTE_CONSTRAINT = "uk_vote_response_user_vote";
+
     /**
      * 투표 응답 ID (기본 키)
      */
@@ -0,0 +1,38 @@
+package pluto.upik.domain.voteResponse.data.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 투표/옵션/1시간 구간별 응답 수 집계 엔티티 (읽기 모델)
+ * 추이 조회 시 vote_response를 훑지 않고 구간 수만큼의 행만 읽기 위함이며,
+ * vote_option_tally와 같이 샤드 행으로 나누어 동시 응답의 잠금을 분산합니다.
+ */
+@Entity
+@Table(name = "vote_response_hourly")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class VoteResponseHourly {
+
+    /**
+     * 복합 키 (투표 ID + 옵션 ID + 구간 시작 시각 + 샤드 번호)
+     */
+    @EmbeddedId
+    private VoteResponseHourlyId id;
+
+    /**
+     * 구간 샤드에 누적된 응답 수
+     */
+    @Column(name = "response_count", nullable = false)
+    private long responseCount;
+}
@@ -0,0 +1,55 @@
+package pluto.upik.domain.voteResponse.data.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 시간대별 응답 집계의 복합 키 클래스 (투표 ID + 옵션 ID + 시간 구간 시작 시각 + 샤드 번호)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode
+@ToString
+@Embeddable
+public class VoteResponseHourlyId implements Serializable {
+
+    /**
+     * 투표 ID
+     */
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "vote_id", columnDefinition = "BINARY(16)", nullable = false)
+    private UUID voteId;
+
+    /**
+     * 옵션 ID
+     */
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "option_id", columnDefinition = "BINARY(16)", nullable = false)
+    private UUID optionId;
+
+    /**
+     * 시간 구간 시작 시각 (정시)
+     */
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    /**
+     * 샤드 번호
+     */
+    @Column(name = "shard", nullable = false)
+    private int shard;
+}
@@ -0,0 +1,77 @@
+package pluto.upik.domain.voteResponse.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.*;
+
+/**
+ * 투표 응답이 저장되었을 때 발행되는 이벤트
+ * 한 트랜잭션에서 저장된 응답을 하나의 이벤트로 묶어 전달하므로, 구독자는 투표/옵션별 증감량을 합쳐
+ * 배치 한 번으로 반영합니다. 응답 하나를 저장한 경우에도 같은 이벤트를 사용합니다.
+ * 응답을 저장한 트랜잭션 안에서 발행되므로, 같은 트랜잭션에서 갱신해야 하는 읽기 모델은
+ * {@code @EventListener}로, 커밋 이후 처리할 작업은 {@code @TransactionalEventListener}로 구독합니다.
+ */
+@Getter
+@ToString
+public class VoteResponsesCreatedEvent {
+
+    private final List<CreatedResponse> responses;
+
+    public VoteResponsesCreatedEvent(List<CreatedResponse> responses) {
+        this.responses = List.copyOf(responses);
+    }
+
+    /**
+     * 응답 하나에 대한 이벤트를 생성합니다.
+     */
+    public static VoteResponsesCreatedEvent of(UUID voteResponseId, UUID userId, UUID voteId, UUID optionId) {
+        return new VoteResponsesCreatedEvent(List.of(new CreatedResponse(voteResponseId, userId, voteId, optionId)));
+    }
+
+    /**
+     * 응답이 저장된 투표 ID 목록
+     */
+    public Set<UUID> getVoteIds() {
+        Set<UUID> voteIds = new LinkedHashSet<>();
+        responses.forEach(response -> voteIds.add(response.getVoteId()));
+        return voteIds;
+    }
+
+    /**
+     * 투표별 저장된 응답 수
+     *
+     * @return 투표 ID → 응답 수
+     */
+    public Map<UUID, Long> countByVote() {
+        Map<UUID, Long> counts = new LinkedHashMap<>();
+        responses.forEach(response -> counts.merge(response.getVoteId(), 1L, Long::sum));
+        return counts;
+    }
+
+    /**
+     * 투표별, 옵션별 저장된 응답 수
+     *
+     * @return 투표 ID → 옵션 ID → 응답 수
+     */
+    public Map<UUID, Map<UUID, Long>> countByVoteAndOption() {
+        Map<UUID, Map<UUID, Long>> counts = new LinkedHashMap<>();
+        responses.forEach(response -> counts.computeIfAbsent(response.getVoteId(), id -> new LinkedHashMap<>())
+                .merge(response.getOptionId(), 1L, Long::sum));
+        return counts;
+    }
+
+    /**
+     * 저장된 응답 하나
+     */
+    @Getter
+    @AllArgsConstructor
+    @ToString
+    public static class CreatedResponse {
+        private final UUID voteResponseId;
+        private final UUID userId;
+        private final UUID voteId;
+        private final UUID optionId;
+    }
+}
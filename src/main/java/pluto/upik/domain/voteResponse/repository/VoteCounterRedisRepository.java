@@ -0,0 +1,206 @@
+package pluto.upik.domain.voteResponse.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Redis 해시 기반 투표 응답 카운터 저장소
+ *
+ * 투표마다 {@code vote:counter:{voteId}} 해시 하나를 두고, {@code total} 필드에 총 응답 수,
+ * 옵션 ID 필드에 옵션별 응답 수를 저장합니다. 증가는 HINCRBY로 원자적으로 처리됩니다.
+ * 키가 아직 적재되지 않은 투표의 증가는 무시되며, 조회 시 DB 집계로부터 적재됩니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class VoteCounterRedisRepository {
+
+    public static final String TOTAL_FIELD = "total";
+    private static final String KEY_PREFIX = "vote:counter:";
+    private static final Duration KEY_TTL = Duration.ofDays(7);
+
+    /**
+     * 키가 존재하는 투표에 대해서만 옵션 응답 수와 총 응답 수를 함께 증감합니다. 여러 투표를 한 번에 처리합니다.
+     * KEYS = 카운터 키 목록, ARGV[1] = TTL(초), ARGV[2] = 부호(1 또는 -1),
+     * 이후 키마다 옵션 수 n과 n개의 옵션 필드, 증감량 쌍
+     * 반환값은 키 순서대로의 증감 후 총 응답 수이며, 적재되지 않은 키는 -1
+     */
+    private static final RedisScript<List> INCREMENT_ALL_IF_EXISTS = new DefaultRedisScript<>(
+            "local sign = tonumber(ARGV[2]) " +
+            "local pos = 3 " +
+            "local totals = {} " +
+            "for i = 1, #KEYS do " +
+            "  local n = tonumber(ARGV[pos]) " +
+            "  pos = pos + 1 " +
+            "  if redis.call('EXISTS', KEYS[i]) == 1 then " +
+            "    local sum = 0 " +
+            "    for j = 1, n do " +
+            "      local delta = sign * tonumber(ARGV[pos + 1]) " +
+            "      redis.call('HINCRBY', KEYS[i], ARGV[pos], delta) " +
+            "      sum = sum + delta " +
+            "      pos = pos + 2 " +
+            "    end " +
+            "    redis.call('EXPIRE', KEYS[i], ARGV[1]) " +
+            "    totals[i] = redis.call('HINCRBY', KEYS[i], 'total', sum) " +
+            "  else " +
+            "    pos = pos + n * 2 " +
+            "    totals[i] = -1 " +
+            "  end " +
+            "end " +
+            "return totals", List.class);
+
+    /**
+     * 키가 없을 때만 해시 전체를 적재합니다. 이미 다른 노드가 적재했거나 증가가 반영된 값은 덮어쓰지 않습니다.
+     * KEYS[1] = 카운터 키, ARGV[1] = TTL(초), ARGV[2..] = field, value 쌍
+     */
+    private static final RedisScript<Long> LOAD_IF_ABSENT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+            "for i = 2, #ARGV, 2 do redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+            "return 1", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 투표와 옵션 카운터를 증감합니다.
+     *
+     * @param voteId 투표 ID
+     * @param optionId 옵션 ID
+     * @param delta 증감량
+     * @return 증감 후 총 응답 수, 카운터가 아직 적재되지 않았으면 empty
+     */
+    public OptionalLong increment(UUID voteId, UUID optionId, long delta) {
+        Long total = incrementAll(Map.of(voteId, Map.of(optionId, delta)), 1).get(voteId);
+        return total == null ? OptionalLong.empty() : OptionalLong.of(total);
+    }
+
+    /**
+     * 여러 투표의 옵션 카운터를 스크립트 한 번으로 증감합니다. 적재되지 않은 투표의 증감은 무시됩니다.
+     *
+     * @param counts 투표 ID → 옵션 ID → 응답 수
+     * @param sign 1이면 증가, -1이면 감소
+     * @return 적재된 투표의 증감 후 총 응답 수 (투표 ID → 총 응답 수)
+     */
+    @SuppressWarnings("unchecked")
+    public Map<UUID, Long> incrementAll(Map<UUID, Map<UUID, Long>> counts, int sign) {
+        if (counts.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<UUID> ids = new ArrayList<>(counts.keySet());
+        List<String> keys = new ArrayList<>(ids.size());
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(KEY_TTL.toSeconds()));
+        args.add(String.valueOf(sign));
+        for (UUID id : ids) {
+            Map<UUID, Long> optionCounts = counts.get(id);
+            keys.add(key(id));
+            args.add(String.valueOf(optionCounts.size()));
+            optionCounts.forEach((optionId, count) -> {
+                args.add(optionId.toString());
+                args.add(String.valueOf(count));
+            });
+        }
+
+        List<Object> results = redisTemplate.execute(INCREMENT_ALL_IF_EXISTS, keys, args.toArray());
+        Map<UUID, Long> totals = new HashMap<>();
+        if (results == null) {
+            return totals;
+        }
+        for (int i = 0; i < ids.size() && i < results.size(); i++) {
+            long total = ((Number) results.get(i)).longValue();
+            if (total >= 0) {
+                totals.put(ids.get(i), total);
+            }
+        }
+        return totals;
+    }
+
+    /**
+     * 여러 투표의 카운터를 파이프라인으로 한 번에 조회합니다.
+     *
+     * @param voteIds 투표 ID 목록
+     * @return 적재된 투표의 카운터 (투표 ID → 필드 → 값). 적재되지 않은 투표는 포함되지 않습니다.
+     */
+    public Map<UUID, Map<String, Long>> findAll(Collection<UUID> voteIds) {
+        List<UUID> ids = new ArrayList<>(voteIds);
+        if (ids.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (UUID id : ids) {
+                stringConnection.hGetAll(key(id));
+            }
+            return null;
+        });
+
+        Map<UUID, Map<String, Long>> counters = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Object result = results.get(i);
+            if (!(result instanceof Map<?, ?> hash) || hash.isEmpty()) {
+                continue;
+            }
+            Map<String, Long> fields = new HashMap<>();
+            hash.forEach((field, value) -> fields.put(field.toString(), Long.parseLong(value.toString())));
+            counters.put(ids.get(i), fields);
+        }
+        return counters;
+    }
+
+    /**
+     * 카운터가 없을 때만 DB 집계 값으로 적재합니다.
+     *
+     * @param voteId 투표 ID
+     * @param optionCounts 옵션 ID → 응답 수
+     * @param total 총 응답 수
+     * @return 적재했으면 true, 이미 존재했으면 false
+     */
+    public boolean loadIfAbsent(UUID voteId, Map<UUID, Long> optionCounts, long total) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(KEY_TTL.toSeconds()));
+        args.add(TOTAL_FIELD);
+        args.add(String.valueOf(total));
+        optionCounts.forEach((optionId, count) -> {
+            args.add(optionId.toString());
+            args.add(String.valueOf(count));
+        });
+        Long loaded = redisTemplate.execute(LOAD_IF_ABSENT, List.of(key(voteId)), args.toArray());
+        return loaded != null && loaded == 1L;
+    }
+
+    /**
+     * 카운터 값을 덮어씁니다. 정합성 보정 용도로만 사용합니다.
+     *
+     * @param voteId 투표 ID
+     * @param optionCounts 옵션 ID → 응답 수
+     * @param total 총 응답 수
+     */
+    public void overwrite(UUID voteId, Map<UUID, Long> optionCounts, long total) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put(TOTAL_FIELD, String.valueOf(total));
+        optionCounts.forEach((optionId, count) -> fields.put(optionId.toString(), String.valueOf(count)));
+        redisTemplate.opsForHash().putAll(key(voteId), fields);
+        redisTemplate.expire(key(voteId), KEY_TTL);
+    }
+
+    /**
+     * 투표 카운터를 삭제합니다.
+     *
+     * @param voteId 투표 ID
+     */
+    public void delete(UUID voteId) {
+        redisTemplate.unlink(key(voteId));
+    }
+
+    private String key(UUID voteId) {
+        return KEY_PREFIX + voteId;
+    }
+}
@@ -0,0 +1,72 @@
+package pluto.upik.domain.voteResponse.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import pluto.upik.domain.voteResponse.data.model.VoteOptionTally;
+import pluto.upik.domain.voteResponse.data.model.VoteOptionTallyId;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 옵션별 응답 집계 레포지토리
+ */
+public interface VoteOptionTallyRepository extends JpaRepository<VoteOptionTally, VoteOptionTallyId> {
+
+    /**
+     * 여러 투표의 옵션별 응답 수를 샤드 합산으로 조회합니다.
+     *
+     * @param voteIds 투표 ID 목록
+     * @return [voteId, optionId, count] 형태의 행 목록
+     */
+    @Query("SELECT t.voteId, t.id.optionId, SUM(t.responseCount) FROM VoteOptionTally t " +
+           "WHERE t.voteId IN :voteIds GROUP BY t.voteId, t.id.optionId")
+    List<Object[]> sumByVoteIdsGroupByOption(@Param("voteIds") Collection<UUID> voteIds);
+
+    /**
+     * 여러 투표의 총 응답 수를 샤드 합산으로 조회합니다.
+     *
+     * @param voteIds 투표 ID 목록
+     * @return [voteId, count] 형태의 행 목록
+     */
+    @Query("SELECT t.voteId, SUM(t.responseCount) FROM VoteOptionTally t WHERE t.voteId IN :voteIds GROUP BY t.voteId")
+    List<Object[]> sumByVoteIdsGroupByVote(@Param("voteIds") Collection<UUID> voteIds);
+
+    /**
+     * 모든 투표의 총 응답 수를 조회합니다.
+     *
+     * @return [voteId, count] 형태의 행 목록
+     */
+    @Query("SELECT t.voteId, SUM(t.responseCount) FROM VoteOptionTally t GROUP BY t.voteId")
+    List<Object[]> sumGroupByVote();
+
+    /**
+     * 특정 투표의 총 응답 수를 조회합니다.
+     *
+     * @param voteId 투표 ID
+     * @return 총 응답 수
+     */
+    @Query("SELECT COALESCE(SUM(t.responseCount), 0) FROM VoteOptionTally t WHERE t.voteId = :voteId")
+    Long sumByVoteId(@Param("voteId") UUID voteId);
+
+    /**
+     * 특정 옵션의 응답 수를 조회합니다.
+     *
+     * @param optionId 옵션 ID
+     * @return 옵션 응답 수
+     */
+    @Query("SELECT COALESCE(SUM(t.responseCount), 0) FROM VoteOptionTally t WHERE t.id.optionId = :optionId")
+    Long sumByOptionId(@Param("optionId") UUID optionId);
+
+    /**
+     * 특정 투표의 집계 행을 모두 삭제합니다.
+     *
+     * @param voteId 투표 ID
+     */
+    @Modifying
+    @Query("DELETE FROM VoteOptionTally t WHERE t.voteId = :voteId")
+    void deleteByVoteId(@Param("voteId") UUID voteId);
+}
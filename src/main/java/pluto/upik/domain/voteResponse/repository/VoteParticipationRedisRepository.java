@@ -0,0 +1,250 @@
+package pluto.upik.domain.voteResponse.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Redis 비트맵 기반 투표 참여자 인덱스 저장소
+ *
+ * 사용자마다 {@code user:ordinal} 해시에서 1부터 증가하는 조밀한 순번을 발급하고,
+ * 투표마다 {@code vote:participants:{voteId}} 비트맵의 해당 순번 비트를 켭니다.
+ * 비트맵의 0번 비트는 DB로부터 적재가 끝났음을 나타내는 표식이므로 참여자 수는 BITCOUNT - 1입니다.
+ * 사용자별로는 {@code user:votes:{userId}} 해시에 투표 ID → 선택한 옵션 ID를 저장하며,
+ * {@code _loaded} 필드가 있을 때만 전체 참여 이력이 적재된 것으로 간주합니다.
+ *
+ * 응답은 적재 여부와 관계없이 항상 비트맵과 사용자 해시에 기록하고, 적재는 기존 값을 덮어쓰지 않고 합칩니다.
+ * 따라서 DB 조회와 적재 사이에 기록된 응답도 적재 후에 남습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class VoteParticipationRedisRepository {
+
+    private static final String ORDINAL_KEY = "user:ordinal";
+    private static final String ORDINAL_SEQ_KEY = "user:ordinal:seq";
+    private static final String PARTICIPANTS_PREFIX = "vote:participants:";
+    private static final String USER_VOTES_PREFIX = "user:votes:";
+    private static final String LOADED_FIELD = "_loaded";
+    private static final Duration KEY_TTL = Duration.ofDays(7);
+
+    /**
+     * 응답을 기록합니다. 적재 전이어도 비트맵과 사용자 해시에 반영해, 진행 중인 적재가 이 응답을 잃지 않도록 합니다.
+     * 여러 응답을 한 번에 처리합니다.
+     * KEYS[1] = 순번 해시, KEYS[2] = 순번 시퀀스, 이후 응답마다 비트맵, 사용자 해시
+     * ARGV[1] = TTL(초), 이후 응답마다 사용자 ID, 투표 ID, 옵션 ID
+     */
+    private static final RedisScript<Long> RECORD = new DefaultRedisScript<>(
+            "local count = (#ARGV - 1) / 3 " +
+            "for i = 1, count do " +
+            "  local user = ARGV[3 * i - 1] " +
+            "  local bitmap = KEYS[2 * i + 1] " +
+            "  local votes = KEYS[2 * i + 2] " +
+            "  local ordinal = redis.call('HGET', KEYS[1], user) " +
+            "  if not ordinal then " +
+            "    ordinal = redis.call('INCR', KEYS[2]) " +
+            "    redis.call('HSET', KEYS[1], user, ordinal) " +
+            "  end " +
+            "  redis.call('SETBIT', bitmap, ordinal, 1) " +
+            "  redis.call('EXPIRE', bitmap, ARGV[1]) " +
+            "  redis.call('HSET', votes, ARGV[3 * i], ARGV[3 * i + 1]) " +
+            "  redis.call('EXPIRE', votes, ARGV[1]) " +
+            "end " +
+            "return count", Long.class);
+
+    /**
+     * 기록한 응답을 되돌립니다. 여러 응답을 한 번에 처리합니다.
+     * KEYS[1] = 순번 해시, 이후 응답마다 비트맵, 사용자 해시
+     * ARGV = 응답마다 사용자 ID, 투표 ID
+     */
+    private static final RedisScript<Long> UNDO = new DefaultRedisScript<>(
+            "local count = #ARGV / 2 " +
+            "for i = 1, count do " +
+            "  local bitmap = KEYS[2 * i] " +
+            "  local ordinal = redis.call('HGET', KEYS[1], ARGV[2 * i - 1]) " +
+            "  if ordinal and redis.call('EXISTS', bitmap) == 1 then redis.call('SETBIT', bitmap, ordinal, 0) end " +
+            "  redis.call('HDEL', KEYS[2 * i + 1], ARGV[2 * i]) " +
+            "end " +
+            "return count", Long.class);
+
+    /**
+     * 적재 표식이 없을 때만 참여자 목록을 기존 비트에 합쳐 적재합니다.
+     * KEYS[1] = 비트맵, KEYS[2] = 순번 해시, KEYS[3] = 순번 시퀀스, ARGV[1] = TTL(초), ARGV[2..] = 사용자 ID
+     */
+    private static final RedisScript<Long> LOAD_PARTICIPANTS = new DefaultRedisScript<>(
+            "if redis.call('GETBIT', KEYS[1], 0) == 1 then return 0 end " +
+            "redis.call('SETBIT', KEYS[1], 0, 1) " +
+            "for i = 2, #ARGV do " +
+            "  local ordinal = redis.call('HGET', KEYS[2], ARGV[i]) " +
+            "  if not ordinal then " +
+            "    ordinal = redis.call('INCR', KEYS[3]) " +
+            "    redis.call('HSET', KEYS[2], ARGV[i], ordinal) " +
+            "  end " +
+            "  redis.call('SETBIT', KEYS[1], ordinal, 1) " +
+            "end " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+            "return 1", Long.class);
+
+    /**
+     * 사용자 해시가 적재되지 않았을 때만 전체 참여 이력을 HSETNX로 합쳐 적재합니다.
+     * 조회 이후 기록된 응답은 이미 해시에 있으므로 이전 이력으로 덮어쓰지 않습니다.
+     * KEYS[1] = 사용자 해시, ARGV[1] = TTL(초), ARGV[2..] = 투표 ID, 옵션 ID 쌍
+     */
+    private static final RedisScript<Long> LOAD_SELECTIONS = new DefaultRedisScript<>(
+            "if redis.call('HEXISTS', KEYS[1], '_loaded') == 1 then return 0 end " +
+            "for i = 2, #ARGV, 2 do redis.call('HSETNX', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+            "redis.call('HSET', KEYS[1], '_loaded', '1') " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+            "return 1", Long.class);
+
+    /**
+     * 적재된 비트맵의 참여자 수를 반환합니다.
+     * KEYS[1] = 비트맵, 적재 표식이 없으면 -1
+     */
+    private static final RedisScript<Long> COUNT_PARTICIPANTS = new DefaultRedisScript<>(
+            "if redis.call('GETBIT', KEYS[1], 0) == 0 then return -1 end " +
+            "return redis.call('BITCOUNT', KEYS[1]) - 1", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 여러 사용자의 투표 응답을 스크립트 한 번으로 기록합니다.
+     *
+     * @param selections 사용자 ID → 투표 ID → 선택한 옵션 ID
+     */
+    public void recordAll(Map<UUID, Map<UUID, UUID>> selections) {
+        if (selections.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(List.of(ORDINAL_KEY, ORDINAL_SEQ_KEY));
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(KEY_TTL.toSeconds()));
+        selections.forEach((userId, votes) -> votes.forEach((voteId, optionId) -> {
+            keys.add(participantsKey(voteId));
+            keys.add(userVotesKey(userId));
+            args.add(userId.toString());
+            args.add(voteId.toString());
+            args.add(optionId.toString());
+        }));
+        redisTemplate.execute(RECORD, keys, args.toArray());
+    }
+
+    /**
+     * 기록한 여러 응답을 스크립트 한 번으로 되돌립니다.
+     *
+     * @param voteIdsByUser 사용자 ID → 투표 ID 목록
+     */
+    public void undoAll(Map<UUID, ? extends Collection<UUID>> voteIdsByUser) {
+        if (voteIdsByUser.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(List.of(ORDINAL_KEY));
+        List<String> args = new ArrayList<>();
+        voteIdsByUser.forEach((userId, voteIds) -> voteIds.forEach(voteId -> {
+            keys.add(participantsKey(voteId));
+            keys.add(userVotesKey(userId));
+            args.add(userId.toString());
+            args.add(voteId.toString());
+        }));
+        redisTemplate.execute(UNDO, keys, args.toArray());
+    }
+
+    /**
+     * 새 투표의 빈 참여자 비트맵을 생성합니다.
+     *
+     * @param voteId 투표 ID
+     */
+    public void initialize(UUID voteId) {
+        loadParticipants(voteId, Collections.emptyList());
+    }
+
+    /**
+     * 적재 표식이 없을 때만 참여자 목록을 비트맵에 합쳐 적재합니다.
+     *
+     * @param voteId 투표 ID
+     * @param userIds 참여한 사용자 ID 목록
+     */
+    public void loadParticipants(UUID voteId, Collection<UUID> userIds) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(KEY_TTL.toSeconds()));
+        userIds.forEach(id -> args.add(id.toString()));
+        redisTemplate.execute(LOAD_PARTICIPANTS,
+                List.of(participantsKey(voteId), ORDINAL_KEY, ORDINAL_SEQ_KEY), args.toArray());
+    }
+
+    /**
+     * 투표 참여자 수를 조회합니다.
+     *
+     * @param voteId 투표 ID
+     * @return 참여자 수, 비트맵이 적재되지 않았으면 empty
+     */
+    public OptionalLong countParticipants(UUID voteId) {
+        Long count = redisTemplate.execute(COUNT_PARTICIPANTS, List.of(participantsKey(voteId)));
+        return count == null || count < 0 ? OptionalLong.empty() : OptionalLong.of(count);
+    }
+
+    /**
+     * 사용자가 여러 투표에서 선택한 옵션을 한 번의 HMGET으로 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @param voteIds 투표 ID 목록
+     * @return 투표 ID → 옵션 ID (참여한 투표만 포함), 사용자 이력이 적재되지 않았으면 empty
+     */
+    public Optional<Map<UUID, UUID>> findSelections(UUID userId, Collection<UUID> voteIds) {
+        List<UUID> ids = new ArrayList<>(voteIds);
+        List<Object> fields = new ArrayList<>();
+        fields.add(LOADED_FIELD);
+        ids.forEach(id -> fields.add(id.toString()));
+
+        List<Object> values = redisTemplate.opsForHash().multiGet(userVotesKey(userId), fields);
+        if (values.isEmpty() || values.get(0) == null) {
+            return Optional.empty();
+        }
+
+        Map<UUID, UUID> selections = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Object optionId = values.get(i + 1);
+            if (optionId != null) {
+                selections.put(ids.get(i), UUID.fromString(optionId.toString()));
+            }
+        }
+        return Optional.of(selections);
+    }
+
+    /**
+     * 사용자 해시가 적재되지 않았을 때만 전체 참여 이력을 기존 값에 합쳐 적재합니다.
+     *
+     * @param userId 사용자 ID
+     * @param selections 투표 ID → 옵션 ID (사용자의 전체 참여 이력)
+     */
+    public void loadSelections(UUID userId, Map<UUID, UUID> selections) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(KEY_TTL.toSeconds()));
+        selections.forEach((voteId, optionId) -> {
+            args.add(voteId.toString());
+            args.add(optionId.toString());
+        });
+        redisTemplate.execute(LOAD_SELECTIONS, List.of(userVotesKey(userId)), args.toArray());
+    }
+
+    /**
+     * 투표의 참여자 비트맵을 삭제합니다.
+     *
+     * @param voteId 투표 ID
+     */
+    public void deleteParticipants(UUID voteId) {
+        redisTemplate.unlink(participantsKey(voteId));
+    }
+
+    private String participantsKey(UUID voteId) {
+        return PARTICIPANTS_PREFIX + voteId;
+    }
+
+    private String userVotesKey(UUID userId) {
+        return USER_VOTES_PREFIX + userId;
+    }
+}
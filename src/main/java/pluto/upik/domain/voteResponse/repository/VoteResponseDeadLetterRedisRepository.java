@@ -0,0 +1,150 @@
+package pluto.upik.domain.voteResponse.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+import pluto.upik.domain.voteResponse.data.DTO.PendingVoteResponse;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DB 저장에 실패한 수집 큐 응답을 보관하는 Redis 리스트 저장소
+ *
+ * 응답은 {@code vote:ingest:dead} 리스트 끝에 추가되고, 재처리는 앞에서부터 조회해
+ * DB 저장이 끝난 개수만큼 LTRIM으로 제거합니다(저장 후 확인).
+ * 여러 노드가 같은 구간을 동시에 제거하지 않도록 재처리는 {@link #tryLock} 잠금을 잡은 노드만 수행합니다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class VoteResponseDeadLetterRedisRepository {
+
+    private static final String KEY = "vote:ingest:dead";
+    private static final String LOCK_KEY = KEY + ":lock";
+    private static final String SEPARATOR = "|";
+
+    /**
+     * 잠금 값이 일치할 때만 삭제합니다.
+     * KEYS[1] = 잠금 키, ARGV[1] = 잠금 값
+     */
+    private static final RedisScript<Long> UNLOCK = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "  return redis.call('DEL', KEYS[1]) " +
+            "end " +
+            "return 0", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 응답을 보관 리스트 끝에 추가합니다.
+     *
+     * @param responses 보관할 응답 목록
+     */
+    public void push(List<PendingVoteResponse> responses) {
+        if (responses.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForList().rightPushAll(KEY, responses.stream().map(this::serialize).toList());
+    }
+
+    /**
+     * 보관 리스트 앞에서부터 응답을 조회합니다. 조회한 응답은 {@link #ack}로 제거하기 전까지 남아 있습니다.
+     * 읽을 수 없는 항목은 결과에서 제외되지만 개수는 {@code ack} 대상에 포함되도록 원본 개수를 함께 반환합니다.
+     *
+     * @param count 최대 조회 개수
+     * @return 조회된 응답과 원본 항목 수
+     */
+    public Peek peek(int count) {
+        List<String> values = redisTemplate.opsForList().range(KEY, 0, count - 1);
+        if (values == null || values.isEmpty()) {
+            return new Peek(Collections.emptyList(), 0);
+        }
+        List<PendingVoteResponse> responses = new ArrayList<>(values.size());
+        for (String value : values) {
+            try {
+                responses.add(deserialize(value));
+            } catch (RuntimeException e) {
+                log.error("보관된 투표 응답을 읽을 수 없습니다: value={}, error={}", value, e.getMessage());
+            }
+        }
+        return new Peek(responses, values.size());
+    }
+
+    /**
+     * 저장이 끝난 앞쪽 항목을 제거합니다.
+     *
+     * @param count 제거할 항목 수
+     */
+    public void ack(int count) {
+        if (count > 0) {
+            redisTemplate.opsForList().trim(KEY, count, -1);
+        }
+    }
+
+    /**
+     * 보관된 응답 수
+     */
+    public long size() {
+        Long size = redisTemplate.opsForList().size(KEY);
+        return size != null ? size : 0L;
+    }
+
+    /**
+     * 재처리 잠금을 획득합니다.
+     *
+     * @param token 잠금 값 (해제 시 같은 값이 필요)
+     * @param ttl 잠금 만료 시간
+     * @return 획득했으면 true
+     */
+    public boolean tryLock(String token, Duration ttl) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, token, ttl));
+    }
+
+    /**
+     * 자신이 획득한 재처리 잠금을 해제합니다.
+     *
+     * @param token 잠금 값
+     */
+    public void unlock(String token) {
+        redisTemplate.execute(UNLOCK, List.of(LOCK_KEY), token);
+    }
+
+    private String serialize(PendingVoteResponse response) {
+        return String.join(SEPARATOR, response.getId().toString(), response.getUserId().toString(),
+                response.getVoteId().toString(), response.getOptionId().toString(), response.getCreatedAt().toString(),
+                response.getAcceptedAt().toString());
+    }
+
+    private PendingVoteResponse deserialize(String value) {
+        String[] parts = value.split("\\|");
+        if (parts.length != 5 && parts.length != 6) {
+            throw new IllegalArgumentException("필드 수가 올바르지 않습니다: " + parts.length);
+        }
+        LocalDate createdAt = LocalDate.parse(parts[4]);
+        // 접수 시각이 없는 이전 형식은 접수일 0시에 접수된 것으로 봅니다.
+        LocalDateTime acceptedAt = parts.length == 6 ? LocalDateTime.parse(parts[5]) : createdAt.atStartOfDay();
+        return new PendingVoteResponse(UUID.fromString(parts[0]), UUID.fromString(parts[1]),
+                UUID.fromString(parts[2]), UUID.fromString(parts[3]), createdAt, acceptedAt);
+    }
+
+    /**
+     * 보관 리스트 조회 결과
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Peek {
+        private final List<PendingVoteResponse> responses;
+        private final int rawCount;
+    }
+}
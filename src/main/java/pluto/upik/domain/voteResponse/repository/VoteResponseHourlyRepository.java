@@ -0,0 +1,61 @@
+package pluto.upik.domain.voteResponse.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import pluto.upik.domain.voteResponse.data.model.VoteResponseHourly;
+import pluto.upik.domain.voteResponse.data.model.VoteResponseHourlyId;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 시간대별 응답 집계 레포지토리
+ */
+public interface VoteResponseHourlyRepository extends JpaRepository<VoteResponseHourly, VoteResponseHourlyId> {
+
+    /**
+     * 기간 안의 구간별, 옵션별 응답 수를 샤드 합산으로 조회합니다.
+     *
+     * @param voteId 투표 ID
+     * @param from 시작 시각 (포함)
+     * @param to 종료 시각 (제외)
+     * @return [bucketStart, optionId, count] 형태의 행 목록 (구간 시작 시각 순)
+     */
+    @Query("SELECT h.id.bucketStart, h.id.optionId, SUM(h.responseCount) FROM VoteResponseHourly h " +
+           "WHERE h.id.voteId = :voteId AND h.id.bucketStart >= :from AND h.id.bucketStart < :to " +
+           "GROUP BY h.id.bucketStart, h.id.optionId ORDER BY h.id.bucketStart")
+    List<Object[]> sumByBucketAndOption(@Param("voteId") UUID voteId, @Param("from") LocalDateTime from,
+                                        @Param("to") LocalDateTime to);
+
+    /**
+     * 특정 시각 이전에 누적된 응답 수를 조회합니다.
+     *
+     * @param voteId 투표 ID
+     * @param before 기준 시각 (제외)
+     * @return 누적 응답 수
+     */
+    @Query("SELECT COALESCE(SUM(h.responseCount), 0) FROM VoteResponseHourly h " +
+           "WHERE h.id.voteId = :voteId AND h.id.bucketStart < :before")
+    long sumBefore(@Param("voteId") UUID voteId, @Param("before") LocalDateTime before);
+
+    /**
+     * 지정한 구간 이후에 응답이 들어온 투표 ID 목록을 조회합니다.
+     *
+     * @param since 구간 시작 시각 (포함)
+     * @return 투표 ID 목록
+     */
+    @Query("SELECT DISTINCT h.id.voteId FROM VoteResponseHourly h WHERE h.id.bucketStart >= :since")
+    List<UUID> findVoteIdsWithResponsesSince(@Param("since") LocalDateTime since);
+
+    /**
+     * 특정 투표의 집계 행을 모두 삭제합니다.
+     *
+     * @param voteId 투표 ID
+     */
+    @Modifying
+    @Query("DELETE FROM VoteResponseHourly h WHERE h.id.voteId = :voteId")
+    void deleteByVoteId(@Param("voteId") UUID voteId);
+}
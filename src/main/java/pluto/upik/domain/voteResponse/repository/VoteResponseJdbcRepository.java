@@ -0,0 +1,129 @@
+package pluto.upik.domain.voteResponse.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import pluto.upik.domain.voteResponse.data.DTO.PendingVoteResponse;
+
+import java.nio.ByteBuffer;
+import java.sql.Date;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * JDBC 배치로 투표 응답을 저장하는 저장소
+ * JPA 엔티티를 거치지 않고 한 번의 배치 실행으로 여러 행을 저장합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class VoteResponseJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT IGNORE INTO vote_response (id, user_id, vote_id, option_id, created_at) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 응답을 배치로 저장하고 응답별 실제 저장 여부를 반환합니다. 이미 존재하는 응답(중복 키)은 건너뜁니다.
+     *
+     * 드라이버가 행별 결과 대신 {@link Statement#SUCCESS_NO_INFO}를 반환하면(MariaDB 벌크 프로토콜 등)
+     * 해당 응답의 ID로 행을 다시 조회해 저장 여부를 판단합니다.
+     * 응답 ID는 매번 새로 생성되므로, 중복으로 건너뛴 응답의 ID는 테이블에 존재하지 않습니다.
+     * 중복 판단은 vote_response의 (user_id, vote_id) 유니크 키에 의존합니다.
+     *
+     * @param responses 저장할 응답 목록
+     * @return 응답 순서대로의 저장 여부
+     */
+    public boolean[] insertIgnoreAll(List<PendingVoteResponse> responses) {
+        int[] counts = insertIgnoreBatch(responses);
+        boolean[] inserted = new boolean[responses.size()];
+        List<UUID> unresolved = new ArrayList<>();
+        for (int i = 0; i < responses.size(); i++) {
+            if (counts[i] > 0) {
+                inserted[i] = true;
+            } else if (counts[i] == Statement.SUCCESS_NO_INFO) {
+                unresolved.add(responses.get(i).getId());
+            }
+        }
+        if (unresolved.isEmpty()) {
+            return inserted;
+        }
+
+        Set<UUID> existing = findExistingIds(unresolved);
+        for (int i = 0; i < responses.size(); i++) {
+            if (counts[i] == Statement.SUCCESS_NO_INFO) {
+                inserted[i] = existing.contains(responses.get(i).getId());
+            }
+        }
+        return inserted;
+    }
+
+    /**
+     * 응답을 배치로 저장합니다. 이미 존재하는 응답(중복 키)은 건너뜁니다.
+     *
+     * @param responses 저장할 응답 목록
+     * @return 응답별 저장 행 수 (0이면 중복으로 건너뜀, 드라이버에 따라 {@link Statement#SUCCESS_NO_INFO})
+     */
+    private int[] insertIgnoreBatch(List<PendingVoteResponse> responses) {
+        return jdbcTemplate.batchUpdate(INSERT_SQL, responses, responses.size(), (ps, response) -> {
+            ps.setBytes(1, toBytes(response.getId()));
+            ps.setBytes(2, toBytes(response.getUserId()));
+            ps.setBytes(3, toBytes(response.getVoteId()));
+            ps.setBytes(4, toBytes(response.getOptionId()));
+            ps.setDate(5, Date.valueOf(response.getCreatedAt()));
+        })[0];
+    }
+
+    /**
+     * 투표의 종료 시각을 공유 잠금으로 조회합니다.
+     * 잠금은 트랜잭션이 끝날 때까지 유지되므로, 그 사이 투표를 종료하는 UPDATE는 이 트랜잭션의 커밋을 기다립니다.
+     * 호출하는 쪽의 트랜잭션 안에서 사용해야 합니다.
+     *
+     * @param voteIds 투표 ID 목록
+     * @return 투표 ID → 종료 시각. 진행 중인 투표는 {@link LocalDateTime#MAX},
+     *         종료 시각이 기록되지 않은 종료 투표는 {@link LocalDateTime#MIN}이며, 삭제된 투표는 포함되지 않습니다.
+     */
+    public Map<UUID, LocalDateTime> findClosedAtForShare(Collection<UUID> voteIds) {
+        Object[] args = voteIds.stream().map(this::toBytes).toArray();
+        Map<UUID, LocalDateTime> result = new HashMap<>();
+        jdbcTemplate.query("SELECT id, status, closed_at FROM vote WHERE id IN (" + placeholders(voteIds.size()) + ") " +
+                "LOCK IN SHARE MODE", rs -> {
+            ByteBuffer buffer = ByteBuffer.wrap(rs.getBytes(1));
+            UUID voteId = new UUID(buffer.getLong(), buffer.getLong());
+            Timestamp closedAt = rs.getTimestamp(3);
+            if ("OPEN".equals(rs.getString(2))) {
+                result.put(voteId, LocalDateTime.MAX);
+            } else {
+                result.put(voteId, closedAt != null ? closedAt.toLocalDateTime() : LocalDateTime.MIN);
+            }
+        }, args);
+        return result;
+    }
+
+    private Set<UUID> findExistingIds(List<UUID> ids) {
+        return queryIds("SELECT id FROM vote_response WHERE id IN (" + placeholders(ids.size()) + ")", ids);
+    }
+
+    private Set<UUID> queryIds(String sql, Collection<UUID> ids) {
+        Object[] args = ids.stream().map(this::toBytes).toArray();
+        Set<UUID> result = new HashSet<>();
+        jdbcTemplate.query(sql, rs -> {
+            ByteBuffer buffer = ByteBuffer.wrap(rs.getBytes(1));
+            result.add(new UUID(buffer.getLong(), buffer.getLong()));
+        }, args);
+        return result;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
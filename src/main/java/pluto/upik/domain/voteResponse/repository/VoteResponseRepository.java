@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import pluto.upik.domain.voteResponse.data.model.VoteResponse;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -36,4 +37,51 @@ public interface VoteResponseRepository extends JpaRepository<VoteResponse, UUID
     // 특정 옵션의 응답 수
     @Query("SELECT COUNT(vr) FROM VoteResponse vr WHERE vr.selectedOption.id = :optionId")
     Long countByOptionId(@Param("optionId") UUID optionId);
+
+    /**
+     * 여러 투표의 옵션별 응답 수를 한 번에 집계합니다.
+     *
+     * @param voteIds 집계할 투표 ID 목록
+     * @return [voteId, optionId, count] 형태의 행 목록
+     */
+    @Query("SELECT vr.vote.id, vr.selectedOption.id, COUNT(vr) FROM VoteResponse vr " +
+           "WHERE vr.vote.id IN :voteIds GROUP BY vr.vote.id, vr.selectedOption.id")
+    List<Object[]> countByVoteIdsGroupByOption(@Param("voteIds") Collection<UUID> voteIds);
+
+    /**
+     * 여러 투표의 총 응답 수를 한 번에 집계합니다.
+     *
+     * @param voteIds 집계할 투표 ID 목록
+     * @return [voteId, count] 형태의 행 목록
+     */
+    @Query("SELECT vr.vote.id, COUNT(vr) FROM VoteResponse vr WHERE vr.vote.id IN :voteIds GROUP BY vr.vote.id")
+    List<Object[]> countByVoteIdsGroupByVote(@Param("voteIds") Collection<UUID> voteIds);
+
+    /**
+     * 특정 사용자가 여러 투표에 남긴 응답을 선택한 옵션과 함께 한 번에 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @param voteIds 투표 ID 목록
+     * @return 사용자의 응답 목록
+     */
+    @Query("SELECT vr FROM VoteResponse vr JOIN FETCH vr.selectedOption WHERE vr.user.id = :userId AND vr.vote.id IN :voteIds")
+    List<VoteResponse> findByUserIdAndVoteIdIn(@Param("userId") UUID userId, @Param("voteIds") Collection<UUID> voteIds);
+
+    /**
+     * 특정 사용자가 응답한 모든 투표와 선택한 옵션 ID를 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @return [voteId, optionId] 형태의 행 목록
+     */
+    @Query("SELECT vr.vote.id, vr.selectedOption.id FROM VoteResponse vr WHERE vr.user.id = :userId")
+    List<Object[]> findVoteAndOptionIdsByUserId(@Param("userId") UUID userId);
+
+    /**
+     * 특정 투표에 응답한 사용자 ID를 조회합니다.
+     *
+     * @param voteId 투표 ID
+     * @return 사용자 ID 목록
+     */
+    @Query("SELECT vr.user.id FROM VoteResponse vr WHERE vr.vote.id = :voteId")
+    List<UUID> findUserIdsByVoteId(@Param("voteId") UUID voteId);
 }
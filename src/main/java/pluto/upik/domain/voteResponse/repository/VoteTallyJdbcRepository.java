@@ -0,0 +1,98 @@
+package pluto.upik.domain.voteResponse.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * JDBC 배치로 옵션별 집계(vote_option_tally)와 구간 집계(vote_response_hourly)를 증가시키는 저장소
+ *
+ * 한 트랜잭션에서 저장된 응답의 옵션별 증감량을 합쳐 배치 한 번의 UPSERT로 반영합니다.
+ * 동시에 실행된 배치끼리 교착 상태가 생기지 않도록 행은 항상 (투표 ID, 옵션 ID) 순으로 갱신합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class VoteTallyJdbcRepository {
+
+    private static final String INCREMENT_TALLY_SQL =
+            "INSERT INTO vote_option_tally (option_id, shard, vote_id, response_count) VALUES (?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE response_count = response_count + VALUES(response_count)";
+
+    private static final String INCREMENT_HOURLY_SQL =
+            "INSERT INTO vote_response_hourly (vote_id, option_id, bucket_start, shard, response_count) VALUES (?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE response_count = response_count + VALUES(response_count)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 지정한 샤드의 옵션별 응답 수를 증가시킵니다. 샤드 행이 없으면 생성합니다.
+     *
+     * @param counts 투표 ID → 옵션 ID → 증가량
+     * @param shard 샤드 번호
+     */
+    public void incrementTallies(Map<UUID, Map<UUID, Long>> counts, int shard) {
+        List<OptionCount> rows = sortedRows(counts);
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INCREMENT_TALLY_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setBytes(1, toBytes(row.optionId));
+            ps.setInt(2, shard);
+            ps.setBytes(3, toBytes(row.voteId));
+            ps.setLong(4, row.count);
+        });
+    }
+
+    /**
+     * 지정한 구간 샤드의 옵션별 응답 수를 증가시킵니다. 행이 없으면 생성합니다.
+     *
+     * @param counts 투표 ID → 옵션 ID → 증가량
+     * @param bucketStart 구간 시작 시각
+     * @param shard 샤드 번호
+     */
+    public void incrementHourly(Map<UUID, Map<UUID, Long>> counts, LocalDateTime bucketStart, int shard) {
+        List<OptionCount> rows = sortedRows(counts);
+        if (rows.isEmpty()) {
+            return;
+        }
+        Timestamp bucket = Timestamp.valueOf(bucketStart);
+        jdbcTemplate.batchUpdate(INCREMENT_HOURLY_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setBytes(1, toBytes(row.voteId));
+            ps.setBytes(2, toBytes(row.optionId));
+            ps.setTimestamp(3, bucket);
+            ps.setInt(4, shard);
+            ps.setLong(5, row.count);
+        });
+    }
+
+    private List<OptionCount> sortedRows(Map<UUID, Map<UUID, Long>> counts) {
+        List<OptionCount> rows = new ArrayList<>();
+        counts.forEach((voteId, optionCounts) -> optionCounts.forEach((optionId, count) -> {
+            if (count != 0) {
+                rows.add(new OptionCount(voteId, optionId, count));
+            }
+        }));
+        rows.sort(Comparator.comparing((OptionCount row) -> row.voteId).thenComparing(row -> row.optionId));
+        return rows;
+    }
+
+    private byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    @AllArgsConstructor
+    private static class OptionCount {
+        private final UUID voteId;
+        private final UUID optionId;
+        private final long count;
+    }
+}
@@ -7,9 +7,11 @@ import org.springframework.stereotype.Controller;
 import pluto.upik.domain.voteResponse.application.VoteResponseApplication;
 import pluto.upik.domain.voteResponse.data.DTO.CreateVoteResponseInput;
 import pluto.upik.domain.voteResponse.data.DTO.VoteResponsePayload;
+import pluto.upik.domain.voteResponse.data.DTO.VoteResponseResultPayload;
 import pluto.upik.shared.oauth2jwt.annotation.RequireAuth;
 import pluto.upik.shared.oauth2jwt.util.SecurityUtil;
 
+import java.util.List;
 import java.util.UUID;
 
 @Controller
@@ -25,4 +27,11 @@ public class VoteResponseMutationResolver {
         UUID userId = securityUtil.getCurrentUserId();
         return voteResponseApplication.createVoteResponse(input, userId);
     }
+
+    @RequireAuth
+    @SchemaMapping(typeName = "VoteResponseMutation", field = "createVoteResponses")
+    public List<VoteResponseResultPayload> createVoteResponses(@Argument List<CreateVoteResponseInput> inputs) {
+        UUID userId = securityUtil.getCurrentUserId();
+        return voteResponseApplication.createVoteResponses(inputs, userId);
+    }
 }
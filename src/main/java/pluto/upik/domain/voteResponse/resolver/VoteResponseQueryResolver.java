@@ -6,9 +6,12 @@ import org.springframework.graphql.data.method.annotation.SchemaMapping;
 import org.springframework.stereotype.Controller;
 import pluto.upik.domain.voteResponse.application.VoteResponseApplication;
 import pluto.upik.domain.voteResponse.data.DTO.VoteResponsePayload;
+import pluto.upik.domain.voteResponse.data.DTO.VoteTrendBucketPayload;
 import pluto.upik.shared.oauth2jwt.annotation.RequireAuth;
 import pluto.upik.shared.oauth2jwt.util.SecurityUtil;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.UUID;
 
@@ -36,6 +39,17 @@ public class VoteResponseQueryResolver {
         return voteResponseApplication.hasUserVoted(userId, voteId);
     }
 
+    @SchemaMapping(typeName = "VoteResponseQuery", field = "getVoteTrend")
+    public List<VoteTrendBucketPayload> getVoteTrend(@Argument UUID voteId, @Argument String from, @Argument String to) {
+        try {
+            return voteResponseApplication.getVoteTrend(voteId,
+                    from != null ? LocalDateTime.parse(from) : null,
+                    to != null ? LocalDateTime.parse(to) : null);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 시각 형식입니다. ISO-8601 형식(예: 2025-01-01T09:00)을 사용하세요.");
+        }
+    }
+
     @RequireAuth
     @SchemaMapping(typeName = "VoteResponseQuery", field = "getMyVoteResponses")
     public List<VoteResponsePayload> getMyVoteResponses() {
@@ -0,0 +1,109 @@
+package pluto.upik.domain.voteResponse.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import pluto.upik.domain.vote.repository.VoteDetailRedisRepository;
+import pluto.upik.domain.vote.repository.VoteRepository;
+import pluto.upik.domain.vote.service.VoteDetailReadModel;
+import pluto.upik.domain.voteResponse.repository.VoteCounterRedisRepository;
+import pluto.upik.domain.voteResponse.repository.VoteResponseRepository;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Redis 투표 카운터와 vote_response 원본 데이터의 정합성을 주기적으로 보정하는 작업
+ *
+ * 진행 중인 투표의 카운터 중 이미 적재된 것만 비교하며, 값이 다르면 DB 기준으로 덮어쓰고
+ * 같은 응답 수를 담은 투표 상세 문서는 삭제해 다음 조회에서 다시 적재되게 합니다.
+ * 상세 문서는 카운터와 별도로 적재되므로(적재 직전에 커밋된 응답의 증가분이 누락될 수 있음),
+ * 문서의 총 응답 수도 DB와 비교해 다르면 삭제합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VoteCounterReconciler {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final VoteRepository voteRepository;
+    private final VoteResponseRepository voteResponseRepository;
+    private final VoteCounterRedisRepository voteCounterRedisRepository;
+    private final VoteDetailReadModel voteDetailReadModel;
+    private final VoteDetailRedisRepository voteDetailRedisRepository;
+
+    /**
+     * 진행 중인 투표의 카운터를 보정합니다.
+     *
+     * @return 보정된 투표 수
+     */
+    @Scheduled(fixedDelayString = "${vote.counter.reconcile-interval-ms:300000}",
+               initialDelayString = "${vote.counter.reconcile-interval-ms:300000}")
+    @Transactional(readOnly = true)
+    public int reconcile() {
+        List<UUID> voteIds = voteRepository.findActiveVoteIds(LocalDate.now());
+
+        int corrected = 0;
+        try {
+            for (int from = 0; from < voteIds.size(); from += CHUNK_SIZE) {
+                corrected += reconcileChunk(voteIds.subList(from, Math.min(from + CHUNK_SIZE, voteIds.size())));
+            }
+        } catch (DataAccessException e) {
+            log.warn("Redis 카운터 보정 중단: {}", e.getMessage());
+        }
+
+        if (corrected > 0) {
+            log.info("Redis 투표 카운터 보정 완료: 대상 {}개 중 {}개 보정", voteIds.size(), corrected);
+        }
+        return corrected;
+    }
+
+    private int reconcileChunk(List<UUID> voteIds) {
+        Map<UUID, Map<String, Long>> cached = voteCounterRedisRepository.findAll(voteIds);
+        Map<UUID, Long> docTotals = voteDetailRedisRepository.findTotals(voteIds);
+        Set<UUID> loaded = new HashSet<>(cached.keySet());
+        loaded.addAll(docTotals.keySet());
+        if (loaded.isEmpty()) {
+            return 0;
+        }
+
+        Map<UUID, Map<UUID, Long>> actual = new HashMap<>();
+        loaded.forEach(id -> actual.put(id, new HashMap<>()));
+        for (Object[] row : voteResponseRepository.countByVoteIdsGroupByOption(loaded)) {
+            if (row[1] != null) {
+                actual.get((UUID) row[0]).put((UUID) row[1], (Long) row[2]);
+            }
+        }
+
+        int corrected = 0;
+        for (Map.Entry<UUID, Map<UUID, Long>> entry : actual.entrySet()) {
+            UUID voteId = entry.getKey();
+            Map<UUID, Long> optionCounts = entry.getValue();
+            long total = optionCounts.values().stream().mapToLong(Long::longValue).sum();
+
+            Map<String, Long> redisFields = cached.get(voteId);
+            boolean drifted = redisFields != null
+                    && (redisFields.getOrDefault(VoteCounterRedisRepository.TOTAL_FIELD, 0L) != total
+                    || optionCounts.entrySet().stream()
+                    .anyMatch(e -> redisFields.getOrDefault(e.getKey().toString(), 0L).longValue() != e.getValue()));
+
+            if (drifted) {
+                log.info("Redis 카운터 오차 보정: voteId={}, redisTotal={}, dbTotal={}",
+                        voteId, redisFields.get(VoteCounterRedisRepository.TOTAL_FIELD), total);
+                voteCounterRedisRepository.overwrite(voteId, optionCounts, total);
+                voteDetailReadModel.evict(voteId);
+                corrected++;
+            } else if (docTotals.containsKey(voteId) && docTotals.get(voteId) != total) {
+                log.info("투표 상세 문서 응답 수 오차, 문서를 삭제합니다: voteId={}, docTotal={}, dbTotal={}",
+                        voteId, docTotals.get(voteId), total);
+                voteDetailReadModel.evict(voteId);
+                corrected++;
+            }
+        }
+        return corrected;
+    }
+}
@@ -0,0 +1,203 @@
+package pluto.upik.domain.voteResponse.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import pluto.upik.domain.vote.event.VoteDeletedEvent;
+import pluto.upik.domain.vote.event.VoteThresholdReachedEvent;
+import pluto.upik.domain.voteResponse.event.VoteResponsesCreatedEvent;
+import pluto.upik.domain.voteResponse.repository.VoteCounterRedisRepository;
+import pluto.upik.domain.voteResponse.repository.VoteOptionTallyRepository;
+
+import java.util.*;
+
+/**
+ * 투표 응답 수를 Redis 카운터에서 읽고 쓰는 서비스
+ *
+ * 응답이 저장되면 같은 요청 안에서 투표/옵션별로 합친 증가량을 Redis 카운터에 즉시 반영하고, 트랜잭션이 롤백되면 되돌립니다.
+ * 조회는 Redis를 우선 사용하며, 적재되지 않았거나 Redis를 사용할 수 없는 투표는
+ * vote_option_tally 집계로 대체하고 카운터를 적재합니다.
+ * 남는 오차는 {@link VoteCounterReconciler}가 주기적으로 보정합니다.
+ * 증가된 총 응답 수가 참여자 수 기준에 도달하면 DB 조회 없이 {@link VoteThresholdReachedEvent}를 발행합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VoteCounterService {
+
+    private final VoteCounterRedisRepository voteCounterRedisRepository;
+    private final VoteOptionTallyRepository voteOptionTallyRepository;
+    private final VoteMetadataCache voteMetadataCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 투표 응답 저장 이벤트를 받아 Redis 카운터를 증가시키고 참여자 수 기준 도달 여부를 확인합니다.
+     * 이벤트에 담긴 응답을 투표/옵션별로 합쳐 스크립트 한 번으로 반영하며, 트랜잭션이 롤백되면 증가분을 되돌립니다.
+     *
+     * @param event 투표 응답 저장 이벤트
+     */
+    @EventListener
+    public void onVoteResponsesCreated(VoteResponsesCreatedEvent event) {
+        Map<UUID, Map<UUID, Long>> counts = event.countByVoteAndOption();
+        Map<UUID, Long> totals = incrementAllQuietly(counts, 1);
+        counts.keySet().forEach(voteId -> checkThreshold(voteId, totals.get(voteId)));
+        if (totals.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        incrementAllQuietly(counts, -1);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * 투표 삭제가 커밋되면 카운터를 삭제합니다.
+     *
+     * @param event 투표 삭제 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVoteDeleted(VoteDeletedEvent event) {
+        evict(event.getVoteId());
+    }
+
+    /**
+     * 여러 투표의 옵션별 응답 수와 총 응답 수를 조회합니다.
+     *
+     * @param voteIds 투표 ID 목록
+     * @return 조회된 응답 수
+     */
+    public VoteCounts getCounts(Collection<UUID> voteIds) {
+        VoteCounts counts = new VoteCounts();
+        if (voteIds.isEmpty()) {
+            return counts;
+        }
+
+        Map<UUID, Map<String, Long>> cached;
+        try {
+            cached = voteCounterRedisRepository.findAll(voteIds);
+        } catch (DataAccessException e) {
+            log.warn("Redis 카운터 조회 실패, DB 집계로 대체합니다: {}", e.getMessage());
+            cached = Collections.emptyMap();
+        }
+
+        List<UUID> missing = new ArrayList<>();
+        for (UUID voteId : voteIds) {
+            Map<String, Long> fields = cached.get(voteId);
+            if (fields == null) {
+                missing.add(voteId);
+                continue;
+            }
+            fields.forEach((field, value) -> {
+                if (VoteCounterRedisRepository.TOTAL_FIELD.equals(field)) {
+                    counts.totals.put(voteId, value);
+                } else {
+                    counts.optionCounts.put(UUID.fromString(field), value);
+                }
+            });
+        }
+
+        if (!missing.isEmpty()) {
+            loadFromTally(missing, counts);
+        }
+        return counts;
+    }
+
+    /**
+     * 특정 투표의 총 응답 수를 조회합니다.
+     *
+     * @param voteId 투표 ID
+     * @return 총 응답 수
+     */
+    public long getTotal(UUID voteId) {
+        return getCounts(List.of(voteId)).getTotal(voteId);
+    }
+
+    /**
+     * 투표의 카운터를 삭제합니다.
+     *
+     * @param voteId 투표 ID
+     */
+    public void evict(UUID voteId) {
+        try {
+            voteCounterRedisRepository.delete(voteId);
+        } catch (DataAccessException e) {
+            log.warn("Redis 카운터 삭제 실패: voteId={}, error={}", voteId, e.getMessage());
+        }
+    }
+
+    private void loadFromTally(List<UUID> voteIds, VoteCounts counts) {
+        Map<UUID, Map<UUID, Long>> optionCountsByVote = new HashMap<>();
+        voteIds.forEach(id -> optionCountsByVote.put(id, new HashMap<>()));
+        for (Object[] row : voteOptionTallyRepository.sumByVoteIdsGroupByOption(voteIds)) {
+            optionCountsByVote.get((UUID) row[0]).put((UUID) row[1], ((Number) row[2]).longValue());
+        }
+
+        optionCountsByVote.forEach((voteId, optionCounts) -> {
+            long total = optionCounts.values().stream().mapToLong(Long::longValue).sum();
+            counts.optionCounts.putAll(optionCounts);
+            counts.totals.put(voteId, total);
+            try {
+                voteCounterRedisRepository.loadIfAbsent(voteId, optionCounts, total);
+            } catch (DataAccessException e) {
+                log.warn("Redis 카운터 적재 실패: voteId={}, error={}", voteId, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 증가된 총 응답 수를 참여자 수 기준과 비교해 기준 이상이면 종료 이벤트를 발행합니다.
+     * 재동기화나 재적재, 일괄 저장으로 카운터가 기준을 건너뛰어도 종료되도록 같음이 아닌 이상으로 비교하며,
+     * 종료 처리는 OPEN인 투표만 변경하는 조건부 UPDATE이므로 이벤트가 여러 번 발행되어도 한 번만 종료됩니다.
+     * 카운터가 적재되지 않아 증가 결과가 없으면 적재된 값으로 확인합니다.
+     */
+    private void checkThreshold(UUID voteId, Long incremented) {
+        Integer threshold = voteMetadataCache.get(voteId)
+                .map(VoteMetadataCache.VoteMetadata::getParticipantThreshold)
+                .orElse(null);
+        if (threshold == null) {
+            return;
+        }
+
+        long total = incremented != null ? incremented : getTotal(voteId);
+        if (total >= threshold) {
+            eventPublisher.publishEvent(new VoteThresholdReachedEvent(voteId, total, threshold));
+        }
+    }
+
+    private Map<UUID, Long> incrementAllQuietly(Map<UUID, Map<UUID, Long>> counts, int sign) {
+        try {
+            return voteCounterRedisRepository.incrementAll(counts, sign);
+        } catch (DataAccessException e) {
+            log.warn("Redis 카운터 증감 실패: votes={}, error={}", counts.size(), e.getMessage());
+            return Collections.emptyMap();
+        }
+    }
+
+    /**
+     * 투표별 총 응답 수와 옵션별 응답 수 묶음
+     */
+    public static class VoteCounts {
+        private final Map<UUID, Long> optionCounts = new HashMap<>();
+        private final Map<UUID, Long> totals = new HashMap<>();
+
+        public long getTotal(UUID voteId) {
+            return totals.getOrDefault(voteId, 0L);
+        }
+
+        public long getOptionCount(UUID optionId) {
+            return optionCounts.getOrDefault(optionId, 0L);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package pluto.upik.domain.voteResponse.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pluto.upik.domain.option.data.DTO.OptionSummary;
+import pluto.upik.domain.option.data.model.Option;
+import pluto.upik.domain.option.repository.OptionRepository;
+import pluto.upik.domain.vote.data.model.Vote;
+import pluto.upik.domain.vote.event.VoteClosedEvent;
+import pluto.upik.domain.vote.event.VoteDeletedEvent;
+import pluto.upik.domain.vote.event.VoteUpdatedEvent;
+import pluto.upik.domain.vote.repository.VoteRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 응답 검증에 필요한 투표/옵션 메타데이터를 짧은 시간 동안 메모리에 보관하는 캐시
+ * 같은 투표에 응답이 몰릴 때 요청마다 투표와 옵션을 조회하지 않도록 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class VoteMetadataCache {
+
+    private final VoteRepository voteRepository;
+    private final OptionRepository optionRepository;
+    private final Map<UUID, VoteMetadata> entries = new ConcurrentHashMap<>();
+
+    @Value("${vote.response.ingestion.metadata-ttl-ms:5000}")
+    private long ttlMillis;
+
+    /**
+     * 투표 메타데이터를 조회합니다.
+     *
+     * @param voteId 투표 ID
+     * @return 메타데이터, 투표가 없으면 empty
+     */
+    public Optional<VoteMetadata> get(UUID voteId) {
+        long now = System.currentTimeMillis();
+        VoteMetadata cached = entries.get(voteId);
+        if (cached != null && now - cached.loadedAt < ttlMillis) {
+            return Optional.of(cached);
+        }
+
+        Optional<VoteMetadata> loaded = voteRepository.findById(voteId).map(vote -> load(vote, now));
+        loaded.ifPresentOrElse(metadata -> entries.put(voteId, metadata), () -> entries.remove(voteId));
+        return loaded;
+    }
+
+    /**
+     * 여러 투표의 메타데이터를 한 번에 조회합니다.
+     * 캐시에 없거나 만료된 투표만 투표 조회 한 번과 옵션 조회 한 번으로 적재합니다.
+     *
+     * @param voteIds 투표 ID 목록
+     * @return 투표 ID → 메타데이터 (존재하지 않는 투표는 포함되지 않음)
+     */
+    public Map<UUID, VoteMetadata> getAll(Collection<UUID> voteIds) {
+        long now = System.currentTimeMillis();
+        Map<UUID, VoteMetadata> result = new HashMap<>();
+        Set<UUID> missing = new HashSet<>();
+        for (UUID voteId : voteIds) {
+            VoteMetadata cached = entries.get(voteId);
+            if (cached != null && now - cached.loadedAt < ttlMillis) {
+                result.put(voteId, cached);
+            } else {
+                missing.add(voteId);
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        Map<UUID, Map<UUID, String>> optionsByVote = new HashMap<>();
+        for (OptionSummary option : optionRepository.findSummariesByVoteIdIn(missing)) {
+            optionsByVote.computeIfAbsent(option.getVoteId(), id -> new HashMap<>()).put(option.getId(), option.getContent());
+        }
+        for (Vote vote : voteRepository.findAllById(missing)) {
+            VoteMetadata metadata = new VoteMetadata(vote.getId(), vote.getQuestion(), vote.getStatus(), vote.getFinishedAt(),
+                    vote.getEffectiveDeadline(), vote.getParticipantThreshold(), optionsByVote.getOrDefault(vote.getId(), Map.of()), now);
+            entries.put(vote.getId(), metadata);
+            result.put(vote.getId(), metadata);
+        }
+        missing.stream().filter(voteId -> !result.containsKey(voteId)).forEach(entries::remove);
+        return result;
+    }
+
+    /**
+     * 투표 메타데이터를 캐시에서 제거합니다.
+     *
+     * @param voteId 투표 ID
+     */
+    public void evict(UUID voteId) {
+        entries.remove(voteId);
+    }
+
+    /**
+     * 종료된 투표의 메타데이터를 제거해 이후 응답 검증이 종료 상태를 바로 반영하도록 합니다.
+     *
+     * @param event 투표 종료 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVoteClosed(VoteClosedEvent event) {
+        evict(event.getVoteId());
+    }
+
+    /**
+     * 변경된 투표의 메타데이터를 제거해 연장된 마감 시각 등이 바로 반영되도록 합니다.
+     *
+     * @param event 투표 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVoteUpdated(VoteUpdatedEvent event) {
+        evict(event.getVoteId());
+    }
+
+    /**
+     * 삭제된 투표의 메타데이터를 제거합니다.
+     *
+     * @param event 투표 삭제 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVoteDeleted(VoteDeletedEvent event) {
+        evict(event.getVoteId());
+    }
+
+    private VoteMetadata load(Vote vote, long loadedAt) {
+        Map<UUID, String> options = new HashMap<>();
+        for (Option option : optionRepository.findByVoteIdIn(List.of(vote.getId()))) {
+            options.put(option.getId(), option.getContent());
+        }
+        return new VoteMetadata(vote.getId(), vote.getQuestion(), vote.getStatus(), vote.getFinishedAt(),
+                vote.getEffectiveDeadline(), vote.getParticipantThreshold(), options, loadedAt);
+    }
+
+    /**
+     * 응답 검증용 투표 메타데이터
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class VoteMetadata {
+        private final UUID voteId;
+        private final String title;
+        private final Vote.Status status;
+        private final LocalDate finishedAt;
+        /** 마감 시각 ({@link Vote#getEffectiveDeadline()}) */
+        private final LocalDateTime deadline;
+        private final Integer participantThreshold;
+        private final Map<UUID, String> options;
+        private final long loadedAt;
+
+        /**
+         * 마감 시각이 지났는지 확인합니다.
+         *
+         * @param now 현재 시각
+         * @return 마감 시각 이후이면 true
+         */
+        public boolean isPastDeadline(LocalDateTime now) {
+            return !now.isBefore(deadline);
+        }
+    }
+}
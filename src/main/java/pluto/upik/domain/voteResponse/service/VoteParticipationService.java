@@ -0,0 +1,190 @@
+package pluto.upik.domain.voteResponse.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import pluto.upik.domain.vote.event.VoteDeletedEvent;
+import pluto.upik.domain.voteResponse.data.model.VoteResponse;
+import pluto.upik.domain.voteResponse.event.VoteResponsesCreatedEvent;
+import pluto.upik.domain.voteResponse.repository.VoteParticipationRedisRepository;
+import pluto.upik.domain.voteResponse.repository.VoteResponseRepository;
+
+import java.util.*;
+
+/**
+ * 사용자별 투표 참여 여부와 투표별 참여자 수를 Redis 참여자 인덱스로 제공하는 서비스
+ *
+ * 목록 한 페이지의 참여 여부/선택 옵션은 사용자 해시에 대한 HMGET 한 번으로,
+ * 참여자 수는 비트맵 BITCOUNT 한 번으로 조회합니다.
+ * 적재되지 않은 사용자/투표는 DB에서 읽어 적재하며, Redis를 사용할 수 없으면 DB 조회로 대체합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VoteParticipationService {
+
+    private final VoteParticipationRedisRepository voteParticipationRedisRepository;
+    private final VoteResponseRepository voteResponseRepository;
+
+    /**
+     * 투표 응답 저장 이벤트를 받아 참여자 인덱스에 기록합니다.
+     * 이벤트에 담긴 응답을 스크립트 한 번으로 기록하며, 트랜잭션이 롤백되면 기록을 되돌립니다.
+     *
+     * @param event 투표 응답 저장 이벤트
+     */
+    @EventListener
+    public void onVoteResponsesCreated(VoteResponsesCreatedEvent event) {
+        Map<UUID, Map<UUID, UUID>> selections = new HashMap<>();
+        event.getResponses().forEach(response -> selections
+                .computeIfAbsent(response.getUserId(), id -> new HashMap<>())
+                .put(response.getVoteId(), response.getOptionId()));
+        try {
+            voteParticipationRedisRepository.recordAll(selections);
+        } catch (DataAccessException e) {
+            log.warn("참여자 인덱스 기록 실패: responses={}, error={}", event.getResponses().size(), e.getMessage());
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        undoQuietly(selections);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * 투표 삭제가 커밋되면 참여자 비트맵을 삭제합니다.
+     *
+     * @param event 투표 삭제 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVoteDeleted(VoteDeletedEvent event) {
+        evict(event.getVoteId());
+    }
+
+    /**
+     * 사용자가 여러 투표에서 선택한 옵션을 조회합니다.
+     *
+     * @param userId 사용자 ID (null이면 빈 결과)
+     * @param voteIds 투표 ID 목록
+     * @return 투표 ID → 선택한 옵션 ID (참여한 투표만 포함)
+     */
+    public Map<UUID, UUID> getSelections(UUID userId, Collection<UUID> voteIds) {
+        if (userId == null || voteIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        try {
+            Optional<Map<UUID, UUID>> cached = voteParticipationRedisRepository.findSelections(userId, voteIds);
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+        } catch (DataAccessException e) {
+            log.warn("참여자 인덱스 조회 실패, DB 조회로 대체합니다: {}", e.getMessage());
+            return loadSelectionsFromDb(userId, voteIds);
+        }
+
+        Map<UUID, UUID> history = new HashMap<>();
+        for (Object[] row : voteResponseRepository.findVoteAndOptionIdsByUserId(userId)) {
+            history.put((UUID) row[0], (UUID) row[1]);
+        }
+        try {
+            voteParticipationRedisRepository.loadSelections(userId, history);
+        } catch (DataAccessException e) {
+            log.warn("참여자 인덱스 적재 실패: userId={}, error={}", userId, e.getMessage());
+        }
+
+        Map<UUID, UUID> selections = new HashMap<>();
+        voteIds.forEach(voteId -> {
+            UUID optionId = history.get(voteId);
+            if (optionId != null) {
+                selections.put(voteId, optionId);
+            }
+        });
+        return selections;
+    }
+
+    /**
+     * 사용자가 특정 투표에 참여했는지 확인합니다.
+     *
+     * @param userId 사용자 ID (null이면 false)
+     * @param voteId 투표 ID
+     * @return 참여했으면 true
+     */
+    public boolean hasVoted(UUID userId, UUID voteId) {
+        return getSelections(userId, List.of(voteId)).containsKey(voteId);
+    }
+
+    /**
+     * 투표의 참여자 수를 조회합니다.
+     *
+     * @param voteId 투표 ID
+     * @return 참여자 수
+     */
+    public long countParticipants(UUID voteId) {
+        try {
+            OptionalLong cached = voteParticipationRedisRepository.countParticipants(voteId);
+            if (cached.isPresent()) {
+                return cached.getAsLong();
+            }
+            List<UUID> userIds = voteResponseRepository.findUserIdsByVoteId(voteId);
+            voteParticipationRedisRepository.loadParticipants(voteId, userIds);
+            return userIds.size();
+        } catch (DataAccessException e) {
+            log.warn("참여자 수 조회 실패, DB 집계로 대체합니다: voteId={}, error={}", voteId, e.getMessage());
+            return voteResponseRepository.countByVoteId(voteId);
+        }
+    }
+
+    /**
+     * 새 투표의 빈 참여자 인덱스를 생성합니다.
+     *
+     * @param voteId 투표 ID
+     */
+    public void initialize(UUID voteId) {
+        try {
+            voteParticipationRedisRepository.initialize(voteId);
+        } catch (DataAccessException e) {
+            log.warn("참여자 인덱스 생성 실패: voteId={}, error={}", voteId, e.getMessage());
+        }
+    }
+
+    /**
+     * 투표의 참여자 인덱스를 삭제합니다.
+     *
+     * @param voteId 투표 ID
+     */
+    public void evict(UUID voteId) {
+        try {
+            voteParticipationRedisRepository.deleteParticipants(voteId);
+        } catch (DataAccessException e) {
+            log.warn("참여자 인덱스 삭제 실패: voteId={}, error={}", voteId, e.getMessage());
+        }
+    }
+
+    private Map<UUID, UUID> loadSelectionsFromDb(UUID userId, Collection<UUID> voteIds) {
+        Map<UUID, UUID> selections = new HashMap<>();
+        for (VoteResponse response : voteResponseRepository.findByUserIdAndVoteIdIn(userId, voteIds)) {
+            selections.put(response.getVote().getId(), response.getSelectedOption().getId());
+        }
+        return selections;
+    }
+
+    private void undoQuietly(Map<UUID, Map<UUID, UUID>> selections) {
+        Map<UUID, Set<UUID>> voteIdsByUser = new HashMap<>();
+        selections.forEach((userId, votes) -> voteIdsByUser.put(userId, votes.keySet()));
+        try {
+            voteParticipationRedisRepository.undoAll(voteIdsByUser);
+        } catch (DataAccessException e) {
+            log.warn("참여자 인덱스 복구 실패: users={}, error={}", selections.size(), e.getMessage());
+        }
+    }
+}
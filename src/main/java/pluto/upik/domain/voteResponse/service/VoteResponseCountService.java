@@ -0,0 +1,101 @@
+package pluto.upik.domain.voteResponse.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import pluto.upik.domain.vote.repository.VoteRepository;
+import pluto.upik.domain.voteResponse.event.VoteResponsesCreatedEvent;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * vote.response_count 비정규화 컬럼을 유지하는 서비스
+ *
+ * 응답마다 vote 행을 갱신하면 샤드로 분산한 잠금이 vote 행 하나에 다시 몰리므로,
+ * 커밋된 응답의 투표를 모아 두었다가 주기적으로 vote_option_tally 합계를 한 번의 UPDATE로 반영합니다.
+ * 다른 노드에서 반영되지 못한 변경분은 진행 중인 투표 전체를 다시 맞추는 작업이 보정합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VoteResponseCountService {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final VoteRepository voteRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final Set<UUID> dirtyVotes = ConcurrentHashMap.newKeySet();
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void initTransactionTemplate() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 커밋된 응답의 투표를 다음 반영 대상으로 표시합니다.
+     *
+     * @param event 투표 응답 저장 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVoteResponsesCreated(VoteResponsesCreatedEvent event) {
+        dirtyVotes.addAll(event.getVoteIds());
+    }
+
+    /**
+     * 변경된 투표의 response_count를 반영합니다.
+     * 실패하면 다음 주기에 다시 반영하도록 대상을 되돌립니다.
+     */
+    @Scheduled(fixedDelayString = "${vote.response-count.flush-interval-ms:5000}")
+    public void flushDirty() {
+        if (dirtyVotes.isEmpty()) {
+            return;
+        }
+        List<UUID> voteIds = new ArrayList<>(dirtyVotes);
+        dirtyVotes.removeAll(voteIds);
+
+        try {
+            sync(voteIds);
+        } catch (DataAccessException e) {
+            dirtyVotes.addAll(voteIds);
+            log.warn("투표 응답 수 반영 실패: {}개, error={}", voteIds.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 진행 중인 투표 전체의 response_count를 다시 맞춥니다.
+     */
+    @Scheduled(fixedDelayString = "${vote.counter.reconcile-interval-ms:300000}",
+               initialDelayString = "${vote.counter.reconcile-interval-ms:300000}")
+    public void resyncActive() {
+        List<UUID> voteIds = voteRepository.findActiveVoteIds(LocalDate.now());
+        int updated = sync(voteIds);
+        log.debug("진행 중인 투표 응답 수 재동기화: 대상 {}개, 갱신 {}개", voteIds.size(), updated);
+    }
+
+    /**
+     * 청크마다 별도 트랜잭션으로 반영해 한 번에 잡는 vote 행 잠금 범위를 제한합니다.
+     */
+    private int sync(List<UUID> voteIds) {
+        int updated = 0;
+        for (int from = 0; from < voteIds.size(); from += CHUNK_SIZE) {
+            List<UUID> chunk = voteIds.subList(from, Math.min(from + CHUNK_SIZE, voteIds.size()));
+            Integer count = transactionTemplate.execute(status -> voteRepository.syncResponseCounts(chunk));
+            updated += count != null ? count : 0;
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,222 @@
+package pluto.upik.domain.voteResponse.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import pluto.upik.domain.voteResponse.data.DTO.PendingVoteResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 투표 응답을 제한된 크기의 큐에 모았다가 배치 단위로 저장 대상(Sink)에 넘기는 파이프라인
+ *
+ * 큐가 가득 차면 {@link #offer}가 제한 시간 후 false를 반환하여 호출자에게 역압을 전달합니다.
+ * 작업 스레드는 최대 batchSize개 또는 maxWait 동안 모인 응답을 한 번에 저장하며,
+ * 중지 시에는 큐에 남은 응답을 모두 저장한 뒤 종료합니다.
+ *
+ * 적재된 응답은 이미 호출자에게 성공으로 응답된 것이므로 버리지 않습니다.
+ * 저장이 {@value #MAX_ATTEMPTS}회 연속 실패한 배치는 보관 대상(fallback)에 넘기고,
+ * 보관까지 실패하면 간격을 늘려 가며 저장과 보관을 계속 다시 시도합니다.
+ *
+ * 노출 지표
+ * - vote.response.ingest.queue.size / queue.remaining: 큐 적재량과 남은 용량
+ * - vote.response.ingest.accepted / rejected: 적재 성공/거절 수
+ * - vote.response.ingest.flushed / failed: 저장 성공/실패 응답 수
+ * - vote.response.ingest.dead-lettered: 보관 대상으로 넘긴 응답 수
+ * - vote.response.ingest.flush: 배치 저장 소요 시간
+ */
+@Slf4j
+public class VoteResponseIngestQueue {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long INITIAL_BACKOFF_MS = 100;
+    private static final long MAX_BACKOFF_MS = 5_000;
+
+    /**
+     * 배치 저장 대상 (저장 대상과 보관 대상 모두 이 형식을 사용)
+     */
+    @FunctionalInterface
+    public interface Sink {
+        void write(List<PendingVoteResponse> batch);
+    }
+
+    private final BlockingQueue<PendingVoteResponse> queue;
+    private final int batchSize;
+    private final Duration maxWait;
+    private final int workers;
+    private final Sink sink;
+    private final Sink fallback;
+    private final List<Thread> threads = new ArrayList<>();
+    private volatile boolean running;
+
+    private final Counter acceptedCounter;
+    private final Counter rejectedCounter;
+    private final Counter flushedCounter;
+    private final Counter failedCounter;
+    private final Counter deadLetteredCounter;
+    private final Timer flushTimer;
+
+    public VoteResponseIngestQueue(int capacity, int batchSize, Duration maxWait, int workers,
+                                   Sink sink, Sink fallback, MeterRegistry meterRegistry) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.maxWait = maxWait;
+        this.workers = Math.max(workers, 1);
+        this.sink = sink;
+        this.fallback = fallback;
+
+        Gauge.builder("vote.response.ingest.queue.size", queue, BlockingQueue::size)
+                .description("수집 큐에 대기 중인 투표 응답 수")
+                .register(meterRegistry);
+        Gauge.builder("vote.response.ingest.queue.remaining", queue, BlockingQueue::remainingCapacity)
+                .description("수집 큐의 남은 용량")
+                .register(meterRegistry);
+        this.acceptedCounter = meterRegistry.counter("vote.response.ingest.accepted");
+        this.rejectedCounter = meterRegistry.counter("vote.response.ingest.rejected");
+        this.flushedCounter = meterRegistry.counter("vote.response.ingest.flushed");
+        this.failedCounter = meterRegistry.counter("vote.response.ingest.failed");
+        this.deadLetteredCounter = meterRegistry.counter("vote.response.ingest.dead-lettered");
+        this.flushTimer = meterRegistry.timer("vote.response.ingest.flush");
+    }
+
+    /**
+     * 작업 스레드를 시작합니다.
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        for (int i = 0; i < workers; i++) {
+            Thread thread = new Thread(this::runLoop, "vote-ingest-" + i);
+            thread.setDaemon(false);
+            thread.start();
+            threads.add(thread);
+        }
+    }
+
+    /**
+     * 새 응답 적재를 멈추고, 큐에 남은 응답을 모두 저장한 뒤 작업 스레드를 종료합니다.
+     */
+    public synchronized void stop() {
+        running = false;
+        for (Thread thread : threads) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        threads.clear();
+    }
+
+    /**
+     * 응답을 큐에 적재합니다.
+     *
+     * @param response 적재할 응답
+     * @param timeout 큐가 가득 찼을 때 기다릴 최대 시간
+     * @return 적재되었으면 true, 큐가 가득 차 있거나 중지된 경우 false
+     */
+    public boolean offer(PendingVoteResponse response, Duration timeout) {
+        if (!running) {
+            rejectedCounter.increment();
+            return false;
+        }
+        try {
+            boolean accepted = queue.offer(response, timeout.toNanos(), TimeUnit.NANOSECONDS);
+            (accepted ? acceptedCounter : rejectedCounter).increment();
+            return accepted;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            rejectedCounter.increment();
+            return false;
+        }
+    }
+
+    /**
+     * 현재 큐에 대기 중인 응답 수
+     */
+    public int size() {
+        return queue.size();
+    }
+
+    private void runLoop() {
+        List<PendingVoteResponse> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingVoteResponse first = queue.poll(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 배치를 저장합니다. 저장 또는 보관이 끝날 때까지 반환하지 않습니다.
+     */
+    private void flush(List<PendingVoteResponse> batch) {
+        List<PendingVoteResponse> snapshot = List.copyOf(batch);
+        long backoffMs = INITIAL_BACKOFF_MS;
+        while (true) {
+            for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+                try {
+                    flushTimer.record(() -> sink.write(snapshot));
+                    flushedCounter.increment(snapshot.size());
+                    return;
+                } catch (RuntimeException e) {
+                    log.warn("투표 응답 배치 저장 실패 ({}/{}): size={}, error={}",
+                            attempt, MAX_ATTEMPTS, snapshot.size(), e.getMessage());
+                }
+            }
+            failedCounter.increment(snapshot.size());
+
+            try {
+                fallback.write(snapshot);
+                deadLetteredCounter.increment(snapshot.size());
+                log.warn("투표 응답 배치를 보관했습니다. 재처리 작업이 다시 저장합니다: size={}", snapshot.size());
+                return;
+            } catch (RuntimeException e) {
+                log.error("투표 응답 배치 보관 실패, {}ms 후 다시 시도합니다: size={}, error={}",
+                        backoffMs, snapshot.size(), e.getMessage());
+            }
+            sleepUninterruptibly(backoffMs);
+            backoffMs = Math.min(backoffMs * 2, MAX_BACKOFF_MS);
+        }
+    }
+
+    /**
+     * 재시도 대기 중 인터럽트되어도 배치를 버리지 않도록 대기를 마친 뒤 인터럽트 상태를 복원합니다.
+     */
+    private static void sleepUninterruptibly(long millis) {
+        boolean interrupted = false;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(remaining);
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
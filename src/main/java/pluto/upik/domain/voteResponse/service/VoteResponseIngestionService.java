@@ -0,0 +1,290 @@
+package pluto.upik.domain.voteResponse.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import pluto.upik.domain.vote.data.model.Vote;
+import pluto.upik.domain.vote.service.VoteResultSnapshotService;
+import pluto.upik.domain.voteResponse.data.DTO.CreateVoteResponseInput;
+import pluto.upik.domain.voteResponse.data.DTO.PendingVoteResponse;
+import pluto.upik.domain.voteResponse.data.DTO.VoteResponsePayload;
+import pluto.upik.domain.voteResponse.event.VoteResponsesCreatedEvent;
+import pluto.upik.domain.voteResponse.repository.VoteResponseDeadLetterRedisRepository;
+import pluto.upik.domain.voteResponse.repository.VoteResponseJdbcRepository;
+import pluto.upik.shared.cache.CacheDependencyTracker;
+import pluto.upik.shared.cache.CacheTags;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 대량 투표 응답 수집 서비스 ({@code vote.response.ingestion.mode=queued}일 때 사용)
+ *
+ * 요청 스레드에서는 메모리에 캐시된 투표/옵션 메타데이터와 참여자 인덱스로만 검증한 뒤
+ * 응답을 제한된 크기의 큐에 적재하고 즉시 응답합니다.
+ * 큐의 응답은 작업 스레드가 JDBC 배치로 저장하며, 저장된 행을 하나의 응답 저장 이벤트로 묶어 발행하므로
+ * 집계와 Redis 읽기 모델은 배치마다 한 번씩만 갱신되고, 캐시 무효화와 참여자 수 기준 종료 확인도 투표별로 한 번씩 수행됩니다.
+ * 큐가 가득 차면 요청을 거절하여 DB 처리량 이상으로 요청이 쌓이지 않도록 합니다.
+ *
+ * 저장을 반복해서 실패한 배치는 {@link VoteResponseDeadLetterRedisRepository}에 보관되고,
+ * {@link #replayDeadLetters()}가 주기적으로 다시 저장한 뒤 보관 목록에서 제거합니다.
+ * 같은 응답이 두 번 저장되어도 (user_id, vote_id) 유니크 키로 한 행만 남고 이벤트도 한 번만 발행됩니다.
+ *
+ * 상태와 마감 시각은 접수 시점에 검증하므로, 접수 확인을 받은 응답은 저장 전에 투표가 종료되어도 저장됩니다.
+ * 저장 시점에는 투표 행을 공유 잠금으로 확인해 종료 시각 이후에 접수된 응답(캐시가 갱신되기 전 접수 등)과
+ * 삭제된 투표의 응답만 제외하며, 이미 종료된 투표에 응답을 저장했으면 커밋 후 결과 스냅샷을 다시 기록합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VoteResponseIngestionService {
+
+    public static final String MODE_QUEUED = "queued";
+
+    private static final int MAX_REPLAY_BATCHES = 20;
+    private static final Duration REPLAY_LOCK_TTL = Duration.ofSeconds(60);
+
+    private final VoteMetadataCache voteMetadataCache;
+    private final VoteParticipationService voteParticipationService;
+    private final VoteResponseJdbcRepository voteResponseJdbcRepository;
+    private final VoteResponseDeadLetterRedisRepository deadLetterRepository;
+    private final VoteResultSnapshotService voteResultSnapshotService;
+    private final CacheDependencyTracker cacheDependencyTracker;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    /** 큐에 적재되어 아직 저장되지 않은 (투표, 사용자) 조합 */
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    /** 보관 목록 재처리 잠금 값 */
+    private final String replayLockToken = UUID.randomUUID().toString();
+
+    @Value("${vote.response.ingestion.mode:sync}")
+    private String mode;
+
+    @Value("${vote.response.ingestion.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${vote.response.ingestion.batch-size:500}")
+    private int batchSize;
+
+    @Value("${vote.response.ingestion.flush-interval-ms:50}")
+    private long flushIntervalMs;
+
+    @Value("${vote.response.ingestion.offer-timeout-ms:100}")
+    private long offerTimeoutMs;
+
+    @Value("${vote.response.ingestion.workers:2}")
+    private int workers;
+
+    private VoteResponseIngestQueue queue;
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void start() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        if (!isEnabled()) {
+            return;
+        }
+        queue = new VoteResponseIngestQueue(queueCapacity, batchSize, Duration.ofMillis(flushIntervalMs),
+                workers, this::write, this::deadLetter, meterRegistry);
+        queue.start();
+        log.info("투표 응답 수집 큐 시작: capacity={}, batchSize={}, workers={}", queueCapacity, batchSize, workers);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (queue != null) {
+            queue.stop();
+            log.info("투표 응답 수집 큐 종료: 남은 응답 {}개", queue.size());
+        }
+    }
+
+    /**
+     * 큐 기반 수집 모드가 활성화되어 있는지 확인합니다.
+     */
+    public boolean isEnabled() {
+        return MODE_QUEUED.equalsIgnoreCase(mode);
+    }
+
+    /**
+     * 투표 응답을 검증하고 수집 큐에 적재합니다.
+     *
+     * @param input 응답 입력
+     * @param userId 사용자 ID
+     * @return 적재된 응답 정보
+     * @throws IllegalArgumentException 투표/옵션이 없거나 옵션이 투표에 속하지 않는 경우
+     * @throws IllegalStateException 투표가 종료되었거나 이미 참여했거나 큐가 가득 찬 경우
+     */
+    public VoteResponsePayload submit(CreateVoteResponseInput input, UUID userId) {
+        VoteMetadataCache.VoteMetadata metadata = voteMetadataCache.get(input.getVoteId())
+                .orElseThrow(() -> new IllegalArgumentException("투표를 찾을 수 없습니다: " + input.getVoteId()));
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate today = now.toLocalDate();
+        if (metadata.getStatus() != Vote.Status.OPEN) {
+            throw new IllegalStateException("투표가 종료되었습니다.");
+        }
+        if (metadata.isPastDeadline(now)) {
+            throw new IllegalStateException("투표 마감 기한이 지났습니다. (마감: " + metadata.getDeadline() + ")");
+        }
+        String optionContent = metadata.getOptions().get(input.getOptionId());
+        if (optionContent == null) {
+            throw new IllegalArgumentException("해당 옵션은 이 투표에 속하지 않습니다.");
+        }
+
+        String inFlightKey = input.getVoteId() + ":" + userId;
+        if (voteParticipationService.hasVoted(userId, input.getVoteId()) || !inFlight.add(inFlightKey)) {
+            throw new IllegalStateException("이미 이 투표에 참여하셨습니다.");
+        }
+
+        PendingVoteResponse pending = new PendingVoteResponse(
+                UUID.randomUUID(), userId, input.getVoteId(), input.getOptionId(), today, now);
+        if (!queue.offer(pending, Duration.ofMillis(offerTimeoutMs))) {
+            inFlight.remove(inFlightKey);
+            throw new IllegalStateException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        return VoteResponsePayload.builder()
+                .id(pending.getId())
+                .userId(userId)
+                .voteId(input.getVoteId())
+                .optionId(input.getOptionId())
+                .optionContent(optionContent)
+                .voteTitle(metadata.getTitle())
+                .createdAt(today)
+                .build();
+    }
+
+    /**
+     * 보관된 응답을 다시 저장합니다. 저장이 끝난 배치만 보관 목록에서 제거하며,
+     * 저장에 실패하면 남은 응답은 다음 주기에 다시 시도합니다.
+     * 수집 모드와 무관하게 실행되어, 모드를 바꾼 뒤에도 보관된 응답이 남지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${vote.response.ingestion.dead-letter.replay-interval-ms:10000}",
+               initialDelayString = "${vote.response.ingestion.dead-letter.replay-interval-ms:10000}")
+    public void replayDeadLetters() {
+        try {
+            if (deadLetterRepository.size() == 0 || !deadLetterRepository.tryLock(replayLockToken, REPLAY_LOCK_TTL)) {
+                return;
+            }
+        } catch (DataAccessException e) {
+            log.warn("보관된 투표 응답 확인 실패: error={}", e.getMessage());
+            return;
+        }
+
+        int replayed = 0;
+        try {
+            for (int i = 0; i < MAX_REPLAY_BATCHES; i++) {
+                VoteResponseDeadLetterRedisRepository.Peek peek = deadLetterRepository.peek(batchSize);
+                if (peek.getRawCount() == 0) {
+                    break;
+                }
+                if (!peek.getResponses().isEmpty()) {
+                    write(peek.getResponses());
+                }
+                deadLetterRepository.ack(peek.getRawCount());
+                replayed += peek.getResponses().size();
+            }
+        } catch (RuntimeException e) {
+            log.warn("보관된 투표 응답 재처리 실패, 다음 주기에 다시 시도합니다: error={}", e.getMessage());
+        } finally {
+            deadLetterRepository.unlock(replayLockToken);
+        }
+        if (replayed > 0) {
+            log.info("보관된 투표 응답 재처리: {}개", replayed);
+        }
+    }
+
+    /**
+     * 한 배치를 저장하고 저장된 응답의 후속 처리를 수행합니다.
+     * 저장에 실패하면 예외를 던지며, 참여 중 표시는 배치가 저장되거나 보관될 때까지 유지됩니다.
+     */
+    private void write(List<PendingVoteResponse> batch) {
+        Set<UUID> closedVoteIds = new HashSet<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            List<PendingVoteResponse> accepted = filterAccepted(batch, closedVoteIds);
+            if (accepted.isEmpty()) {
+                return;
+            }
+            boolean[] inserted = voteResponseJdbcRepository.insertIgnoreAll(accepted);
+            List<VoteResponsesCreatedEvent.CreatedResponse> created = new ArrayList<>(accepted.size());
+            for (int i = 0; i < accepted.size(); i++) {
+                if (!inserted[i]) {
+                    continue;
+                }
+                PendingVoteResponse response = accepted.get(i);
+                created.add(new VoteResponsesCreatedEvent.CreatedResponse(
+                        response.getId(), response.getUserId(), response.getVoteId(), response.getOptionId()));
+            }
+            if (!created.isEmpty()) {
+                eventPublisher.publishEvent(new VoteResponsesCreatedEvent(created));
+            }
+        });
+        releaseInFlight(batch);
+        closedVoteIds.forEach(voteResultSnapshotService::refreeze);
+
+        Set<UUID> voteIds = new HashSet<>();
+        batch.forEach(response -> voteIds.add(response.getVoteId()));
+        for (UUID voteId : voteIds) {
+            cacheDependencyTracker.invalidate(CacheTags.vote(voteId), CacheTags.VOTE_RANKING);
+        }
+    }
+
+    /**
+     * 저장할 응답을 고릅니다. 진행 중인 투표의 응답은 모두 저장하고, 그 사이 종료된 투표의 응답은
+     * 종료 시각 이전에 접수된 경우에만 저장합니다. 투표 행의 공유 잠금은 트랜잭션 끝까지 유지됩니다.
+     *
+     * @param batch 배치
+     * @param closedVoteIds 종료된 투표 중 저장할 응답이 있는 투표 ID를 담을 집합
+     * @return 저장할 응답 목록
+     */
+    private List<PendingVoteResponse> filterAccepted(List<PendingVoteResponse> batch, Set<UUID> closedVoteIds) {
+        Set<UUID> voteIds = new HashSet<>();
+        batch.forEach(response -> voteIds.add(response.getVoteId()));
+        Map<UUID, LocalDateTime> closedAtByVote = voteResponseJdbcRepository.findClosedAtForShare(voteIds);
+
+        List<PendingVoteResponse> accepted = new ArrayList<>(batch.size());
+        for (PendingVoteResponse response : batch) {
+            LocalDateTime closedAt = closedAtByVote.get(response.getVoteId());
+            if (closedAt == null) {
+                log.warn("삭제된 투표의 응답을 저장하지 않습니다: id={}, userId={}, voteId={}",
+                        response.getId(), response.getUserId(), response.getVoteId());
+            } else if (!response.getAcceptedAt().isBefore(closedAt)) {
+                log.warn("종료 후 접수된 응답을 저장하지 않습니다: id={}, userId={}, voteId={}, acceptedAt={}, closedAt={}",
+                        response.getId(), response.getUserId(), response.getVoteId(), response.getAcceptedAt(), closedAt);
+            } else {
+                accepted.add(response);
+                if (!LocalDateTime.MAX.equals(closedAt)) {
+                    closedVoteIds.add(response.getVoteId());
+                }
+            }
+        }
+        return accepted;
+    }
+
+    /**
+     * 저장에 실패한 배치를 재처리 대상으로 보관합니다.
+     */
+    private void deadLetter(List<PendingVoteResponse> batch) {
+        deadLetterRepository.push(batch);
+        releaseInFlight(batch);
+    }
+
+    private void releaseInFlight(List<PendingVoteResponse> batch) {
+        batch.forEach(response -> inFlight.remove(response.getVoteId() + ":" + response.getUserId()));
+    }
+}
@@ -2,8 +2,8 @@ package pluto.upik.domain.voteResponse.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import pluto.upik.domain.option.data.model.Option;
@@ -11,17 +11,22 @@ import pluto.upik.domain.option.repository.OptionRepository;
 import pluto.upik.domain.vote.data.model.Vote;
 import pluto.upik.domain.vote.repository.VoteRepository;
 import pluto.upik.domain.voteResponse.data.DTO.CreateVoteResponseInput;
+import pluto.upik.domain.voteResponse.data.DTO.PendingVoteResponse;
 import pluto.upik.domain.voteResponse.data.DTO.VoteResponsePayload;
+import pluto.upik.domain.voteResponse.data.DTO.VoteResponseResultPayload;
 import pluto.upik.domain.voteResponse.data.model.VoteResponse;
+import pluto.upik.domain.voteResponse.event.VoteResponsesCreatedEvent;
+import pluto.upik.domain.voteResponse.repository.VoteOptionTallyRepository;
+import pluto.upik.domain.voteResponse.repository.VoteResponseJdbcRepository;
 import pluto.upik.domain.voteResponse.repository.VoteResponseRepository;
-import pluto.upik.shared.cache.CacheNames;
+import pluto.upik.shared.cache.CacheDependencyTracker;
+import pluto.upik.shared.cache.CacheTags;
 import pluto.upik.shared.oauth2jwt.entity.User;
 import pluto.upik.shared.oauth2jwt.repository.UserRepository;
 
 import java.time.LocalDate;
-import java.util.List;
-import java.util.Optional;
-import java.util.UUID;
+import java.time.LocalDateTime;
+import java.util.*;
 
 @Service
 @RequiredArgsConstructor
@@ -29,11 +34,19 @@ import java.util.UUID;
 @Slf4j
 public class VoteResponseService {
 
+    private static final int MAX_BATCH_SIZE = 100;
+
     private final VoteResponseRepository voteResponseRepository;
     private final VoteRepository voteRepository;
     private final OptionRepository optionRepository;
     private final UserRepository userRepository;
-    private final pluto.upik.domain.vote.service.VoteClosureService voteClosureService;
+    private final VoteOptionTallyRepository voteOptionTallyRepository;
+    private final VoteCounterService voteCounterService;
+    private final VoteParticipationService voteParticipationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheDependencyTracker cacheDependencyTracker;
+    private final VoteMetadataCache voteMetadataCache;
+    private final VoteResponseJdbcRepository voteResponseJdbcRepository;
 
     /**
      * 사용자가 특정 투표에 참여했는지 확인합니다.
@@ -49,17 +62,10 @@ public class VoteResponseService {
         if (userId == null) {
             return false;
         }
-        return voteResponseRepository.findByUserIdAndVoteId(userId, voteId).isPresent();
+        return voteParticipationService.hasVoted(userId, voteId);
     }
 
 
-    @Caching(evict = {
-            @CacheEvict(value = CacheNames.VOTE_LIST, allEntries = true),
-            @CacheEvict(value = CacheNames.VOTE_DETAIL, allEntries = true),
-            @CacheEvict(value = CacheNames.VOTE_POPULAR, allEntries = true),
-            @CacheEvict(value = CacheNames.VOTE_LEAST, allEntries = true),
-            @CacheEvict(value = CacheNames.VOTE_MY, allEntries = true)
-    })
     public VoteResponsePayload createVoteResponse(CreateVoteResponseInput input, UUID userId) {
         // 1. 사용자 조회
         User user = userRepository.findById(userId)
@@ -73,21 +79,18 @@ public class VoteResponseService {
         Option option = optionRepository.findById(input.getOptionId())
                 .orElseThrow(() -> new IllegalArgumentException("옵션을 찾을 수 없습니다: " + input.getOptionId()));
 
-        log.info(user.toString());
-        log.info(vote.toString());
-        log.info(option.toString());
+        log.debug("투표 응답 요청: userId={}, voteId={}, optionId={}", user.getId(), vote.getId(), option.getId());
 
-        // 4. 투표 상태 확인 (Status와 날짜 모두 확인)
-        LocalDate currentDate = LocalDate.now();
+        // 4. 투표 상태 확인 (Status와 마감 시각 모두 확인)
 
         // 투표가 CLOSED 상태인 경우
         if (vote.getStatus() != Vote.Status.OPEN) {
             throw new IllegalStateException("투표가 종료되었습니다.");
         }
 
-        // 투표 종료 날짜가 지난 경우
-        if (vote.isFinishedByDate(currentDate)) {
-            throw new IllegalStateException("투표 마감 기한이 지났습니다. (마감일: " + vote.getFinishedAt() + ")");
+        // 투표 마감 시각이 지난 경우
+        if (vote.isPastDeadline(LocalDateTime.now())) {
+            throw new IllegalStateException("투표 마감 기한이 지났습니다. (마감: " + vote.getEffectiveDeadline() + ")");
         }
 
         // 5. 옵션이 해당 투표에 속하는지 확인
@@ -95,14 +98,7 @@ public class VoteResponseService {
             throw new IllegalArgumentException("해당 옵션은 이 투표에 속하지 않습니다.");
         }
 
-        // 6. 중복 투표 확인
-        Optional<VoteResponse> existingResponse = voteResponseRepository
-                .findByUserIdAndVoteId(userId, input.getVoteId());
-
-        if (existingResponse.isPresent()) {
-            throw new IllegalStateException("이미 이 투표에 참여하셨습니다.");
-        }
-        // 7. VoteResponse 생성 및 저장
+        // 6. VoteResponse 저장 (중복 투표는 (user_id, vote_id) 유니크 제약 위반으로 감지)
         VoteResponse voteResponse = VoteResponse.builder()
                 .user(user)
                 .vote(vote)
@@ -110,26 +106,113 @@ public class VoteResponseService {
                 .createdAt(LocalDate.now())
                 .build();
 
-        VoteResponse savedVoteResponse = voteResponseRepository.save(voteResponse);
-
-        // 8. 참여자 수 기준 종료 조건 실시간 체크
-        boolean wasClosed = voteClosureService.checkAndCloseVoteByParticipantCount(input.getVoteId());
-        if (wasClosed) {
-            log.info("투표 응답 저장 후 참여자 수 기준으로 투표 자동 종료: voteId={}", input.getVoteId());
+        VoteResponse savedVoteResponse;
+        try {
+            savedVoteResponse = voteResponseRepository.saveAndFlush(voteResponse);
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateVote(e)) {
+                throw new IllegalStateException("이미 이 투표에 참여하셨습니다.");
+            }
+            throw e;
         }
+        eventPublisher.publishEvent(VoteResponsesCreatedEvent.of(
+                savedVoteResponse.getId(), userId, vote.getId(), option.getId()));
+        cacheDependencyTracker.invalidate(CacheTags.vote(vote.getId()), CacheTags.VOTE_RANKING);
 
-        // 9. 응답 반환
+        // 7. 응답 반환 (참여자 수 기준 종료는 응답 카운터가 기준에 도달하면 커밋 이후 비동기로 처리)
         return VoteResponsePayload.fromEntity(savedVoteResponse);
     }
 
+    /**
+     * 여러 투표에 대한 응답을 한 번에 저장합니다. (스와이프형 클라이언트용)
+     *
+     * 모든 항목을 한 번의 메타데이터 일괄 조회와 참여 여부 일괄 조회로 검증하고,
+     * 유효한 항목만 하나의 JDBC 배치로 저장한 뒤 저장된 응답을 묶은 이벤트 발행과 캐시 무효화를 한 번씩 수행합니다.
+     * 한 항목의 실패가 다른 항목에 영향을 주지 않으며, 결과는 입력 순서대로 반환됩니다.
+     *
+     * @param inputs 응답 입력 목록 (최대 {@value #MAX_BATCH_SIZE}개)
+     * @param userId 사용자 ID
+     * @return 항목별 처리 결과
+     * @throws IllegalArgumentException 입력이 비어 있거나 최대 개수를 초과한 경우
+     */
+    public List<VoteResponseResultPayload> createVoteResponses(List<CreateVoteResponseInput> inputs, UUID userId) {
+        if (inputs == null || inputs.isEmpty()) {
+            throw new IllegalArgumentException("응답 입력이 필요합니다.");
+        }
+        if (inputs.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_BATCH_SIZE + "개까지 응답할 수 있습니다.");
+        }
+
+        Set<UUID> voteIds = new HashSet<>();
+        inputs.forEach(input -> voteIds.add(input.getVoteId()));
+        Map<UUID, VoteMetadataCache.VoteMetadata> metadataByVote = voteMetadataCache.getAll(voteIds);
+        Map<UUID, UUID> selections = voteParticipationService.getSelections(userId, voteIds);
+
+        // 1. 항목별 검증 (같은 요청 안의 중복 투표도 거절)
+        LocalDate today = LocalDate.now();
+        LocalDateTime now = LocalDateTime.now();
+        VoteResponseResultPayload[] results = new VoteResponseResultPayload[inputs.size()];
+        List<PendingVoteResponse> pending = new ArrayList<>();
+        List<Integer> pendingIndexes = new ArrayList<>();
+        Set<UUID> requested = new HashSet<>();
+        for (int i = 0; i < inputs.size(); i++) {
+            CreateVoteResponseInput input = inputs.get(i);
+            String error = validate(input, metadataByVote.get(input.getVoteId()), selections, requested, now);
+            if (error != null) {
+                results[i] = VoteResponseResultPayload.failure(input, error);
+                continue;
+            }
+            pending.add(new PendingVoteResponse(UUID.randomUUID(), userId, input.getVoteId(), input.getOptionId(), today, now));
+            pendingIndexes.add(i);
+        }
+
+        // 2. 유효한 항목을 한 번의 배치로 저장하고, 실제로 저장된 행만 모아 이벤트 한 번 발행
+        boolean[] inserted = pending.isEmpty() ? new boolean[0] : voteResponseJdbcRepository.insertIgnoreAll(pending);
+        Set<String> tags = new HashSet<>();
+        List<VoteResponsesCreatedEvent.CreatedResponse> created = new ArrayList<>();
+        for (int j = 0; j < pending.size(); j++) {
+            PendingVoteResponse response = pending.get(j);
+            int index = pendingIndexes.get(j);
+            if (!inserted[j]) {
+                results[index] = VoteResponseResultPayload.failure(inputs.get(index), "이미 이 투표에 참여하셨습니다.");
+                continue;
+            }
+            created.add(new VoteResponsesCreatedEvent.CreatedResponse(
+                    response.getId(), userId, response.getVoteId(), response.getOptionId()));
+            tags.add(CacheTags.vote(response.getVoteId()));
+
+            VoteMetadataCache.VoteMetadata metadata = metadataByVote.get(response.getVoteId());
+            results[index] = VoteResponseResultPayload.success(VoteResponsePayload.builder()
+                    .id(response.getId())
+                    .userId(userId)
+                    .voteId(response.getVoteId())
+                    .optionId(response.getOptionId())
+                    .optionContent(metadata.getOptions().get(response.getOptionId()))
+                    .voteTitle(metadata.getTitle())
+                    .createdAt(today)
+                    .build());
+        }
+        if (!created.isEmpty()) {
+            eventPublisher.publishEvent(new VoteResponsesCreatedEvent(created));
+        }
+
+        // 3. 캐시 무효화는 요청당 한 번
+        if (!tags.isEmpty()) {
+            tags.add(CacheTags.VOTE_RANKING);
+            cacheDependencyTracker.invalidate(tags.toArray(String[]::new));
+        }
+        log.debug("일괄 투표 응답: userId={}, 요청 {}개, 저장 {}개", userId, inputs.size(), created.size());
+        return Arrays.asList(results);
+    }
+
     @Transactional(readOnly = true)
     public Long getVoteResponseCount(UUID voteId) {
-        return voteResponseRepository.countByVoteId(voteId);
+        return voteCounterService.getTotal(voteId);
     }
 
     @Transactional(readOnly = true)
     public Long getOptionResponseCount(UUID optionId) {
-        return voteResponseRepository.countByOptionId(optionId);
+        return voteOptionTallyRepository.sumByOptionId(optionId);
     }
 
     @Transactional(readOnly = true)
@@ -142,4 +225,41 @@ public class VoteResponseService {
                 .map(VoteResponsePayload::fromEntity)
                 .toList();
     }
+
+    /**
+     * 일괄 응답 항목을 검증합니다.
+     *
+     * @return 실패 사유, 유효하면 null
+     */
+    private String validate(CreateVoteResponseInput input, VoteMetadataCache.VoteMetadata metadata,
+                            Map<UUID, UUID> selections, Set<UUID> requested, LocalDateTime now) {
+        if (input.getVoteId() == null || input.getOptionId() == null) {
+            return "투표 ID와 옵션 ID가 필요합니다.";
+        }
+        if (metadata == null) {
+            return "투표를 찾을 수 없습니다: " + input.getVoteId();
+        }
+        if (metadata.getStatus() != Vote.Status.OPEN) {
+            return "투표가 종료되었습니다.";
+        }
+        if (metadata.isPastDeadline(now)) {
+            return "투표 마감 기한이 지났습니다. (마감: " + metadata.getDeadline() + ")";
+        }
+        if (!metadata.getOptions().containsKey(input.getOptionId())) {
+            return "해당 옵션은 이 투표에 속하지 않습니다.";
+        }
+        if (selections.containsKey(input.getVoteId()) || !requested.add(input.getVoteId())) {
+            return "이미 이 투표에 참여하셨습니다.";
+        }
+        return null;
+    }
+
+    /**
+     * 제약 위반이 (user_id, vote_id) 유니크 제약에 의한 것인지 확인합니다.
+     */
+    private boolean isDuplicateVote(DataIntegrityViolationException e) {
+        Throwable cause = e.getMostSpecificCause();
+        String message = cause.getMessage();
+        return message != null && message.contains(VoteResponse.USER_VOTE_CONSTRAINT);
+    }
 }
@@ -0,0 +1,57 @@
+package pluto.upik.domain.voteResponse.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pluto.upik.domain.vote.event.VoteDeletedEvent;
+import pluto.upik.domain.voteResponse.event.VoteResponsesCreatedEvent;
+import pluto.upik.domain.voteResponse.repository.VoteOptionTallyRepository;
+import pluto.upik.domain.voteResponse.repository.VoteTallyJdbcRepository;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 옵션별 응답 집계(vote_option_tally)를 관리하는 서비스
+ *
+ * 응답이 저장되는 트랜잭션 안에서 옵션별 증가량을 합쳐 임의의 샤드 행만 배치 한 번으로 증가시키므로,
+ * 동시에 같은 옵션에 투표하더라도 샤드 수만큼 잠금이 분산됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VoteTallyService {
+
+    private final VoteOptionTallyRepository voteOptionTallyRepository;
+    private final VoteTallyJdbcRepository voteTallyJdbcRepository;
+
+    @Value("${vote.tally.shards:8}")
+    private int shards;
+
+    /**
+     * 투표 응답 저장 이벤트를 받아 같은 트랜잭션에서 집계를 증가시킵니다.
+     *
+     * @param event 투표 응답 저장 이벤트
+     */
+    @EventListener
+    @Transactional
+    public void onVoteResponsesCreated(VoteResponsesCreatedEvent event) {
+        int shard = ThreadLocalRandom.current().nextInt(Math.max(shards, 1));
+        voteTallyJdbcRepository.incrementTallies(event.countByVoteAndOption(), shard);
+        log.debug("옵션 집계 증가: responses={}, shard={}", event.getResponses().size(), shard);
+    }
+
+    /**
+     * 투표가 삭제되면 같은 트랜잭션에서 집계 행을 삭제합니다.
+     *
+     * @param event 투표 삭제 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onVoteDeleted(VoteDeletedEvent event) {
+        voteOptionTallyRepository.deleteByVoteId(event.getVoteId());
+    }
+}
@@ -0,0 +1,106 @@
+package pluto.upik.domain.voteResponse.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pluto.upik.domain.vote.event.VoteDeletedEvent;
+import pluto.upik.domain.voteResponse.data.DTO.VoteTrendBucketPayload;
+import pluto.upik.domain.voteResponse.event.VoteResponsesCreatedEvent;
+import pluto.upik.domain.voteResponse.repository.VoteResponseHourlyRepository;
+import pluto.upik.domain.voteResponse.repository.VoteTallyJdbcRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 투표 응답 추이(vote_response_hourly)를 관리하는 서비스
+ *
+ * 응답이 저장되는 트랜잭션 안에서 현재 1시간 구간의 옵션별 샤드 행을 배치 한 번으로 증가시키고,
+ * 추이 조회는 구간 집계 행만 읽으므로 응답 수와 관계없이 구간 수에 비례한 비용으로 처리됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VoteTrendService {
+
+    private static final Duration DEFAULT_RANGE = Duration.ofDays(7);
+    private static final Duration MAX_RANGE = Duration.ofDays(31);
+
+    private final VoteResponseHourlyRepository voteResponseHourlyRepository;
+    private final VoteTallyJdbcRepository voteTallyJdbcRepository;
+
+    @Value("${vote.tally.shards:8}")
+    private int shards;
+
+    /**
+     * 투표 응답 저장 이벤트를 받아 같은 트랜잭션에서 현재 구간의 집계를 증가시킵니다.
+     *
+     * @param event 투표 응답 저장 이벤트
+     */
+    @EventListener
+    @Transactional
+    public void onVoteResponsesCreated(VoteResponsesCreatedEvent event) {
+        LocalDateTime bucketStart = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        int shard = ThreadLocalRandom.current().nextInt(Math.max(shards, 1));
+        voteTallyJdbcRepository.incrementHourly(event.countByVoteAndOption(), bucketStart, shard);
+    }
+
+    /**
+     * 투표가 삭제되면 같은 트랜잭션에서 구간 집계 행을 삭제합니다.
+     *
+     * @param event 투표 삭제 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onVoteDeleted(VoteDeletedEvent event) {
+        voteResponseHourlyRepository.deleteByVoteId(event.getVoteId());
+    }
+
+    /**
+     * 기간 안의 1시간 구간별 응답 추이를 조회합니다. 응답이 없는 구간은 포함되지 않습니다.
+     *
+     * @param voteId 투표 ID
+     * @param from 시작 시각 (null이면 종료 시각 7일 전)
+     * @param to 종료 시각 (null이면 현재 구간까지)
+     * @return 구간 시작 시각 순의 추이 목록
+     * @throws IllegalArgumentException 기간이 잘못되었거나 31일을 넘는 경우
+     */
+    @Transactional(readOnly = true)
+    public List<VoteTrendBucketPayload> getTrend(UUID voteId, LocalDateTime from, LocalDateTime to) {
+        LocalDateTime end = (to != null ? to : LocalDateTime.now()).truncatedTo(ChronoUnit.HOURS).plusHours(1);
+        LocalDateTime start = (from != null ? from : end.minus(DEFAULT_RANGE)).truncatedTo(ChronoUnit.HOURS);
+        if (!start.isBefore(end)) {
+            throw new IllegalArgumentException("조회 시작 시각은 종료 시각보다 앞서야 합니다.");
+        }
+        if (Duration.between(start, end).compareTo(MAX_RANGE) > 0) {
+            throw new IllegalArgumentException("추이는 최대 31일까지 조회할 수 있습니다.");
+        }
+
+        Map<LocalDateTime, List<VoteTrendBucketPayload.OptionCount>> buckets = new LinkedHashMap<>();
+        for (Object[] row : voteResponseHourlyRepository.sumByBucketAndOption(voteId, start, end)) {
+            buckets.computeIfAbsent((LocalDateTime) row[0], bucket -> new ArrayList<>())
+                    .add(new VoteTrendBucketPayload.OptionCount((UUID) row[1], ((Number) row[2]).longValue()));
+        }
+
+        long cumulative = voteResponseHourlyRepository.sumBefore(voteId, start);
+        List<VoteTrendBucketPayload> trend = new ArrayList<>(buckets.size());
+        for (Map.Entry<LocalDateTime, List<VoteTrendBucketPayload.OptionCount>> entry : buckets.entrySet()) {
+            long count = entry.getValue().stream().mapToLong(VoteTrendBucketPayload.OptionCount::getResponseCount).sum();
+            cumulative += count;
+            trend.add(VoteTrendBucketPayload.builder()
+                    .bucketStart(entry.getKey().toString())
+                    .responseCount(count)
+                    .cumulativeResponseCount(cumulative)
+                    .options(entry.getValue())
+                    .build());
+        }
+        return trend;
+    }
+}
@@ -4,9 +4,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
+import pluto.upik.domain.guide.service.GuideGenerationJobService;
 import pluto.upik.domain.vote.repository.VoteRepository;
 import pluto.upik.shared.ai.data.DTO.GuideResponseDTO;
-import pluto.upik.shared.ai.service.AIService;
 
 import java.util.UUID;
 
@@ -14,7 +14,7 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class AIController {
 
-    private final AIService aiService;
+    private final GuideGenerationJobService guideGenerationJobService;
     private final VoteRepository voteRepository;
 
     /**
@@ -26,6 +26,6 @@ public class AIController {
      */
     @PostMapping("/AI")
     public GuideResponseDTO ai(@RequestBody UUID vote_id, String vote_category) {
-        return aiService.generateAndSaveGuide(vote_id,vote_category);
+        return guideGenerationJobService.generateNow(vote_id,vote_category);
     }
 }
@@ -4,8 +4,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.stereotype.Controller;
+import pluto.upik.domain.guide.service.GuideGenerationJobService;
 import pluto.upik.shared.ai.data.DTO.GuideResponseDTO;
-import pluto.upik.shared.ai.service.AIService;
 
 import java.util.UUID;
 
@@ -13,10 +13,11 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class AIMutationResolver {
 
-    private final AIService aiService;
+    private final GuideGenerationJobService guideGenerationJobService;
 
     /**
      * 주어진 투표 ID와 카테고리를 기반으로 AI 가이드를 생성하고 저장한 후, 결과를 반환합니다.
+     * 가이드 생성 작업 상태를 공유하므로 이미 생성 중이거나 완료된 투표는 다시 생성하지 않습니다.
      *
      * @param voteId        가이드 생성을 위한 투표의 UUID
      * @param voteCategory  가이드 생성을 위한 투표 카테고리
@@ -24,6 +25,6 @@ public class AIMutationResolver {
      */
     @MutationMapping
     public GuideResponseDTO generateAIGuide(@Argument UUID voteId, @Argument String voteCategory) {
-        return aiService.generateAndSaveGuide(voteId, voteCategory);
+        return guideGenerationJobService.generateNow(voteId, voteCategory);
     }
 }
\ No newline at end of file
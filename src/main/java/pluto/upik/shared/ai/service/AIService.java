@@ -3,9 +3,11 @@ package pluto.upik.shared.ai.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import pluto.upik.domain.guide.data.model.Guide;
+import pluto.upik.domain.guide.event.GuideCreatedEvent;
 import pluto.upik.domain.guide.repository.GuideRepository;
 import pluto.upik.domain.option.data.model.Option;
 import pluto.upik.domain.option.repository.OptionRepository;
@@ -43,6 +45,7 @@ public class AIService implements DisposableBean {
     private final ChatAiService chatAiService;
     private final GuideRepository guideRepository;
     private final AsyncAIHelper asyncAIHelper;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 현재 진행 중인 AI 요청을 추적하기 위한 맵 (요청 ID -> 취소 플래그)
     private final Map<String, AtomicBoolean> activeRequests = new ConcurrentHashMap<>();
@@ -292,6 +295,7 @@ public class AIService implements DisposableBean {
                     .build();
 
             guideRepository.save(guide);
+            eventPublisher.publishEvent(new GuideCreatedEvent(guide.getId(), guide.getCategory()));
 
             // GuideResponseDTO 형식으로 반환
             return GuideResponseDTO.builder()
@@ -0,0 +1,120 @@
+package pluto.upik.shared.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 캐시 항목과 의존 데이터(태그)의 관계를 Redis 집합으로 기록하고, 태그 단위로 캐시 항목을 무효화합니다.
+ *
+ * 태그마다 {@code cache:deps:{tag}} 집합에 {@code 캐시이름::키}를 저장합니다.
+ * 무효화 시에는 집합의 항목만 개별 키로 삭제하므로 캐시 영역 전체를 패턴 삭제하지 않습니다.
+ * 트랜잭션 안에서 요청된 무효화는 커밋 이후에 수행됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheDependencyTracker {
+
+    private static final String DEPS_PREFIX = "cache:deps:";
+    private static final String SEPARATOR = "::";
+    private static final Duration DEPS_TTL = Duration.ofMinutes(10);
+
+    private final StringRedisTemplate redisTemplate;
+    private final CacheManager cacheManager;
+
+    /**
+     * 캐시 항목이 주어진 태그에 의존함을 기록합니다. {@code @Cacheable} 메서드 본문(캐시 미스)에서 호출합니다.
+     *
+     * @param cacheName 캐시 이름
+     * @param key 캐시 키 ({@code @Cacheable}의 key 표현식과 같은 값)
+     * @param tags 의존 태그 목록
+     */
+    public void track(String cacheName, Object key, Collection<String> tags) {
+        if (tags.isEmpty()) {
+            return;
+        }
+        String member = cacheName + SEPARATOR + key;
+        long ttlSeconds = DEPS_TTL.toSeconds();
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                for (String tag : new LinkedHashSet<>(tags)) {
+                    stringConnection.sAdd(DEPS_PREFIX + tag, member);
+                    stringConnection.expire(DEPS_PREFIX + tag, ttlSeconds);
+                }
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("캐시 의존성 기록 실패: cache={}, key={}, error={}", cacheName, key, e.getMessage());
+        }
+    }
+
+    /**
+     * 주어진 태그에 의존하는 캐시 항목을 무효화합니다.
+     * 트랜잭션이 진행 중이면 커밋 이후에 수행합니다.
+     *
+     * @param tags 무효화할 태그
+     */
+    public void invalidate(String... tags) {
+        List<String> tagList = List.of(tags);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateNow(tagList);
+                }
+            });
+        } else {
+            invalidateNow(tagList);
+        }
+    }
+
+    private void invalidateNow(List<String> tags) {
+        List<String> depKeys = tags.stream().map(tag -> DEPS_PREFIX + tag).distinct().toList();
+        Set<String> members = new HashSet<>();
+        try {
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                depKeys.forEach(stringConnection::sMembers);
+                return null;
+            });
+            for (Object result : results) {
+                if (result instanceof Collection<?> values) {
+                    values.forEach(value -> members.add(value.toString()));
+                }
+            }
+            redisTemplate.unlink(depKeys);
+        } catch (DataAccessException e) {
+            log.warn("캐시 의존성 조회 실패: tags={}, error={}", tags, e.getMessage());
+            return;
+        }
+
+        try {
+            for (String member : members) {
+                int separator = member.indexOf(SEPARATOR);
+                if (separator < 0) {
+                    continue;
+                }
+                Cache cache = cacheManager.getCache(member.substring(0, separator));
+                if (cache != null) {
+                    cache.evict(member.substring(separator + SEPARATOR.length()));
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("캐시 항목 삭제 실패: tags={}, error={}", tags, e.getMessage());
+        }
+        log.debug("캐시 무효화 완료: tags={}, entries={}", tags, members.size());
+    }
+}
@@ -16,7 +16,6 @@ public final class CacheNames {
 
     // Vote
     public static final String VOTE_LIST = "vote:list";
-    public static final String VOTE_DETAIL = "vote:detail";
     public static final String VOTE_POPULAR = "vote:popular";
     public static final String VOTE_LEAST = "vote:least";
     public static final String VOTE_MY = "vote:my";
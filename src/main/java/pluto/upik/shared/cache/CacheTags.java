@@ -0,0 +1,41 @@
+package pluto.upik.shared.cache;
+
+import java.util.UUID;
+
+/**
+ * 캐시 항목이 의존하는 데이터를 나타내는 태그를 중앙에서 관리합니다.
+ * 쓰기 작업은 변경한 데이터의 태그만 무효화하고, 해당 태그에 의존하는 캐시 항목만 삭제됩니다.
+ */
+public final class CacheTags {
+
+    private CacheTags() {
+    }
+
+    // Vote
+    /** 투표 목록의 구성(생성, 종료, 삭제)에 의존하는 항목 */
+    public static final String VOTE_COLLECTION = "vote-collection";
+    /** 응답 수 순위에 의존하는 항목 */
+    public static final String VOTE_RANKING = "vote-ranking";
+
+    // Board
+    /** 게시글 목록의 구성(생성, 삭제)에 의존하는 항목 */
+    public static final String BOARD_COLLECTION = "board-collection";
+    /** 댓글 수 순위에 의존하는 항목 */
+    public static final String BOARD_RANKING = "board-ranking";
+
+    public static String vote(UUID voteId) {
+        return "vote:" + voteId;
+    }
+
+    public static String voteCreator(UUID userId) {
+        return "vote-creator:" + userId;
+    }
+
+    public static String board(UUID boardId) {
+        return "board:" + boardId;
+    }
+
+    public static String boardAuthor(UUID userId) {
+        return "board-author:" + userId;
+    }
+}
@@ -1,5 +1,6 @@
 package pluto.upik.shared.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -72,4 +73,21 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * 가이드 생성 작업용 실행기
+     * 동시 실행 수는 {@code guide.generation.concurrency}로 제한되며, 작업자가 여유 슬롯만큼만 제출합니다.
+     */
+    @Bean(name = "guideGenerationExecutor")
+    public Executor guideGenerationExecutor(@Value("${guide.generation.concurrency:3}") int concurrency) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(concurrency);
+        executor.setThreadNamePrefix("guide-job-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        return executor;
+    }
 }
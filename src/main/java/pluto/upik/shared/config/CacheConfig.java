@@ -4,8 +4,10 @@ import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.BatchStrategies;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
@@ -20,6 +22,8 @@ import java.util.Map;
  *
  * 고빈도 조회 데이터를 Redis에 저장하여 애플리케이션 메모리 의존도를 줄이고,
  * 다중 인스턴스 환경에서도 일관된 캐시를 제공합니다.
+ * 캐시 영역 전체 삭제가 필요한 경우에도 KEYS 대신 SCAN 배치로 삭제하여 Redis를 블로킹하지 않으며,
+ * 일반적인 무효화는 {@link pluto.upik.shared.cache.CacheDependencyTracker}가 항목 단위로 수행합니다.
  */
 @Configuration
 @EnableCaching
@@ -42,12 +46,14 @@ public class CacheConfig {
         cacheConfigurations.put(CacheNames.BOARD_COMMENTS, defaultConfig.entryTtl(Duration.ofMinutes(1)));
 
         cacheConfigurations.put(CacheNames.VOTE_LIST, defaultConfig.entryTtl(Duration.ofSeconds(45)));
-        cacheConfigurations.put(CacheNames.VOTE_DETAIL, defaultConfig.entryTtl(Duration.ofSeconds(30)));
         cacheConfigurations.put(CacheNames.VOTE_POPULAR, defaultConfig.entryTtl(Duration.ofMinutes(1)));
         cacheConfigurations.put(CacheNames.VOTE_LEAST, defaultConfig.entryTtl(Duration.ofMinutes(1)));
         cacheConfigurations.put(CacheNames.VOTE_MY, defaultConfig.entryTtl(Duration.ofSeconds(30)));
 
-        return RedisCacheManager.builder(connectionFactory)
+        RedisCacheWriter cacheWriter = RedisCacheWriter.nonLockingRedisCacheWriter(
+                connectionFactory, BatchStrategies.scan(1000));
+
+        return RedisCacheManager.builder(cacheWriter)
                 .cacheDefaults(defaultConfig)
                 .withInitialCacheConfigurations(cacheConfigurations)
                 .build();
@@ -0,0 +1,23 @@
+package pluto.upik.shared.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Redis Pub/Sub 설정 클래스.
+ *
+ * 여러 애플리케이션 노드가 같은 채널을 구독해 실시간 이벤트를 나눠 받을 수 있도록
+ * 메시지 리스너 컨테이너를 제공합니다. 채널 등록은 각 구독 컴포넌트가 수행합니다.
+ */
+@Configuration
+public class RedisPubSubConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+}
@@ -43,9 +43,10 @@ public class SecurityConfig {
     private static final String[] PERMIT_ALL_PATTERNS = {
             "/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html",
             "/oauth2/**", "/login/**", "/auth/reissue",
-            "/graphql", "/graphiql", "/graphiql/**", // GraphQL 엔드포인트 접근 허용
+            "/graphql", "/graphql-ws", "/graphiql", "/graphiql/**", // GraphQL 엔드포인트 접근 허용
             "/static/**", "/css/**", "/js/**", "/images/**", "/favicon.ico",
-            "/error","/auth/**", "/actuator/**"
+            "/error","/auth/**", "/actuator/**",
+            "/api/votes/*/results" // 종료된 투표 결과 스냅샷 조회 허용
     };
 
     @Bean
@@ -6,6 +6,10 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import pluto.upik.domain.vote.service.VoteClosureService;
+import pluto.upik.domain.vote.service.VoteDeadlineService;
+
+import java.util.List;
+import java.util.UUID;
 
 @Slf4j
 @Component
@@ -13,16 +17,20 @@ import pluto.upik.domain.vote.service.VoteClosureService;
 public class VoteScheduler {
 
     private final VoteClosureService voteClosureService;
+    private final VoteDeadlineService voteDeadlineService;
 
     /**
-     * 매일 자정에 실행되어 투표 종료 조건을 확인하고 종료 처리합니다.
+     * 하루 한 번 한가한 시간대에 실행되어 누락된 투표 종료를 보정합니다.
+     * 마감 시각에 맞춘 종료는 {@link VoteDeadlineService}가 담당하므로, 이 작업은 지연 큐에서 빠진 투표를 닫고
+     * 마감 지연 큐를 DB 기준으로 다시 적재하는 안전망입니다.
      */
-    @Scheduled(cron = "0 0 0 * * *") // 매일 자정에 실행
+    @Scheduled(cron = "${vote.closure.sweep-cron:0 30 4 * * *}") // 기본값: 매일 04:30
     @Transactional
     public void checkVoteEndConditions() {
         log.info("자동 투표 종료 스케줄러 실행");
-        int closedCount = voteClosureService.checkAndCloseAllVotes();
-        log.info("자동 투표 종료 완료: {}개 투표 종료됨", closedCount);
+        List<UUID> closedIds = voteClosureService.checkAndCloseAllVotes();
+        log.info("자동 투표 종료 완료: {}개 투표 종료됨", closedIds.size());
+        voteDeadlineService.reload();
     }
 
     /**
@@ -32,9 +40,9 @@ public class VoteScheduler {
     @Transactional
     public int manualCheckVoteEndConditions() {
         log.info("수동 투표 종료 체크 실행");
-        int closedCount = voteClosureService.checkAndCloseAllVotes();
-        log.info("수동 투표 종료 완료: {}개 투표 종료됨", closedCount);
-        return closedCount;
+        List<UUID> closedIds = voteClosureService.checkAndCloseAllVotes();
+        log.info("수동 투표 종료 완료: {}개 투표 종료됨", closedIds.size());
+        return closedIds.size();
     }
 
     /**
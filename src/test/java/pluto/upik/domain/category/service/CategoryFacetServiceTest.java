@@ -0,0 +1,94 @@
+package pluto.upik.domain.category.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import pluto.upik.domain.category.repository.CategoryFacetRepository;
+import pluto.upik.domain.guide.event.GuideCreatedEvent;
+import pluto.upik.domain.vote.event.VoteClosedEvent;
+import pluto.upik.domain.vote.event.VoteCreatedEvent;
+import pluto.upik.domain.vote.event.VoteDeletedEvent;
+import pluto.upik.domain.vote.event.VoteReopenedEvent;
+
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * CategoryFacetService 증감량 테스트
+ * 이벤트마다 카테고리 행에 어떤 증감량이 반영되는지 확인하며, 저장소는 mock으로 대체합니다.
+ */
+@DisplayName("카테고리 집계 증감 테스트")
+class CategoryFacetServiceTest {
+
+    private static final String CATEGORY = "진로";
+
+    private CategoryFacetRepository categoryFacetRepository;
+    private CategoryFacetService service;
+    private final UUID voteId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        categoryFacetRepository = mock(CategoryFacetRepository.class);
+        service = new CategoryFacetService(categoryFacetRepository);
+    }
+
+    @Test
+    @DisplayName("투표가 생성되거나 재개되면 진행 중인 투표 수가 1 증가함")
+    void createdAndReopenedIncrementOpenVotes() {
+        // When
+        service.onVoteCreated(new VoteCreatedEvent(voteId, CATEGORY));
+        service.onVoteReopened(new VoteReopenedEvent(voteId, CATEGORY));
+
+        // Then
+        verify(categoryFacetRepository, times(2)).applyDelta(eq(CATEGORY), eq(1L), eq(0L), any());
+    }
+
+    @Test
+    @DisplayName("투표가 종료되면 진행 중인 투표 수가 1 감소함")
+    void closedDecrementsOpenVotes() {
+        // When
+        service.onVoteClosed(new VoteClosedEvent(voteId, CATEGORY));
+
+        // Then
+        verify(categoryFacetRepository).applyDelta(eq(CATEGORY), eq(-1L), eq(0L), any());
+    }
+
+    @Test
+    @DisplayName("진행 중인 투표가 삭제될 때만 진행 중인 투표 수가 감소함")
+    void deletedDecrementsOnlyWhenOpen() {
+        // When & Then: 이미 종료된 투표
+        service.onVoteDeleted(new VoteDeletedEvent(voteId, CATEGORY, false));
+        verifyNoInteractions(categoryFacetRepository);
+
+        // When & Then: 진행 중인 투표
+        service.onVoteDeleted(new VoteDeletedEvent(voteId, CATEGORY, true));
+        verify(categoryFacetRepository).applyDelta(eq(CATEGORY), eq(-1L), eq(0L), any());
+    }
+
+    @Test
+    @DisplayName("가이드가 생성되면 가이드 수만 1 증가함")
+    void guideCreatedIncrementsGuides() {
+        // When
+        service.onGuideCreated(new GuideCreatedEvent(UUID.randomUUID(), CATEGORY));
+
+        // Then
+        verify(categoryFacetRepository).applyDelta(eq(CATEGORY), eq(0L), eq(1L), any());
+    }
+
+    @Test
+    @DisplayName("카테고리가 비어 있는 이벤트는 반영하지 않음")
+    void blankCategoryIsIgnored() {
+        // When
+        service.onVoteCreated(new VoteCreatedEvent(voteId, null));
+        service.onVoteClosed(new VoteClosedEvent(voteId, " "));
+
+        // Then
+        verifyNoInteractions(categoryFacetRepository);
+    }
+}
@@ -0,0 +1,169 @@
+package pluto.upik.domain.guide.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import pluto.upik.domain.guide.data.model.GuideGenerationJob;
+import pluto.upik.domain.guide.repository.GuideGenerationJobRepository;
+import pluto.upik.domain.guide.repository.GuideRepository;
+import pluto.upik.shared.ai.service.AIService;
+import pluto.upik.shared.exception.BusinessException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * GuideGenerationJobService 선점/재시도 상태 전이 테스트
+ * 작업 저장소와 AI 호출은 mock으로 대체하고, 트랜잭션은 mock 트랜잭션 매니저로 실행합니다.
+ */
+@DisplayName("가이드 생성 작업 상태 전이 테스트")
+class GuideGenerationJobServiceTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long BACKOFF_MILLIS = 1_000L;
+
+    private GuideGenerationJobRepository jobRepository;
+    private GuideRepository guideRepository;
+    private AIService aiService;
+    private GuideGenerationJobService service;
+    private final UUID voteId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        jobRepository = mock(GuideGenerationJobRepository.class);
+        guideRepository = mock(GuideRepository.class);
+        aiService = mock(AIService.class);
+        service = new GuideGenerationJobService(jobRepository, guideRepository, aiService,
+                mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(service, "maxAttempts", MAX_ATTEMPTS);
+        ReflectionTestUtils.setField(service, "backoffMillis", BACKOFF_MILLIS);
+        service.init();
+    }
+
+    @Test
+    @DisplayName("다른 작업자가 먼저 선점한 작업은 선점하지 못함")
+    void claimFailsWhenAlreadyClaimed() {
+        // Given
+        when(jobRepository.claim(eq(voteId), any())).thenReturn(0);
+
+        // When
+        GuideGenerationJob job = service.claim(voteId);
+
+        // Then
+        assertThat(job).isNull();
+        verify(jobRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("선점한 작업이 성공하면 SUCCEEDED로 전이함")
+    void executeMarksSucceeded() {
+        // Given
+        GuideGenerationJob job = runningJob(1);
+
+        // When
+        service.execute(job);
+
+        // Then
+        verify(aiService).generateAndSaveGuide(voteId, "기본");
+        verify(jobRepository).markSucceeded(eq(voteId), any());
+    }
+
+    @Test
+    @DisplayName("이미 가이드가 있는 투표는 AI를 호출하지 않고 완료 처리함")
+    void executeSkipsExistingGuide() {
+        // Given
+        when(guideRepository.existsByVoteId(voteId)).thenReturn(true);
+
+        // When
+        service.execute(runningJob(1));
+
+        // Then
+        verify(aiService, never()).generateAndSaveGuide(any(), anyString());
+        verify(jobRepository).markSucceeded(eq(voteId), any());
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수 전의 실패는 지수 백오프 후 재시도하도록 대기 상태로 되돌림")
+    void executeSchedulesRetryWithBackoff() {
+        // Given
+        when(aiService.generateAndSaveGuide(voteId, "기본")).thenThrow(new IllegalStateException("AI 응답 없음"));
+        LocalDateTime before = LocalDateTime.now();
+
+        // When
+        service.execute(runningJob(2));
+
+        // Then
+        ArgumentCaptor<LocalDateTime> nextAttemptAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(jobRepository).markRetry(eq(voteId), nextAttemptAt.capture(), eq("AI 응답 없음"));
+        verify(jobRepository, never()).markFailed(any(), any(), any());
+        assertThat(Duration.between(before, nextAttemptAt.getValue()))
+                .isGreaterThanOrEqualTo(Duration.ofMillis(BACKOFF_MILLIS * 2));
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수에 도달한 실패는 FAILED로 남김")
+    void executeMarksFailedAfterMaxAttempts() {
+        // Given
+        when(aiService.generateAndSaveGuide(voteId, "기본")).thenThrow(new IllegalStateException("AI 응답 없음"));
+
+        // When
+        service.execute(runningJob(MAX_ATTEMPTS));
+
+        // Then
+        verify(jobRepository).markFailed(eq(voteId), any(), eq("AI 응답 없음"));
+        verify(jobRepository, never()).markRetry(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("실행 중이거나 완료된 투표는 수동 생성 요청을 거절함")
+    void generateNowRejectsClaimedJob() {
+        // Given
+        when(jobRepository.claimNow(eq(voteId), any())).thenReturn(0);
+
+        // When & Then
+        assertThatThrownBy(() -> service.generateNow(voteId, "기본"))
+                .isInstanceOf(BusinessException.class);
+        verify(aiService, never()).generateAndSaveGuide(any(), anyString());
+    }
+
+    @Test
+    @DisplayName("수동 생성이 실패하면 재시도 상태를 남기고 예외를 전달함")
+    void generateNowKeepsRetryOnFailure() {
+        // Given
+        when(jobRepository.claimNow(eq(voteId), any())).thenReturn(1);
+        when(jobRepository.findById(voteId)).thenReturn(Optional.of(runningJob(1)));
+        when(aiService.generateAndSaveGuide(voteId, "기본")).thenThrow(new IllegalStateException("AI 응답 없음"));
+
+        // When & Then
+        assertThatThrownBy(() -> service.generateNow(voteId, "기본"))
+                .isInstanceOf(IllegalStateException.class);
+        verify(jobRepository).markRetry(eq(voteId), any(), eq("AI 응답 없음"));
+    }
+
+    private GuideGenerationJob runningJob(int attempts) {
+        return GuideGenerationJob.builder()
+                .voteId(voteId)
+                .guideType("기본")
+                .status(GuideGenerationJob.Status.RUNNING)
+                .attempts(attempts)
+                .nextAttemptAt(LocalDateTime.now())
+                .createdAt(LocalDateTime.now())
+                .startedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,154 @@
+package pluto.upik.domain.vote.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * VoteDeadlineRedisRepository 통합 테스트
+ * 실제 마감 시각과 겹치지 않도록 epoch 직후의 작은 시각을 점수로 사용합니다.
+ * 로컬 Redis가 필요하며, REDIS_TEST_HOST 환경 변수가 설정된 경우에만 실행됩니다.
+ * 예: REDIS_TEST_HOST=localhost ./gradlew test
+ */
+@DisplayName("Redis 투표 마감 지연 큐 테스트")
+@EnabledIfEnvironmentVariable(named = "REDIS_TEST_HOST", matches = ".+")
+class VoteDeadlineRedisRepositoryTest {
+
+    private LettuceConnectionFactory connectionFactory;
+    private VoteDeadlineRedisRepository repository;
+    private final List<UUID> voteIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        String port = System.getenv().getOrDefault("REDIS_TEST_PORT", "6379");
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(System.getenv("REDIS_TEST_HOST"), Integer.parseInt(port)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        StringRedisTemplate template = new StringRedisTemplate(connectionFactory);
+        template.afterPropertiesSet();
+        repository = new VoteDeadlineRedisRepository(template);
+    }
+
+    @AfterEach
+    void tearDown() {
+        voteIds.forEach(repository::cancel);
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("마감이 지난 투표만 마감 시각 순으로 꺼내고 큐에서 제거함")
+    void popDueReturnsOnlyDueVotesInOrder() {
+        // Given
+        UUID first = newVoteId();
+        UUID second = newVoteId();
+        UUID later = newVoteId();
+        repository.schedule(second, 2_000L);
+        repository.schedule(first, 1_000L);
+        repository.schedule(later, 5_000L);
+
+        // When
+        List<UUID> due = repository.popDue(3_000L, 10);
+
+        // Then
+        assertThat(due).containsExactly(first, second);
+        assertThat(repository.popDue(3_000L, 10)).isEmpty();
+        assertThat(repository.popDue(5_000L, 10)).containsExactly(later);
+    }
+
+    @Test
+    @DisplayName("한 번에 꺼내는 개수는 limit을 넘지 않음")
+    void popDueRespectsLimit() {
+        // Given
+        Map<UUID, Long> deadlines = new HashMap<>();
+        for (int i = 0; i < 5; i++) {
+            deadlines.put(newVoteId(), 1_000L + i);
+        }
+        repository.scheduleAll(deadlines);
+
+        // When
+        List<UUID> firstBatch = repository.popDue(2_000L, 3);
+        List<UUID> secondBatch = repository.popDue(2_000L, 3);
+
+        // Then
+        assertThat(firstBatch).hasSize(3);
+        assertThat(secondBatch).hasSize(2).doesNotContainAnyElementsOf(firstBatch);
+    }
+
+    @Test
+    @DisplayName("마감 시각을 다시 등록하면 기존 시각이 갱신되고, 취소한 투표는 꺼내지 않음")
+    void rescheduleAndCancel() {
+        // Given
+        UUID postponed = newVoteId();
+        UUID cancelled = newVoteId();
+        repository.schedule(postponed, 1_000L);
+        repository.schedule(cancelled, 1_000L);
+
+        // When
+        repository.schedule(postponed, 9_000L);
+        repository.cancel(cancelled);
+
+        // Then
+        assertThat(repository.popDue(2_000L, 10)).isEmpty();
+        assertThat(repository.popDue(9_000L, 10)).containsExactly(postponed);
+    }
+
+    @Test
+    @DisplayName("여러 노드가 동시에 꺼내도 같은 투표를 두 번 가져가지 않음")
+    void concurrentPollersClaimEachVoteOnce() throws Exception {
+        // Given
+        Map<UUID, Long> deadlines = new HashMap<>();
+        for (int i = 0; i < 200; i++) {
+            deadlines.put(newVoteId(), 1_000L + i);
+        }
+        repository.scheduleAll(deadlines);
+
+        // When
+        ExecutorService pollers = Executors.newFixedThreadPool(4);
+        List<Future<List<UUID>>> results = new ArrayList<>();
+        Callable<List<UUID>> poller = () -> {
+            List<UUID> claimed = new ArrayList<>();
+            List<UUID> batch;
+            while (!(batch = repository.popDue(2_000L, 7)).isEmpty()) {
+                claimed.addAll(batch);
+            }
+            return claimed;
+        };
+        for (int i = 0; i < 4; i++) {
+            results.add(pollers.submit(poller));
+        }
+        List<UUID> claimed = new ArrayList<>();
+        for (Future<List<UUID>> result : results) {
+            claimed.addAll(result.get());
+        }
+        pollers.shutdown();
+
+        // Then
+        assertThat(claimed).hasSize(200).doesNotHaveDuplicates()
+                .containsExactlyInAnyOrderElementsOf(deadlines.keySet());
+    }
+
+    private UUID newVoteId() {
+        UUID voteId = UUID.randomUUID();
+        voteIds.add(voteId);
+        return voteId;
+    }
+}
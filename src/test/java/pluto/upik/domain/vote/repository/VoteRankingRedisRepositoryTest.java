@@ -0,0 +1,119 @@
+package pluto.upik.domain.vote.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * VoteRankingRedisRepository 통합 테스트
+ * 로컬 Redis가 필요하며, REDIS_TEST_HOST 환경 변수가 설정된 경우에만 실행됩니다.
+ * 예: REDIS_TEST_HOST=localhost ./gradlew test
+ */
+@DisplayName("Redis 투표 순위 테스트")
+@EnabledIfEnvironmentVariable(named = "REDIS_TEST_HOST", matches = ".+")
+class VoteRankingRedisRepositoryTest {
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate template;
+    private VoteRankingRedisRepository repository;
+    private final UUID openVote = UUID.randomUUID();
+    private final UUID closedVote = UUID.randomUUID();
+    private final UUID unrankedVote = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        String port = System.getenv().getOrDefault("REDIS_TEST_PORT", "6379");
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(System.getenv("REDIS_TEST_HOST"), Integer.parseInt(port)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        template = new StringRedisTemplate(connectionFactory);
+        template.afterPropertiesSet();
+        repository = new VoteRankingRedisRepository(template);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.remove(openVote);
+        repository.remove(closedVote);
+        repository.remove(unrankedVote);
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("등록된 투표만 점수가 증가하고 등록되지 않은 투표는 추가되지 않음")
+    void incrementAllOnlyTouchesRankedVotes() {
+        // Given
+        repository.add(openVote, 5, true);
+        repository.add(closedVote, 3, false);
+
+        // When
+        repository.incrementAll(Map.of(openVote, 2L, closedVote, 4L, unrankedVote, 1L), 1);
+
+        // Then
+        assertThat(template.opsForZSet().score("vote:rank:all", openVote.toString())).isEqualTo(7.0);
+        assertThat(template.opsForZSet().score("vote:rank:open", openVote.toString())).isEqualTo(7.0);
+        assertThat(template.opsForZSet().score("vote:rank:all", closedVote.toString())).isEqualTo(7.0);
+        assertThat(template.opsForZSet().score("vote:rank:open", closedVote.toString())).isNull();
+        assertThat(template.opsForZSet().score("vote:rank:all", unrankedVote.toString())).isNull();
+    }
+
+    @Test
+    @DisplayName("음수 부호로 호출하면 같은 양만큼 점수가 감소함")
+    void incrementAllWithNegativeSignUndoes() {
+        // Given
+        repository.add(openVote, 5, true);
+        repository.incrementAll(Map.of(openVote, 3L), 1);
+
+        // When
+        repository.incrementAll(Map.of(openVote, 3L), -1);
+
+        // Then
+        assertThat(template.opsForZSet().score("vote:rank:all", openVote.toString())).isEqualTo(5.0);
+        assertThat(template.opsForZSet().score("vote:rank:open", openVote.toString())).isEqualTo(5.0);
+    }
+
+    @Test
+    @DisplayName("이미 등록된 투표를 다시 등록해도 점수는 바뀌지 않음")
+    void addKeepsExistingScore() {
+        // Given
+        repository.add(openVote, 5, true);
+
+        // When
+        repository.add(openVote, 0, true);
+
+        // Then
+        assertThat(template.opsForZSet().score("vote:rank:open", openVote.toString())).isEqualTo(5.0);
+    }
+
+    @Test
+    @DisplayName("재구성 잠금은 한 번만 획득되고 다른 값으로는 해제되지 않음")
+    void rebuildLockIsExclusive() {
+        String token = UUID.randomUUID().toString();
+        try {
+            assertThat(repository.tryLockRebuild(token, Duration.ofSeconds(10))).isTrue();
+            assertThat(repository.tryLockRebuild("other", Duration.ofSeconds(10))).isFalse();
+
+            repository.unlockRebuild("other");
+            assertThat(repository.tryLockRebuild("other", Duration.ofSeconds(10))).isFalse();
+
+            repository.unlockRebuild(token);
+            assertThat(repository.tryLockRebuild("other", Duration.ofSeconds(10))).isTrue();
+        } finally {
+            repository.unlockRebuild(token);
+            repository.unlockRebuild("other");
+        }
+    }
+}
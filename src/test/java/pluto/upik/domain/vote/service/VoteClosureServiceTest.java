@@ -0,0 +1,77 @@
+package pluto.upik.domain.vote.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import pluto.upik.domain.vote.data.model.Vote;
+import pluto.upik.domain.vote.event.VoteClosedEvent;
+import pluto.upik.domain.vote.repository.VoteRepository;
+import pluto.upik.domain.voteResponse.service.VoteParticipationService;
+import pluto.upik.shared.cache.CacheDependencyTracker;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * VoteClosureService 조건부 종료 테스트
+ * 저장소와 후속 처리 대상은 mock으로 대체합니다.
+ */
+@DisplayName("투표 조건부 종료 테스트")
+class VoteClosureServiceTest {
+
+    private VoteRepository voteRepository;
+    private VoteRankingService voteRankingService;
+    private ApplicationEventPublisher eventPublisher;
+    private CacheDependencyTracker cacheDependencyTracker;
+    private VoteClosureService service;
+    private final Vote vote = Vote.builder().id(UUID.randomUUID()).category("일반").build();
+
+    @BeforeEach
+    void setUp() {
+        voteRepository = mock(VoteRepository.class);
+        voteRankingService = mock(VoteRankingService.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        cacheDependencyTracker = mock(CacheDependencyTracker.class);
+        service = new VoteClosureService(voteRepository, mock(VoteParticipationService.class), voteRankingService,
+                eventPublisher, cacheDependencyTracker);
+    }
+
+    @Test
+    @DisplayName("진행 중인 투표를 종료하면 종료 이벤트와 후속 처리를 한 번 수행함")
+    void closesOpenVote() {
+        // Given
+        when(voteRepository.closeIfOpen(eq(vote.getId()), any())).thenReturn(1);
+
+        // When
+        boolean closed = service.closeVote(vote);
+
+        // Then
+        assertThat(closed).isTrue();
+        verify(voteRankingService).markClosed(vote.getId());
+        verify(eventPublisher).publishEvent(any(VoteClosedEvent.class));
+    }
+
+    @Test
+    @DisplayName("이미 다른 요청이 종료한 투표는 후속 처리 없이 false를 반환함")
+    void skipsAlreadyClosedVote() {
+        // Given
+        when(voteRepository.closeIfOpen(eq(vote.getId()), any())).thenReturn(0);
+
+        // When
+        boolean closed = service.closeVote(vote);
+
+        // Then
+        assertThat(closed).isFalse();
+        verify(voteRankingService, never()).markClosed(any(UUID.class));
+        verifyNoInteractions(eventPublisher, cacheDependencyTracker);
+    }
+}
@@ -0,0 +1,155 @@
+package pluto.upik.domain.vote.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import pluto.upik.domain.vote.repository.VoteExportJdbcRepository;
+
+import java.io.OutputStream;
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * VoteExportService 응답 내보내기 테스트
+ * 저장소는 행마다 값을 생성하는 가상 ResultSet을 콜백에 넘기는 mock으로 대체하고,
+ * 출력은 바이트와 줄 수만 세는 스트림으로 받아 행 수를 검증합니다.
+ * 대용량 처리량 측정은 RUN_BENCHMARKS=true 환경 변수가 설정된 경우에만 실행됩니다.
+ */
+@DisplayName("투표 내보내기 테스트")
+class VoteExportServiceTest {
+
+    private static final Logger log = LoggerFactory.getLogger(VoteExportServiceTest.class);
+
+    private static final int ROWS = 10_000;
+    private static final int BENCHMARK_ROWS = 1_000_000;
+
+    @ParameterizedTest
+    @EnumSource(VoteExportService.Format.class)
+    @DisplayName("저장소가 넘겨준 응답 행을 한 줄씩 모두 내보낸다")
+    void writesEveryRow(VoteExportService.Format format) throws Exception {
+        // Given
+        VoteExportService service = new VoteExportService(repositoryStreaming(ROWS), new ObjectMapper());
+        CountingOutputStream out = new CountingOutputStream();
+
+        // When
+        service.writeResponses(null, format, out);
+
+        // Then
+        int headerLines = format == VoteExportService.Format.CSV ? 1 : 0;
+        assertThat(out.lines).isEqualTo(ROWS + headerLines);
+        assertThat(out.bytes).isGreaterThan((long) ROWS * 4 * 36);
+    }
+
+    @ParameterizedTest
+    @EnumSource(VoteExportService.Format.class)
+    @Tag("benchmark")
+    @EnabledIfEnvironmentVariable(named = "RUN_BENCHMARKS", matches = "true")
+    @DisplayName("초당 내보내기 행 수 측정")
+    void exportedRowsPerSecond(VoteExportService.Format format) throws Exception {
+        VoteExportService service = new VoteExportService(repositoryStreaming(BENCHMARK_ROWS), new ObjectMapper());
+        CountingOutputStream out = new CountingOutputStream();
+
+        long startedAt = System.nanoTime();
+        service.writeResponses(null, format, out);
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        log.info("exported {} rows as {} in {} ms ({} rows/s, {} bytes)", BENCHMARK_ROWS, format,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                Math.round(BENCHMARK_ROWS / (elapsedNanos / 1_000_000_000.0)), out.bytes);
+    }
+
+    /**
+     * 지정한 수의 생성된 행을 콜백에 넘기는 저장소 mock을 만듭니다.
+     */
+    private static VoteExportJdbcRepository repositoryStreaming(int rows) {
+        VoteExportJdbcRepository repository = mock(VoteExportJdbcRepository.class);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            GeneratedResultSet generated = new GeneratedResultSet();
+            ResultSet rs = generated.proxy();
+            for (int row = 0; row < rows; row++) {
+                generated.row = row;
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(repository).streamResponses(isNull(), any(RowCallbackHandler.class));
+        return repository;
+    }
+
+    /**
+     * 현재 행 번호로 컬럼 값을 만들어 반환하는 ResultSet
+     * 값을 보관하지 않으므로 행 수와 관계없이 메모리를 사용하지 않습니다.
+     */
+    private static class GeneratedResultSet {
+
+        private final UUID voteId = UUID.randomUUID();
+        private final UUID optionId = UUID.randomUUID();
+        private final LocalDate createdAt = LocalDate.of(2025, 1, 1);
+        private int row;
+
+        ResultSet proxy() {
+            return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[]{ResultSet.class},
+                    (proxy, method, args) -> switch (method.getName()) {
+                        case "getBytes" -> switch ((String) args[0]) {
+                            case "id" -> toBytes(new UUID(0L, row));
+                            case "user_id" -> toBytes(new UUID(1L, row));
+                            case "vote_id" -> toBytes(voteId);
+                            case "option_id" -> toBytes(optionId);
+                            default -> null;
+                        };
+                        case "getObject" -> createdAt;
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    });
+        }
+
+        private static byte[] toBytes(UUID uuid) {
+            return ByteBuffer.allocate(16)
+                    .putLong(uuid.getMostSignificantBits())
+                    .putLong(uuid.getLeastSignificantBits())
+                    .array();
+        }
+    }
+
+    /**
+     * 쓰인 바이트 수와 줄 수만 세는 출력 스트림
+     */
+    private static class CountingOutputStream extends OutputStream {
+
+        private long bytes;
+        private long lines;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+            if (b == '\n') {
+                lines++;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+            for (int i = off; i < off + len; i++) {
+                if (b[i] == '\n') {
+                    lines++;
+                }
+            }
+        }
+    }
+}
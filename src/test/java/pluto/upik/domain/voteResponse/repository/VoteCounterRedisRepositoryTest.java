@@ -0,0 +1,120 @@
+package pluto.upik.domain.voteResponse.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * VoteCounterRedisRepository 통합 테스트
+ * 로컬 Redis가 필요하며, REDIS_TEST_HOST 환경 변수가 설정된 경우에만 실행됩니다.
+ * 예: REDIS_TEST_HOST=localhost ./gradlew test
+ */
+@DisplayName("Redis 투표 카운터 테스트")
+@EnabledIfEnvironmentVariable(named = "REDIS_TEST_HOST", matches = ".+")
+class VoteCounterRedisRepositoryTest {
+
+    private LettuceConnectionFactory connectionFactory;
+    private VoteCounterRedisRepository repository;
+    private final UUID voteId = UUID.randomUUID();
+    private final UUID otherVoteId = UUID.randomUUID();
+    private final UUID optionA = UUID.randomUUID();
+    private final UUID optionB = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        String port = System.getenv().getOrDefault("REDIS_TEST_PORT", "6379");
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(System.getenv("REDIS_TEST_HOST"), Integer.parseInt(port)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        StringRedisTemplate template = new StringRedisTemplate(connectionFactory);
+        template.afterPropertiesSet();
+        repository = new VoteCounterRedisRepository(template);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.delete(voteId);
+        repository.delete(otherVoteId);
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("적재되지 않은 카운터는 증가하지 않음")
+    void incrementIgnoredUntilLoaded() {
+        assertThat(repository.increment(voteId, optionA, 1)).isEmpty();
+        assertThat(repository.findAll(List.of(voteId))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("적재 후 증가는 총 응답 수와 옵션 응답 수에 함께 반영됨")
+    void incrementAfterLoad() {
+        assertThat(repository.loadIfAbsent(voteId, Map.of(optionA, 2L, optionB, 1L), 3)).isTrue();
+        assertThat(repository.loadIfAbsent(voteId, Map.of(optionA, 0L), 0)).isFalse();
+
+        assertThat(repository.increment(voteId, optionB, 1)).hasValue(4);
+
+        Map<String, Long> fields = repository.findAll(List.of(voteId)).get(voteId);
+        assertThat(fields).containsEntry(VoteCounterRedisRepository.TOTAL_FIELD, 4L)
+                .containsEntry(optionA.toString(), 2L)
+                .containsEntry(optionB.toString(), 2L);
+    }
+
+    @Test
+    @DisplayName("보정은 기존 값을 덮어씀")
+    void overwriteReplacesValues() {
+        repository.loadIfAbsent(voteId, Map.of(optionA, 5L), 5);
+        repository.overwrite(voteId, Map.of(optionA, 3L), 3);
+
+        assertThat(repository.findAll(List.of(voteId)).get(voteId))
+                .containsEntry(VoteCounterRedisRepository.TOTAL_FIELD, 3L)
+                .containsEntry(optionA.toString(), 3L);
+    }
+
+    @Test
+    @DisplayName("여러 투표를 한 번에 증감하면 적재된 투표만 반영되고 총 응답 수가 반환됨")
+    void incrementAllSkipsUnloadedVotes() {
+        // Given
+        repository.loadIfAbsent(voteId, Map.of(optionA, 1L), 1);
+
+        // When
+        Map<UUID, Long> totals = repository.incrementAll(Map.of(
+                voteId, Map.of(optionA, 2L, optionB, 1L),
+                otherVoteId, Map.of(optionA, 5L)), 1);
+
+        // Then
+        assertThat(totals).containsExactly(Map.entry(voteId, 4L));
+        assertThat(repository.findAll(List.of(voteId, otherVoteId))).containsOnlyKeys(voteId);
+        assertThat(repository.findAll(List.of(voteId)).get(voteId))
+                .containsEntry(optionA.toString(), 3L)
+                .containsEntry(optionB.toString(), 1L);
+    }
+
+    @Test
+    @DisplayName("음수 부호로 호출하면 같은 증가량을 되돌림")
+    void incrementAllWithNegativeSignUndoes() {
+        // Given
+        repository.loadIfAbsent(voteId, Map.of(optionA, 1L), 1);
+        Map<UUID, Map<UUID, Long>> counts = Map.of(voteId, Map.of(optionA, 2L));
+        repository.incrementAll(counts, 1);
+
+        // When
+        Map<UUID, Long> totals = repository.incrementAll(counts, -1);
+
+        // Then
+        assertThat(totals).containsEntry(voteId, 1L);
+        assertThat(repository.findAll(List.of(voteId)).get(voteId)).containsEntry(optionA.toString(), 1L);
+    }
+}
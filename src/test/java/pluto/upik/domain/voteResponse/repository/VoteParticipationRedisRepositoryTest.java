@@ -0,0 +1,144 @@
+package pluto.upik.domain.voteResponse.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * VoteParticipationRedisRepository 통합 테스트
+ * 로컬 Redis가 필요하며, REDIS_TEST_HOST 환경 변수가 설정된 경우에만 실행됩니다.
+ * 예: REDIS_TEST_HOST=localhost ./gradlew test
+ */
+@DisplayName("Redis 투표 참여자 인덱스 테스트")
+@EnabledIfEnvironmentVariable(named = "REDIS_TEST_HOST", matches = ".+")
+class VoteParticipationRedisRepositoryTest {
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate template;
+    private VoteParticipationRedisRepository repository;
+    private final UUID voteA = UUID.randomUUID();
+    private final UUID voteB = UUID.randomUUID();
+    private final UUID userA = UUID.randomUUID();
+    private final UUID userB = UUID.randomUUID();
+    private final UUID optionA = UUID.randomUUID();
+    private final UUID optionB = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        String port = System.getenv().getOrDefault("REDIS_TEST_PORT", "6379");
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(System.getenv("REDIS_TEST_HOST"), Integer.parseInt(port)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        template = new StringRedisTemplate(connectionFactory);
+        template.afterPropertiesSet();
+        repository = new VoteParticipationRedisRepository(template);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteParticipants(voteA);
+        repository.deleteParticipants(voteB);
+        template.unlink(List.of("user:votes:" + userA, "user:votes:" + userB));
+        template.opsForHash().delete("user:ordinal", userA.toString(), userB.toString());
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("적재 전 비트맵은 참여자 수를 알 수 없고, 빈 투표로 초기화하면 0명")
+    void countUnknownUntilLoaded() {
+        assertThat(repository.countParticipants(voteA)).isEmpty();
+
+        repository.initialize(voteA);
+
+        assertThat(repository.countParticipants(voteA)).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("여러 사용자의 응답을 한 번에 기록하면 투표별 참여자 수와 선택 옵션이 반영됨")
+    void recordAllUpdatesBitmapsAndSelections() {
+        // Given
+        repository.initialize(voteA);
+        repository.initialize(voteB);
+        repository.loadSelections(userA, Map.of());
+
+        // When
+        repository.recordAll(Map.of(
+                userA, Map.of(voteA, optionA, voteB, optionB),
+                userB, Map.of(voteA, optionB)));
+
+        // Then
+        assertThat(repository.countParticipants(voteA)).hasValue(2);
+        assertThat(repository.countParticipants(voteB)).hasValue(1);
+        assertThat(repository.findSelections(userA, List.of(voteA, voteB)))
+                .hasValue(Map.of(voteA, optionA, voteB, optionB));
+    }
+
+    @Test
+    @DisplayName("되돌리기는 기록한 응답만 비트맵과 사용자 해시에서 제거함")
+    void undoAllRemovesRecordedResponses() {
+        // Given
+        repository.initialize(voteA);
+        repository.loadSelections(userA, Map.of());
+        repository.recordAll(Map.of(userA, Map.of(voteA, optionA), userB, Map.of(voteA, optionB)));
+
+        // When
+        repository.undoAll(Map.of(userA, List.of(voteA)));
+
+        // Then
+        assertThat(repository.countParticipants(voteA)).hasValue(1);
+        assertThat(repository.findSelections(userA, List.of(voteA))).hasValue(Map.of());
+    }
+
+    @Test
+    @DisplayName("적재 중에 기록된 응답은 적재 후에도 남음")
+    void loadMergesWithResponsesRecordedMeanwhile() {
+        // Given: DB 조회 이후 적재 전에 userB의 응답이 기록됨
+        repository.recordAll(Map.of(userB, Map.of(voteA, optionB)));
+
+        // When: DB에서 읽은 참여자(userA)만으로 적재
+        repository.loadParticipants(voteA, List.of(userA));
+        repository.loadSelections(userB, Map.of(voteB, optionA));
+
+        // Then
+        assertThat(repository.countParticipants(voteA)).hasValue(2);
+        assertThat(repository.findSelections(userB, List.of(voteA, voteB)))
+                .hasValue(Map.of(voteA, optionB, voteB, optionA));
+    }
+
+    @Test
+    @DisplayName("이미 적재된 비트맵과 사용자 이력은 다시 적재해도 바뀌지 않음")
+    void loadIsIgnoredOnceLoaded() {
+        // Given
+        repository.loadParticipants(voteA, List.of(userA));
+        repository.loadSelections(userA, Map.of(voteA, optionA));
+
+        // When
+        repository.loadParticipants(voteA, List.of(userA, userB));
+        repository.loadSelections(userA, Map.of(voteA, optionB, voteB, optionB));
+
+        // Then
+        assertThat(repository.countParticipants(voteA)).hasValue(1);
+        assertThat(repository.findSelections(userA, List.of(voteA, voteB))).hasValue(Map.of(voteA, optionA));
+    }
+
+    @Test
+    @DisplayName("사용자 이력이 적재되지 않았으면 선택 조회는 비어 있음")
+    void selectionsUnknownUntilLoaded() {
+        repository.recordAll(Map.of(userA, Map.of(voteA, optionA)));
+
+        assertThat(repository.findSelections(userA, List.of(voteA))).isEmpty();
+    }
+}
@@ -0,0 +1,127 @@
+package pluto.upik.domain.voteResponse.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import pluto.upik.domain.vote.data.model.Vote;
+import pluto.upik.domain.vote.event.VoteThresholdReachedEvent;
+import pluto.upik.domain.voteResponse.event.VoteResponsesCreatedEvent;
+import pluto.upik.domain.voteResponse.repository.VoteCounterRedisRepository;
+import pluto.upik.domain.voteResponse.repository.VoteOptionTallyRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * VoteCounterService 참여자 수 기준 도달 테스트
+ * Redis 카운터와 메타데이터 캐시는 mock으로 대체합니다.
+ */
+@DisplayName("응답 카운터 참여자 수 기준 테스트")
+class VoteCounterServiceTest {
+
+    private VoteCounterRedisRepository voteCounterRedisRepository;
+    private VoteMetadataCache voteMetadataCache;
+    private ApplicationEventPublisher eventPublisher;
+    private VoteCounterService service;
+    private final UUID voteA = UUID.randomUUID();
+    private final UUID voteB = UUID.randomUUID();
+    private final UUID option = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        voteCounterRedisRepository = mock(VoteCounterRedisRepository.class);
+        voteMetadataCache = mock(VoteMetadataCache.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        service = new VoteCounterService(voteCounterRedisRepository, mock(VoteOptionTallyRepository.class),
+                voteMetadataCache, eventPublisher);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("증가된 총 응답 수가 기준에 도달한 투표만 기준 도달 이벤트를 발행함")
+    void publishesOnlyForVotesReachingThreshold() {
+        // Given
+        when(voteMetadataCache.get(voteA)).thenReturn(Optional.of(metadata(voteA, 2)));
+        when(voteMetadataCache.get(voteB)).thenReturn(Optional.of(metadata(voteB, 10)));
+        when(voteCounterRedisRepository.incrementAll(anyMap(), eq(1))).thenReturn(Map.of(voteA, 2L, voteB, 3L));
+
+        // When
+        service.onVoteResponsesCreated(event(voteA, voteB));
+
+        // Then
+        ArgumentCaptor<Object> published = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, times(1)).publishEvent(published.capture());
+        VoteThresholdReachedEvent reached = (VoteThresholdReachedEvent) published.getValue();
+        assertThat(reached.getVoteId()).isEqualTo(voteA);
+        assertThat(reached.getParticipantCount()).isEqualTo(2L);
+        assertThat(reached.getParticipantThreshold()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("참여자 수 기준이 없는 투표는 이벤트를 발행하지 않음")
+    void ignoresVotesWithoutThreshold() {
+        // Given
+        when(voteMetadataCache.get(voteA)).thenReturn(Optional.of(metadata(voteA, null)));
+        when(voteCounterRedisRepository.incrementAll(anyMap(), eq(1))).thenReturn(Map.of(voteA, 100L));
+
+        // When
+        service.onVoteResponsesCreated(event(voteA));
+
+        // Then
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 롤백되면 같은 증가량을 되돌림")
+    void undoesIncrementOnRollback() {
+        // Given
+        when(voteMetadataCache.get(voteA)).thenReturn(Optional.empty());
+        when(voteCounterRedisRepository.incrementAll(anyMap(), eq(1))).thenReturn(Map.of(voteA, 1L));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        service.onVoteResponsesCreated(event(voteA));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Then
+        verify(voteCounterRedisRepository).incrementAll(Map.of(voteA, Map.of(option, 1L)), -1);
+    }
+
+    private VoteResponsesCreatedEvent event(UUID... voteIds) {
+        return new VoteResponsesCreatedEvent(List.of(voteIds).stream()
+                .map(voteId -> new VoteResponsesCreatedEvent.CreatedResponse(
+                        UUID.randomUUID(), UUID.randomUUID(), voteId, option))
+                .toList());
+    }
+
+    private VoteMetadataCache.VoteMetadata metadata(UUID voteId, Integer threshold) {
+        return new VoteMetadataCache.VoteMetadata(voteId, "질문", Vote.Status.OPEN, LocalDate.now().plusDays(1),
+                LocalDateTime.now().plusDays(1), threshold, Map.of(option, "옵션"), System.currentTimeMillis());
+    }
+}
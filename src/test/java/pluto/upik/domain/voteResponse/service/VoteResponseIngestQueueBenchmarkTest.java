@@ -0,0 +1,195 @@
+package pluto.upik.domain.voteResponse.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pluto.upik.domain.voteResponse.data.DTO.PendingVoteResponse;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * VoteResponseIngestQueue 배치 저장/역압/보관 테스트
+ * 저장 대상은 배치당 고정 지연을 갖는 메모리 Sink로 대체합니다.
+ * 처리량 측정은 RUN_BENCHMARKS=true 환경 변수가 설정된 경우에만 실행됩니다.
+ */
+@DisplayName("투표 응답 수집 큐 테스트")
+class VoteResponseIngestQueueBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(VoteResponseIngestQueueBenchmarkTest.class);
+
+    private static final int PRODUCERS = 8;
+    private static final int RESPONSES_PER_PRODUCER = 25_000;
+    private static final int BATCH_SIZE = 500;
+
+    @Test
+    @DisplayName("다수 생산자가 적재한 응답을 배치 크기 이내로 중복 없이 모두 저장한다")
+    void flushesEveryResponseExactlyOnce() throws Exception {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Set<UUID> written = ConcurrentHashMap.newKeySet();
+        AtomicLong writes = new AtomicLong();
+        AtomicInteger maxBatch = new AtomicInteger();
+        VoteResponseIngestQueue queue = new VoteResponseIngestQueue(10_000, BATCH_SIZE, Duration.ofMillis(20), 2,
+                batch -> {
+                    sleep(2); // JDBC 배치 1회 왕복 비용
+                    maxBatch.accumulateAndGet(batch.size(), Math::max);
+                    writes.addAndGet(batch.size());
+                    batch.forEach(response -> written.add(response.getId()));
+                }, batch -> {
+                    throw new IllegalStateException("보관 대상이 호출되면 안 됩니다.");
+                }, registry);
+        queue.start();
+
+        // When
+        long total = produce(queue);
+        queue.stop();
+
+        // Then
+        assertThat(writes.get()).isEqualTo(total);
+        assertThat(written).hasSize((int) total);
+        assertThat(maxBatch.get()).isLessThanOrEqualTo(BATCH_SIZE);
+        assertThat(registry.counter("vote.response.ingest.accepted").count()).isEqualTo(total);
+        assertThat(registry.counter("vote.response.ingest.flushed").count()).isEqualTo(total);
+    }
+
+    @Test
+    @DisplayName("저장이 적재 속도를 따라가지 못하면 큐가 가득 차 적재를 거절한다")
+    void rejectsWhenQueueIsFull() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        List<Integer> batchSizes = new ArrayList<>();
+        VoteResponseIngestQueue queue = new VoteResponseIngestQueue(10, 5, Duration.ofMillis(10), 1,
+                batch -> {
+                    sleep(200);
+                    synchronized (batchSizes) {
+                        batchSizes.add(batch.size());
+                    }
+                }, batch -> {
+                }, registry);
+        queue.start();
+
+        // When
+        int rejected = 0;
+        for (int i = 0; i < 100; i++) {
+            if (!queue.offer(newResponse(UUID.randomUUID(), UUID.randomUUID()), Duration.ZERO)) {
+                rejected++;
+            }
+        }
+        queue.stop();
+
+        // Then
+        assertThat(rejected).isPositive();
+        assertThat(registry.counter("vote.response.ingest.rejected").count()).isEqualTo(rejected);
+        assertThat(batchSizes).allMatch(size -> size <= 5);
+        assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(100 - rejected);
+    }
+
+    @Test
+    @DisplayName("저장이 계속 실패하면 배치를 버리지 않고 보관 대상에 넘긴다")
+    void handsFailedBatchesToFallback() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Set<UUID> deadLettered = ConcurrentHashMap.newKeySet();
+        AtomicInteger fallbackCalls = new AtomicInteger();
+        VoteResponseIngestQueue queue = new VoteResponseIngestQueue(100, 10, Duration.ofMillis(10), 1,
+                batch -> {
+                    throw new IllegalStateException("DB 연결 실패");
+                }, batch -> {
+                    if (fallbackCalls.incrementAndGet() == 1) {
+                        throw new IllegalStateException("보관소 연결 실패"); // 첫 보관 실패 후 재시도
+                    }
+                    batch.forEach(response -> deadLettered.add(response.getId()));
+                }, registry);
+        queue.start();
+
+        // When
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            PendingVoteResponse response = newResponse(UUID.randomUUID(), UUID.randomUUID());
+            assertThat(queue.offer(response, Duration.ofSeconds(1))).isTrue();
+            ids.add(response.getId());
+        }
+        queue.stop();
+
+        // Then
+        assertThat(deadLettered).containsExactlyInAnyOrderElementsOf(ids);
+        assertThat(registry.counter("vote.response.ingest.flushed").count()).isZero();
+        assertThat(registry.counter("vote.response.ingest.dead-lettered").count()).isEqualTo(30);
+    }
+
+    @Test
+    @Tag("benchmark")
+    @EnabledIfEnvironmentVariable(named = "RUN_BENCHMARKS", matches = "true")
+    @DisplayName("초당 저장 수 측정")
+    void sustainedInsertsPerSecond() throws Exception {
+        VoteResponseIngestQueue queue = new VoteResponseIngestQueue(10_000, BATCH_SIZE, Duration.ofMillis(20), 2,
+                batch -> sleep(2), batch -> {
+                }, new SimpleMeterRegistry());
+        queue.start();
+
+        long startedAt = System.nanoTime();
+        long total = produce(queue);
+        queue.stop();
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        log.info("ingested {} responses in {} ms ({} inserts/s)", total, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                Math.round(total / (elapsedNanos / 1_000_000_000.0)));
+    }
+
+    /**
+     * 생산자 스레드들이 역압을 받으면 재시도하며 모든 응답을 적재합니다.
+     *
+     * @return 적재한 응답 수
+     */
+    private long produce(VoteResponseIngestQueue queue) throws InterruptedException {
+        ExecutorService producers = Executors.newFixedThreadPool(PRODUCERS);
+        CountDownLatch done = new CountDownLatch(PRODUCERS);
+        for (int p = 0; p < PRODUCERS; p++) {
+            producers.submit(() -> {
+                UUID voteId = UUID.randomUUID();
+                UUID optionId = UUID.randomUUID();
+                for (int i = 0; i < RESPONSES_PER_PRODUCER; i++) {
+                    PendingVoteResponse response = newResponse(voteId, optionId);
+                    while (!queue.offer(response, Duration.ofMillis(100))) {
+                        // 역압: 큐가 비워질 때까지 재시도
+                    }
+                }
+                done.countDown();
+            });
+        }
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        producers.shutdown();
+        return (long) PRODUCERS * RESPONSES_PER_PRODUCER;
+    }
+
+    private static PendingVoteResponse newResponse(UUID voteId, UUID optionId) {
+        return new PendingVoteResponse(UUID.randomUUID(), UUID.randomUUID(), voteId, optionId, LocalDate.now(), LocalDateTime.now());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
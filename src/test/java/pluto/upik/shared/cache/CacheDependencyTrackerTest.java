@@ -0,0 +1,112 @@
+package pluto.upik.shared.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CacheDependencyTracker 통합 테스트
+ * 의존성 집합은 Redis에, 캐시 항목은 메모리 캐시에 저장합니다.
+ * 로컬 Redis가 필요하며, REDIS_TEST_HOST 환경 변수가 설정된 경우에만 실행됩니다.
+ * 예: REDIS_TEST_HOST=localhost ./gradlew test
+ */
+@DisplayName("캐시 태그 무효화 테스트")
+@EnabledIfEnvironmentVariable(named = "REDIS_TEST_HOST", matches = ".+")
+class CacheDependencyTrackerTest {
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate template;
+    private CacheDependencyTracker tracker;
+    private Cache cache;
+    private final String tagA = "test:" + UUID.randomUUID();
+    private final String tagB = "test:" + UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        String port = System.getenv().getOrDefault("REDIS_TEST_PORT", "6379");
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(System.getenv("REDIS_TEST_HOST"), Integer.parseInt(port)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        template = new StringRedisTemplate(connectionFactory);
+        template.afterPropertiesSet();
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager("votes");
+        cache = cacheManager.getCache("votes");
+        tracker = new CacheDependencyTracker(template, cacheManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        template.unlink(List.of("cache:deps:" + tagA, "cache:deps:" + tagB));
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("태그를 무효화하면 그 태그에 의존하는 캐시 항목만 삭제됨")
+    void invalidateEvictsOnlyDependentEntries() {
+        // Given
+        cache.put("first", "1");
+        cache.put("second", "2");
+        tracker.track("votes", "first", List.of(tagA));
+        tracker.track("votes", "second", List.of(tagB));
+
+        // When
+        tracker.invalidate(tagA);
+
+        // Then
+        assertThat(cache.get("first")).isNull();
+        assertThat(cache.get("second")).isNotNull();
+        assertThat(template.hasKey("cache:deps:" + tagA)).isFalse();
+        assertThat(template.opsForSet().members("cache:deps:" + tagB)).containsExactly("votes::second");
+    }
+
+    @Test
+    @DisplayName("여러 태그에 의존하는 항목은 어느 태그로든 무효화됨")
+    void entryWithManyTagsIsEvictedByAny() {
+        // Given
+        cache.put("shared", "1");
+        tracker.track("votes", "shared", List.of(tagA, tagB));
+
+        // When
+        tracker.invalidate(tagB);
+
+        // Then
+        assertThat(cache.get("shared")).isNull();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 요청한 무효화는 커밋 이후에 수행됨")
+    void invalidationInTransactionWaitsForCommit() {
+        // Given
+        cache.put("first", "1");
+        tracker.track("votes", "first", List.of(tagA));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        tracker.invalidate(tagA);
+
+        // Then
+        assertThat(cache.get("first")).isNotNull();
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        assertThat(cache.get("first")).isNull();
+    }
+}